@@ -0,0 +1,76 @@
+package com.matheusmaciel.comissio.benchmark;
+
+import com.matheusmaciel.comissio.core.model.register.EmployeeComission;
+import com.matheusmaciel.comissio.core.repository.ComissionConfigRepository;
+import com.matheusmaciel.comissio.core.repository.EmployeeComissionRepository;
+import com.matheusmaciel.comissio.core.service.CommissionRuleCache;
+import com.matheusmaciel.comissio.core.service.PerformedServiceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The commission math run for every registered or repriced service: the percentage lookup
+ * through the rule cache (always a hit here) followed by the amount calculation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommissionCalculationBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private final BigDecimal[] prices = new BigDecimal[KEYS];
+    private final BigDecimal[] percentages = new BigDecimal[KEYS];
+    private final UUID[] employeeIds = new UUID[KEYS];
+    private final UUID[] serviceTypeIds = new UUID[KEYS];
+
+    private CommissionRuleCache commissionRuleCache;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        EmployeeComissionRepository employeeComissionRepository = mock(EmployeeComissionRepository.class);
+        when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(any(), any()))
+                .thenReturn(Optional.of(EmployeeComission.builder().customPercentage(new BigDecimal("12.50")).build()));
+        commissionRuleCache = new CommissionRuleCache(employeeComissionRepository, mock(ComissionConfigRepository.class),
+                new SimpleMeterRegistry(), KEYS, Duration.ofHours(1));
+
+        for (int i = 0; i < KEYS; i++) {
+            prices[i] = BigDecimal.valueOf(1000 + i * 37L, 2);
+            percentages[i] = BigDecimal.valueOf(500 + i % 2000, 2);
+            employeeIds[i] = UUID.randomUUID();
+            serviceTypeIds[i] = UUID.randomUUID();
+            commissionRuleCache.findPercentage(employeeIds[i], serviceTypeIds[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateComissionAmount() {
+        int i = nextIndex();
+        return PerformedServiceService.calculateComissionAmount(prices[i], percentages[i]);
+    }
+
+    @Benchmark
+    public BigDecimal cachedRuleAndAmount() {
+        int i = nextIndex();
+        BigDecimal percentage = commissionRuleCache.findPercentage(employeeIds[i], serviceTypeIds[i]).orElseThrow();
+        return PerformedServiceService.calculateComissionAmount(prices[i], percentage);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (KEYS - 1);
+        return next;
+    }
+}
@@ -0,0 +1,52 @@
+package com.matheusmaciel.comissio.benchmark;
+
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.model.register.ServiceType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping used by every endpoint that still returns a loaded entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerformedServiceMappingBenchmark {
+
+    private PerformedService performedService;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(UUID.randomUUID()).name("Ana Souza").build();
+        Employee employee = Employee.builder().id(UUID.randomUUID()).user(user).build();
+        ServiceType serviceType = ServiceType.builder().id(UUID.randomUUID()).name("Corte").build();
+        performedService = PerformedService.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .serviceTypeId(serviceType)
+                .price(new BigDecimal("50.00"))
+                .comissionAmount(new BigDecimal("5.00"))
+                .serviceDate(LocalDate.of(2025, 3, 10))
+                .status(ServiceStatus.COMMISSION_PENDING)
+                .createdAt(LocalDateTime.of(2025, 3, 10, 9, 30))
+                .updatedAt(LocalDateTime.of(2025, 3, 10, 9, 30))
+                .build();
+    }
+
+    @Benchmark
+    public PerformedServiceResponseDTO fromEntity() {
+        return PerformedServiceResponseDTO.fromEntity(performedService);
+    }
+}
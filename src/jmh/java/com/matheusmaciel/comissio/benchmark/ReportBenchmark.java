@@ -0,0 +1,98 @@
+package com.matheusmaciel.comissio.benchmark;
+
+import com.matheusmaciel.comissio.core.dto.report.ReportRow;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.ReportService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Renders an individual commission report from generated rows, so the score is the cost of
+ * the PDF or Excel writer alone. The rows are produced lazily, like the database stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReportBenchmark {
+
+    private static final String[] SERVICE_NAMES = {"Corte", "Barba", "Corte e barba", "Hidratação", "Sobrancelha"};
+
+    @Param({"100", "10000", "100000"})
+    private int rows;
+
+    @Param({"PDF", "EXCEL"})
+    private ReportFormat format;
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 12, 31);
+
+    private ReportService reportService;
+
+    @Setup
+    public void setUp() {
+        PerformedServiceRepository performedServiceRepository = mock(PerformedServiceRepository.class);
+        when(performedServiceRepository.streamReportRows(any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> IntStream.range(0, rows).mapToObj(ReportBenchmark::row));
+
+        CommissionAnalyticsRepository.TotalsView totals = mock(CommissionAnalyticsRepository.TotalsView.class);
+        when(totals.getServiceCount()).thenReturn((long) rows);
+        when(totals.getTotalPrice()).thenReturn(new BigDecimal("50.00").multiply(BigDecimal.valueOf(rows)));
+        when(totals.getTotalCommission()).thenReturn(new BigDecimal("5.00").multiply(BigDecimal.valueOf(rows)));
+        CommissionAnalyticsRepository commissionAnalyticsRepository = mock(CommissionAnalyticsRepository.class);
+        when(commissionAnalyticsRepository.findTotals(any(), any(), any(), any())).thenReturn(totals);
+
+        reportService = new ReportService(performedServiceRepository, commissionAnalyticsRepository,
+                mock(PlatformTransactionManager.class), 500, DataSize.ofMegabytes(16), "");
+    }
+
+    @Benchmark
+    public void individualCommissionReport(Blackhole blackhole) throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        reportService.streamIndividualCommissionReport(format, employeeId, "Ana Souza", startDate, endDate)
+                .writer()
+                .writeTo(outputStream);
+        blackhole.consume(outputStream.bytes);
+    }
+
+    private static ReportRow row(int i) {
+        return new ReportRow(LocalDate.of(2025, 1, 1).plusDays(i % 365), SERVICE_NAMES[i % SERVICE_NAMES.length],
+                new BigDecimal("50.00"), new BigDecimal("5.00"),
+                i % 2 == 0 ? ServiceStatus.COMMISSION_PAID : ServiceStatus.COMMISSION_PENDING);
+    }
+
+    // Discards the report but keeps its size, so the writer cannot be optimised away.
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
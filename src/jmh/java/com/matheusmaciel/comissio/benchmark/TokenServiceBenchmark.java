@@ -0,0 +1,108 @@
+package com.matheusmaciel.comissio.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.RevokedToken;
+import com.matheusmaciel.comissio.core.model.access.UserRole;
+import com.matheusmaciel.comissio.core.repository.RevokedTokenRepository;
+import com.matheusmaciel.comissio.core.service.TokenRevocationService;
+import com.matheusmaciel.comissio.infra.config.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * JWT signing at login and the authentication work done on every request. The
+ * {@code perRequest*} benchmarks compare what the security filter pays per request: a verifier
+ * built on each call (the previous TokenService), a reused verifier, and the verified-token
+ * cache hit a client repeating its token gets. {@code revocationCheck} is the deny-list lookup
+ * the filter adds on top, against 10,000 revoked tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final String ISSUER = "com.matheusmaciel.comissio";
+
+    private TokenService tokenService;
+    private JWTVerifier reusedVerifier;
+    private User user;
+    private String token;
+    private TokenRevocationService tokenRevocationService;
+    private DecodedJWT decodedToken;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, new SimpleMeterRegistry(), 10_000);
+        reusedVerifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Ana Souza")
+                .username("ana.souza")
+                .role(UserRole.ADMIN)
+                .build();
+        token = tokenService.generateToken(user);
+        decodedToken = tokenService.verifyToken(token).orElseThrow();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revoked = Stream.generate(() -> RevokedToken.builder()
+                        .tokenId(UUID.randomUUID())
+                        .userId(UUID.randomUUID())
+                        .revokedAt(now)
+                        .expiresAt(now.plusHours(2))
+                        .build())
+                .limit(10_000)
+                .toList();
+        RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(revoked);
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, new SimpleMeterRegistry(),
+                Duration.ofHours(24), Duration.ofMinutes(1), 10_000);
+        tokenRevocationService.reload();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<AuthenticatedUser> perRequestNewVerifier() {
+        DecodedJWT jwt = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build().verify(token);
+        return tokenService.readPrincipal(jwt);
+    }
+
+    @Benchmark
+    public Optional<AuthenticatedUser> perRequestReusedVerifier() {
+        return tokenService.readPrincipal(reusedVerifier.verify(token));
+    }
+
+    @Benchmark
+    public Optional<AuthenticatedUser> perRequestCachedVerification() {
+        return tokenService.verifyToken(token).flatMap(tokenService::readPrincipal);
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return tokenRevocationService.isRevoked(tokenService.readTokenId(decodedToken), user.getId(),
+                decodedToken.getIssuedAtAsInstant());
+    }
+}
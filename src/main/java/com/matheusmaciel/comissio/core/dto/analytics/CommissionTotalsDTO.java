@@ -0,0 +1,15 @@
+package com.matheusmaciel.comissio.core.dto.analytics;
+
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+
+import java.math.BigDecimal;
+
+public record CommissionTotalsDTO(
+        long serviceCount,
+        BigDecimal totalPrice,
+        BigDecimal totalCommission
+) {
+    public static CommissionTotalsDTO fromView(CommissionAnalyticsRepository.TotalsView view) {
+        return new CommissionTotalsDTO(view.getServiceCount(), view.getTotalPrice(), view.getTotalCommission());
+    }
+}
@@ -0,0 +1,19 @@
+package com.matheusmaciel.comissio.core.dto.analytics;
+
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record EmployeeCommissionTotalsDTO(
+        UUID employeeId,
+        String employeeName,
+        long serviceCount,
+        BigDecimal totalPrice,
+        BigDecimal totalCommission
+) {
+    public static EmployeeCommissionTotalsDTO fromView(CommissionAnalyticsRepository.EmployeeTotalsView view) {
+        return new EmployeeCommissionTotalsDTO(view.getEmployeeId(), view.getEmployeeName(), view.getServiceCount(),
+                view.getTotalPrice(), view.getTotalCommission());
+    }
+}
@@ -0,0 +1,18 @@
+package com.matheusmaciel.comissio.core.dto.analytics;
+
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PeriodCommissionTotalsDTO(
+        LocalDate periodStart,
+        long serviceCount,
+        BigDecimal totalPrice,
+        BigDecimal totalCommission
+) {
+    public static PeriodCommissionTotalsDTO fromView(CommissionAnalyticsRepository.PeriodTotalsView view) {
+        return new PeriodCommissionTotalsDTO(view.getPeriodStart(), view.getServiceCount(), view.getTotalPrice(),
+                view.getTotalCommission());
+    }
+}
@@ -0,0 +1,19 @@
+package com.matheusmaciel.comissio.core.dto.analytics;
+
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ServiceTypeCommissionTotalsDTO(
+        UUID serviceTypeId,
+        String serviceTypeName,
+        long serviceCount,
+        BigDecimal totalPrice,
+        BigDecimal totalCommission
+) {
+    public static ServiceTypeCommissionTotalsDTO fromView(CommissionAnalyticsRepository.ServiceTypeTotalsView view) {
+        return new ServiceTypeCommissionTotalsDTO(view.getServiceTypeId(), view.getServiceTypeName(), view.getServiceCount(),
+                view.getTotalPrice(), view.getTotalCommission());
+    }
+}
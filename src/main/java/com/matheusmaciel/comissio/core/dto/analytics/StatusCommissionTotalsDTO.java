@@ -0,0 +1,18 @@
+package com.matheusmaciel.comissio.core.dto.analytics;
+
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+
+import java.math.BigDecimal;
+
+public record StatusCommissionTotalsDTO(
+        ServiceStatus status,
+        long serviceCount,
+        BigDecimal totalPrice,
+        BigDecimal totalCommission
+) {
+    public static StatusCommissionTotalsDTO fromView(CommissionAnalyticsRepository.StatusTotalsView view) {
+        return new StatusCommissionTotalsDTO(ServiceStatus.valueOf(view.getStatus()), view.getServiceCount(),
+                view.getTotalPrice(), view.getTotalCommission());
+    }
+}
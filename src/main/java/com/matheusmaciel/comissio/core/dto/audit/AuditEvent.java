@@ -0,0 +1,23 @@
+package com.matheusmaciel.comissio.core.dto.audit;
+
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A mutation captured for the audit trail, waiting to be written to audit_logs.
+ *
+ * @param userId null for changes made by scheduled jobs and other unauthenticated work
+ */
+public record AuditEvent(
+        UUID id,
+        UUID userId,
+        AuditEventType eventType,
+        AuditAction action,
+        UUID entityId,
+        String details,
+        LocalDateTime timestamp
+) {
+}
@@ -0,0 +1,50 @@
+package com.matheusmaciel.comissio.core.dto.comissionPayment;
+
+import com.matheusmaciel.comissio.core.model.register.PayrollJob;
+import com.matheusmaciel.comissio.core.model.register.PayrollJobStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record PayrollJobResponseDTO(
+        UUID id,
+        PayrollJobStatus status,
+        LocalDate upToServiceDate,
+        int employeesTotal,
+        int employeesProcessed,
+        int employeesPaid,
+        int employeesWithNothingToPay,
+        int employeesFailed,
+        int commissionsPaidCount,
+        BigDecimal totalPaid,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<PayrollRunEmployeeResultDTO> failures
+) {
+    public static PayrollJobResponseDTO fromEntity(PayrollJob entity, List<PayrollRunEmployeeResultDTO> failures) {
+        return new PayrollJobResponseDTO(
+                entity.getId(),
+                entity.getStatus(),
+                entity.getUpToServiceDate(),
+                entity.getEmployeesTotal(),
+                entity.getEmployeesProcessed(),
+                entity.getEmployeesPaid(),
+                entity.getEmployeesWithNothingToPay(),
+                entity.getEmployeesFailed(),
+                entity.getCommissionsPaidCount(),
+                entity.getTotalPaid(),
+                entity.getErrorMessage(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getStartedAt(),
+                entity.getFinishedAt(),
+                failures
+        );
+    }
+}
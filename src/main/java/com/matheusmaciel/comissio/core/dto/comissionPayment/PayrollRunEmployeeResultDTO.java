@@ -0,0 +1,28 @@
+package com.matheusmaciel.comissio.core.dto.comissionPayment;
+
+import com.matheusmaciel.comissio.core.model.register.PayrollEmployeeStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record PayrollRunEmployeeResultDTO(
+        UUID employeeId,
+        String employeeName,
+        PayrollEmployeeStatus status,
+        int commissionsPaidCount,
+        BigDecimal totalPaid,
+        String error
+) {
+    public static PayrollRunEmployeeResultDTO paid(BatchPaymentResponseDTO payment) {
+        return new PayrollRunEmployeeResultDTO(payment.employeeId(), payment.employeeName(), PayrollEmployeeStatus.PAID,
+                payment.commissionsPaidCount(), payment.totalPaid(), null);
+    }
+
+    public static PayrollRunEmployeeResultDTO nothingToPay(UUID employeeId) {
+        return new PayrollRunEmployeeResultDTO(employeeId, null, PayrollEmployeeStatus.NOTHING_TO_PAY, 0, BigDecimal.ZERO, null);
+    }
+
+    public static PayrollRunEmployeeResultDTO failed(UUID employeeId, String error) {
+        return new PayrollRunEmployeeResultDTO(employeeId, null, PayrollEmployeeStatus.FAILED, 0, BigDecimal.ZERO, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.matheusmaciel.comissio.core.dto.comissionPayment;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record PayrollRunRequestDTO(
+        @NotNull(message = "Cutoff service date cannot be null")
+        LocalDate upToServiceDate,
+
+        List<UUID> employeeIds
+) {
+}
@@ -0,0 +1,20 @@
+package com.matheusmaciel.comissio.core.dto.comissionPayment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PayrollRunResponseDTO(
+        LocalDate upToServiceDate,
+        int employeesProcessed,
+        int employeesPaid,
+        int employeesWithNothingToPay,
+        int employeesFailed,
+        int commissionsPaidCount,
+        BigDecimal totalPaid,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<PayrollRunEmployeeResultDTO> results
+) {
+}
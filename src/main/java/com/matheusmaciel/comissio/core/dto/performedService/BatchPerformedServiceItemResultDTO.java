@@ -0,0 +1,16 @@
+package com.matheusmaciel.comissio.core.dto.performedService;
+
+public record BatchPerformedServiceItemResultDTO(
+        int index,
+        boolean success,
+        PerformedServiceResponseDTO performedService,
+        String error
+) {
+    public static BatchPerformedServiceItemResultDTO created(int index, PerformedServiceResponseDTO performedService) {
+        return new BatchPerformedServiceItemResultDTO(index, true, performedService, null);
+    }
+
+    public static BatchPerformedServiceItemResultDTO failed(int index, String error) {
+        return new BatchPerformedServiceItemResultDTO(index, false, null, error);
+    }
+}
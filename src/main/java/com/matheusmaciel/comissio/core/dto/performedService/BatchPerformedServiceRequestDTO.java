@@ -0,0 +1,13 @@
+package com.matheusmaciel.comissio.core.dto.performedService;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchPerformedServiceRequestDTO(
+        @NotEmpty(message = "Services list cannot be empty")
+        @Size(max = 1000, message = "A batch cannot contain more than 1000 services")
+        List<PerformedServiceRequestDTO> services
+) {
+}
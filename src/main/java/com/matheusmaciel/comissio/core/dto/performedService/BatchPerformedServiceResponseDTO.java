@@ -0,0 +1,11 @@
+package com.matheusmaciel.comissio.core.dto.performedService;
+
+import java.util.List;
+
+public record BatchPerformedServiceResponseDTO(
+        int totalReceived,
+        int createdCount,
+        int failedCount,
+        List<BatchPerformedServiceItemResultDTO> results
+) {
+}
@@ -0,0 +1,11 @@
+package com.matheusmaciel.comissio.core.dto.performedService;
+
+import java.time.LocalDate;
+
+public record DailyCommissionSummaryRebuildResponseDTO(
+        LocalDate startDate,
+        LocalDate endDate,
+        int rowsDeleted,
+        int rowsWritten
+) {
+}
@@ -0,0 +1,11 @@
+package com.matheusmaciel.comissio.core.dto.performedService;
+
+import java.util.List;
+
+public record PerformedServiceCursorPageDTO(
+        List<PerformedServiceResponseDTO> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
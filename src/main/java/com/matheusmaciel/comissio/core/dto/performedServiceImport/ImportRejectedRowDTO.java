@@ -0,0 +1,11 @@
+package com.matheusmaciel.comissio.core.dto.performedServiceImport;
+
+public record ImportRejectedRowDTO(
+        long lineNumber,
+        String employeeId,
+        String serviceTypeId,
+        String price,
+        String serviceDate,
+        String rejectionReason
+) {
+}
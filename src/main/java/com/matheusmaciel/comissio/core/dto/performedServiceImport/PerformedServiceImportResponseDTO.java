@@ -0,0 +1,35 @@
+package com.matheusmaciel.comissio.core.dto.performedServiceImport;
+
+import com.matheusmaciel.comissio.core.model.register.ImportStatus;
+import com.matheusmaciel.comissio.core.model.register.PerformedServiceImport;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PerformedServiceImportResponseDTO(
+        UUID id,
+        String filename,
+        ImportStatus status,
+        long loadedRows,
+        long promotedRows,
+        long rejectedRows,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {
+    public static PerformedServiceImportResponseDTO fromEntity(PerformedServiceImport entity) {
+        return new PerformedServiceImportResponseDTO(
+                entity.getId(),
+                entity.getFilename(),
+                entity.getStatus(),
+                entity.getLoadedRows(),
+                entity.getPromotedRows(),
+                entity.getRejectedRows(),
+                entity.getErrorMessage(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getFinishedAt()
+        );
+    }
+}
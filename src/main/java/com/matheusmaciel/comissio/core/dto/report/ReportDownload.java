@@ -0,0 +1,10 @@
+package com.matheusmaciel.comissio.core.dto.report;
+
+import org.springframework.core.io.Resource;
+
+public record ReportDownload(
+        Resource resource,
+        String filename,
+        String contentType
+) {
+}
@@ -0,0 +1,41 @@
+package com.matheusmaciel.comissio.core.dto.report;
+
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ReportJob;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReportJobResponseDTO(
+        UUID id,
+        ReportJobStatus status,
+        UUID employeeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        ReportFormat format,
+        String filename,
+        Long sizeBytes,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public static ReportJobResponseDTO fromEntity(ReportJob entity) {
+        return new ReportJobResponseDTO(
+                entity.getId(),
+                entity.getStatus(),
+                entity.getEmployeeId(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getFormat(),
+                entity.getFilename(),
+                entity.getSizeBytes(),
+                entity.getErrorMessage(),
+                entity.getCreatedAt(),
+                entity.getStartedAt(),
+                entity.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.matheusmaciel.comissio.core.dto.report;
+
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One line of an individual commission report: only the columns the report prints.
+ */
+public record ReportRow(
+        LocalDate serviceDate,
+        String serviceTypeName,
+        BigDecimal price,
+        BigDecimal comissionAmount,
+        ServiceStatus status
+) {
+}
@@ -0,0 +1,52 @@
+package com.matheusmaciel.comissio.core.dto.report;
+
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import com.matheusmaciel.comissio.core.model.register.StatementDeliveryStatus;
+import com.matheusmaciel.comissio.core.model.register.StatementEmailBatch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record StatementEmailBatchResponseDTO(
+        UUID id,
+        ReportJobStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        ReportFormat format,
+        int recipientCount,
+        Map<StatementDeliveryStatus, Long> deliveryCounts,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<StatementEmailRecipientStatusDTO> recipients
+) {
+    public static StatementEmailBatchResponseDTO fromEntity(StatementEmailBatch entity,
+                                                            List<StatementEmailRecipientStatusDTO> recipients) {
+        Map<StatementDeliveryStatus, Long> deliveryCounts = new EnumMap<>(StatementDeliveryStatus.class);
+        for (StatementDeliveryStatus status : StatementDeliveryStatus.values()) {
+            deliveryCounts.put(status, 0L);
+        }
+        recipients.forEach(recipient -> deliveryCounts.merge(recipient.status(), 1L, Long::sum));
+
+        return new StatementEmailBatchResponseDTO(
+                entity.getId(),
+                entity.getStatus(),
+                entity.getStartDate(),
+                entity.getEndDate(),
+                entity.getFormat(),
+                entity.getRecipientCount(),
+                deliveryCounts,
+                entity.getErrorMessage(),
+                entity.getCreatedAt(),
+                entity.getStartedAt(),
+                entity.getFinishedAt(),
+                recipients
+        );
+    }
+}
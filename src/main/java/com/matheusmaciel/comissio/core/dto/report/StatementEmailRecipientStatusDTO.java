@@ -0,0 +1,29 @@
+package com.matheusmaciel.comissio.core.dto.report;
+
+import com.matheusmaciel.comissio.core.model.register.StatementDeliveryStatus;
+import com.matheusmaciel.comissio.core.repository.StatementEmailRecipientRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record StatementEmailRecipientStatusDTO(
+        UUID employeeId,
+        String employeeName,
+        String recipient,
+        StatementDeliveryStatus status,
+        int attempts,
+        String errorMessage,
+        LocalDateTime sentAt
+) {
+    public static StatementEmailRecipientStatusDTO fromView(StatementEmailRecipientRepository.RecipientStatusView view) {
+        return new StatementEmailRecipientStatusDTO(
+                view.getEmployeeId(),
+                view.getEmployeeName(),
+                view.getRecipient(),
+                StatementDeliveryStatus.valueOf(view.getDeliveryStatus()),
+                view.getAttempts(),
+                view.getErrorMessage(),
+                view.getSentAt()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.matheusmaciel.comissio.core.dto.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A report whose content is written straight to the destination stream instead of being held
+ * in memory as a byte array.
+ */
+public record StreamedReport(
+        String filename,
+        String contentType,
+        Writer writer
+) {
+
+    @FunctionalInterface
+    public interface Writer {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
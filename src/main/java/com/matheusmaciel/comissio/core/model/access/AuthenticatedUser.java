@@ -0,0 +1,32 @@
+package com.matheusmaciel.comissio.core.model.access;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal of a request authenticated by JWT. It carries only what the token asserts, so it can
+ * be built without loading the {@link User}; code that needs the entity resolves it by id.
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String username,
+        Collection<? extends GrantedAuthority> authorities
+) implements AuthenticatedPrincipal {
+
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    public static AuthenticatedUser fromUser(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getAuthorities());
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
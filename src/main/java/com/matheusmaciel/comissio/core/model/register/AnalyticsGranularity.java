@@ -0,0 +1,13 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum AnalyticsGranularity {
+
+    DAY,
+    WEEK,
+    MONTH;
+
+    // Field name understood by PostgreSQL date_trunc; weeks start on Monday.
+    public String truncUnit() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,9 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum AuditAction {
+    CREATED,
+    UPDATED,
+    CANCELLED,
+    DELETED,
+    PAID
+}
@@ -0,0 +1,9 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum AuditEventType {
+    PERFORMED_SERVICE,
+    PERFORMED_SERVICE_IMPORT,
+    COMMISSION_PAYMENT,
+    EMPLOYEE_COMMISSION,
+    COMMISSION_CONFIG
+}
@@ -23,14 +23,27 @@ public class AuditLog {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // Null for changes made by scheduled jobs
     @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id")
     private User user;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private AuditEventType eventType;
+
+    @Enumerated(EnumType.STRING)
     @Column(name = "action")
-    private String action;
+    private AuditAction action;
+
+    @Column(name = "entity_id")
+    private UUID entityId;
+
+    @Column(name = "details")
+    private String details;
 
-    @Column(name = "timestamp", updatable = false)
+    // Partition key of audit_logs, which is range partitioned by month
+    @Column(name = "timestamp", nullable = false, updatable = false)
     @CurrentTimestamp
     private LocalDateTime timestamp;
 
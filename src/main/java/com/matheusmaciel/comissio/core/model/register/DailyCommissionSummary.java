@@ -0,0 +1,63 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "daily_commission_summary")
+@IdClass(DailyCommissionSummary.Key.class)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DailyCommissionSummary {
+
+    @Id
+    @Column(name = "employee_id")
+    private UUID employeeId;
+
+    @Id
+    @Column(name = "summary_date")
+    private LocalDate summaryDate;
+
+    @Id
+    @Column(name = "service_type_id")
+    private UUID serviceTypeId;
+
+    // Attribute converters do not apply to id attributes, so the name mapping is declared directly
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private ServiceStatus status;
+
+    @Column(name = "service_count", nullable = false)
+    private long serviceCount;
+
+    @Column(name = "total_price", nullable = false)
+    private BigDecimal totalPrice;
+
+    @Column(name = "total_commission", nullable = false)
+    private BigDecimal totalCommission;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID employeeId;
+        private LocalDate summaryDate;
+        private UUID serviceTypeId;
+        private ServiceStatus status;
+    }
+}
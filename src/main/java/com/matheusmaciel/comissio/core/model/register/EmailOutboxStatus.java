@@ -0,0 +1,10 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum EmailOutboxStatus {
+
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+
+}
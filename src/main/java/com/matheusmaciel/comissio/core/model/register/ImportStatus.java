@@ -0,0 +1,12 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum ImportStatus {
+
+    LOADING,
+    LOADED,
+    VALIDATING,
+    PROMOTING,
+    COMPLETED,
+    FAILED
+
+}
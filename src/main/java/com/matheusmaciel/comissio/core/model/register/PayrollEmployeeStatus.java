@@ -0,0 +1,10 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum PayrollEmployeeStatus {
+
+    PENDING,
+    PAID,
+    NOTHING_TO_PAY,
+    FAILED
+
+}
@@ -0,0 +1,85 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+import com.matheusmaciel.comissio.core.model.access.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "payroll_job")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PayrollJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PayrollJobStatus status;
+
+    @Column(name = "up_to_service_date")
+    private LocalDate upToServiceDate;
+
+    @Column(name = "employees_total", nullable = false)
+    private int employeesTotal;
+
+    @Column(name = "employees_processed", nullable = false)
+    private int employeesProcessed;
+
+    @Column(name = "employees_paid", nullable = false)
+    private int employeesPaid;
+
+    @Column(name = "employees_with_nothing_to_pay", nullable = false)
+    private int employeesWithNothingToPay;
+
+    @Column(name = "employees_failed", nullable = false)
+    private int employeesFailed;
+
+    @Column(name = "commissions_paid_count", nullable = false)
+    private int commissionsPaidCount;
+
+    @Builder.Default
+    @Column(name = "total_paid", nullable = false)
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by")
+    private User createdBy;
+
+    @Column(name = "created_at", updatable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+}
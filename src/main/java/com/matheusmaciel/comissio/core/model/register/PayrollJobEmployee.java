@@ -0,0 +1,48 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "payroll_job_employee")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PayrollJobEmployee {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PayrollEmployeeStatus status;
+
+    @Column(name = "commissions_paid_count", nullable = false)
+    private int commissionsPaidCount;
+
+    @Builder.Default
+    @Column(name = "total_paid", nullable = false)
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+}
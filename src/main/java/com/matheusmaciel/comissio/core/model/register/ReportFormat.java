@@ -0,0 +1,13 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum ReportFormat {
+
+    PDF,
+    EXCEL;
+
+    // Mirrors the report endpoints: "excel" (any case) selects Excel, anything else falls back to PDF.
+    public static ReportFormat fromParameter(String format) {
+        return "excel".equalsIgnoreCase(format) ? EXCEL : PDF;
+    }
+
+}
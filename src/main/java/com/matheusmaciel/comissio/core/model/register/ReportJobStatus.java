@@ -0,0 +1,10 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+public enum ReportJobStatus {
+
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+
+}
@@ -0,0 +1,16 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+/**
+ * Where one employee's statement is in a bulk e-mail batch: still to be rendered, not rendered,
+ * or the status of its outbox message.
+ */
+public enum StatementDeliveryStatus {
+
+    WAITING,
+    RENDER_FAILED,
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+
+}
@@ -0,0 +1,52 @@
+package com.matheusmaciel.comissio.core.model.register;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "statement_email_recipient")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StatementEmailRecipient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "batch_id", nullable = false)
+    private UUID batchId;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(name = "employee_name", nullable = false)
+    private String employeeName;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "outbox_message_id")
+    private UUID outboxMessageId;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at", updatable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+}
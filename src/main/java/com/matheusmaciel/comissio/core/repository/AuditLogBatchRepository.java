@@ -0,0 +1,58 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.dto.audit.AuditEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes audit events with one multi-row INSERT per call, so a flush of hundreds of events is a
+ * single statement and round trip instead of one per row.
+ */
+@Repository
+public class AuditLogBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (id, user_id, event_type, action, entity_id, details, timestamp) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 7;
+
+    // PostgreSQL binds at most 65535 parameters per statement.
+    public static final int MAX_ROWS_PER_INSERT = 65_535 / COLUMNS;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int insertAll(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        if (events.size() > MAX_ROWS_PER_INSERT) {
+            throw new IllegalArgumentException("At most " + MAX_ROWS_PER_INSERT + " audit events fit in one insert");
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_SQL.length() + events.size() * (ROW_PLACEHOLDERS.length() + 1))
+                .append(INSERT_SQL);
+        Object[] parameters = new Object[events.size() * COLUMNS];
+        int index = 0;
+        for (AuditEvent event : events) {
+            if (index > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDERS);
+            parameters[index++] = event.id();
+            parameters[index++] = event.userId();
+            parameters[index++] = event.eventType().name();
+            parameters[index++] = event.action().name();
+            parameters[index++] = event.entityId();
+            parameters[index++] = event.details();
+            parameters[index++] = Timestamp.valueOf(event.timestamp());
+        }
+        return jdbcTemplate.update(sql.toString(), parameters);
+    }
+}
@@ -0,0 +1,94 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DDL for the monthly partitions of audit_logs. Partitions are named audit_logs_YYYY_MM and
+ * cover that calendar month of {@code timestamp}; the default partition is never touched here.
+ */
+@Repository
+public class AuditLogPartitionRepository {
+
+    private static final String PARENT_TABLE = "audit_logs";
+    private static final DateTimeFormatter NAME_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_(\\d{4})_(\\d{2})");
+
+    private static final String ATTACHED_PARTITIONS_SQL = """
+            SELECT child.relname
+            FROM pg_inherits
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.relname = ? AND parent.relnamespace = to_regnamespace(current_schema())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Serializes maintenance across instances for the current transaction. Returns false when
+     * another instance holds the lock.
+     */
+    public boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('audit_logs_partition_maintenance'))", Boolean.class));
+    }
+
+    public List<YearMonth> findAttachedMonths() {
+        return jdbcTemplate.queryForList(ATTACHED_PARTITIONS_SQL, String.class, PARENT_TABLE).stream()
+                .map(AuditLogPartitionRepository::monthOf)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    /**
+     * Detaches the month from audit_logs, keeping its rows in a standalone table for archiving.
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName(month));
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE " + partitionName(month));
+    }
+
+    /**
+     * Months with rows in the default partition, which landed there because the month had no
+     * partition yet. A month's partition cannot be created while the default partition holds rows for it.
+     */
+    public List<YearMonth> findDefaultPartitionMonths() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT CAST(date_trunc('month', timestamp) AS DATE) AS month FROM "
+                        + PARENT_TABLE + "_default ORDER BY month", LocalDate.class).stream()
+                .map(YearMonth::from)
+                .toList();
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(NAME_SUFFIX);
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
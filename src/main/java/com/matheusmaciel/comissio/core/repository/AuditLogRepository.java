@@ -0,0 +1,22 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
+import com.matheusmaciel.comissio.core.model.register.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the audit trail. audit_logs is partitioned by month on timestamp, so queries bounded by
+ * timestamp only scan the months they cover; rows are written by {@link AuditLogBatchRepository}.
+ */
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+
+    List<AuditLog> findByEventTypeAndEntityIdOrderByTimestampDesc(AuditEventType eventType, UUID entityId);
+
+    Page<AuditLog> findByTimestampGreaterThanEqualAndTimestampLessThan(LocalDateTime from, LocalDateTime to, Pageable pageable);
+}
@@ -2,11 +2,26 @@ package com.matheusmaciel.comissio.core.repository;
 
 import com.matheusmaciel.comissio.core.model.register.ComissionConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ComissionConfigRepository extends JpaRepository<ComissionConfig, UUID> {
 
     Optional<ComissionConfig> findByServiceTypeId(UUID serviceTypeId);
+
+    @Query("SELECT cc.serviceType.id AS serviceTypeId, cc.defaultPercentage AS percentage " +
+            "FROM ComissionConfig cc WHERE cc.serviceType.id IN :serviceTypeIds")
+    List<DefaultRuleView> findDefaultRulesByServiceTypeIds(@Param("serviceTypeIds") Collection<UUID> serviceTypeIds);
+
+    interface DefaultRuleView {
+        UUID getServiceTypeId();
+
+        BigDecimal getPercentage();
+    }
 }
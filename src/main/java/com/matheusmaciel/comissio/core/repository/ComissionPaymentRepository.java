@@ -2,8 +2,71 @@ package com.matheusmaciel.comissio.core.repository;
 
 import com.matheusmaciel.comissio.core.model.register.ComissionPayment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface ComissionPaymentRepository extends JpaRepository<ComissionPayment, UUID> {
+
+    /**
+     * Flips every pending service of the employee (optionally up to a service date) to COMMISSION_PAID,
+     * inserts the matching payment rows and moves their totals from the pending to the paid rows of
+     * daily_commission_summary in a single statement, returning what was paid.
+     */
+    @Query(value = """
+            WITH paid AS (
+                UPDATE performed_service
+                SET status = 'COMMISSION_PAID', updated_at = :paymentDate
+                WHERE employee_id = :employeeId
+                  AND status = 'COMMISSION_PENDING'
+                  AND (CAST(:upToServiceDate AS DATE) IS NULL OR service_date <= CAST(:upToServiceDate AS DATE))
+                RETURNING id, employee_id, service_type_id, price, comission_amount, service_date
+            ), payments AS (
+                INSERT INTO comission_payment
+                    (id, employee_id, performed_service_id, amount_paid, status, payment_date, created_at, updated_at)
+                SELECT gen_random_uuid(), employee_id, id, comission_amount, 'PAID', :paymentDate, :paymentDate, :paymentDate
+                FROM paid
+            ), paid_by_day AS (
+                SELECT employee_id, service_date, service_type_id,
+                       COUNT(*) AS service_count, SUM(price) AS total_price, SUM(comission_amount) AS total_commission
+                FROM paid
+                GROUP BY employee_id, service_date, service_type_id
+            ), pending_summary AS (
+                UPDATE daily_commission_summary s
+                SET service_count = s.service_count - d.service_count,
+                    total_price = s.total_price - d.total_price,
+                    total_commission = s.total_commission - d.total_commission,
+                    updated_at = :paymentDate
+                FROM paid_by_day d
+                WHERE s.employee_id = d.employee_id AND s.summary_date = d.service_date
+                  AND s.service_type_id = d.service_type_id AND s.status = 'COMMISSION_PENDING'
+            ), paid_summary AS (
+                INSERT INTO daily_commission_summary AS s
+                    (employee_id, summary_date, service_type_id, status, service_count, total_price, total_commission, updated_at)
+                SELECT employee_id, service_date, service_type_id, 'COMMISSION_PAID', service_count, total_price, total_commission, :paymentDate
+                FROM paid_by_day
+                ON CONFLICT (employee_id, summary_date, service_type_id, status) DO UPDATE SET
+                    service_count = s.service_count + EXCLUDED.service_count,
+                    total_price = s.total_price + EXCLUDED.total_price,
+                    total_commission = s.total_commission + EXCLUDED.total_commission,
+                    updated_at = EXCLUDED.updated_at
+            )
+            SELECT id AS performedServiceId, comission_amount AS amountPaid
+            FROM paid
+            ORDER BY service_date, id
+            """, nativeQuery = true)
+    List<PaidServiceView> payPendingCommissions(@Param("employeeId") UUID employeeId,
+                                                @Param("upToServiceDate") LocalDate upToServiceDate,
+                                                @Param("paymentDate") LocalDateTime paymentDate);
+
+    interface PaidServiceView {
+        UUID getPerformedServiceId();
+
+        BigDecimal getAmountPaid();
+    }
 }
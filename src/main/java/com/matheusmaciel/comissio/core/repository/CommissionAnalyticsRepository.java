@@ -0,0 +1,113 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.DailyCommissionSummary;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only aggregations over daily_commission_summary. Every query groups in PostgreSQL and
+ * returns plain projections, so no entity is loaded however large the period is.
+ */
+public interface CommissionAnalyticsRepository extends Repository<DailyCommissionSummary, DailyCommissionSummary.Key> {
+
+    String FILTER = """
+            WHERE s.summary_date BETWEEN :startDate AND :endDate
+              AND (CAST(:employeeId AS UUID) IS NULL OR s.employee_id = CAST(:employeeId AS UUID))
+              AND (CAST(:status AS TEXT) IS NULL OR s.status = CAST(:status AS TEXT))
+            """;
+
+    String TOTALS = """
+            COALESCE(SUM(s.service_count), 0) AS serviceCount,
+            COALESCE(SUM(s.total_price), 0) AS totalPrice,
+            COALESCE(SUM(s.total_commission), 0) AS totalCommission
+            """;
+
+    @Query(value = "SELECT " + TOTALS + " FROM daily_commission_summary s " + FILTER, nativeQuery = true)
+    TotalsView findTotals(@Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate,
+                          @Param("employeeId") UUID employeeId,
+                          @Param("status") String status);
+
+    @Query(value = "SELECT s.employee_id AS employeeId, u.name AS employeeName, " + TOTALS + """
+            FROM daily_commission_summary s
+            JOIN employees e ON e.id = s.employee_id
+            JOIN users u ON u.id = e.user_id
+            """ + FILTER + """
+            GROUP BY s.employee_id, u.name
+            HAVING SUM(s.service_count) > 0
+            ORDER BY totalCommission DESC, employeeName
+            """, nativeQuery = true)
+    List<EmployeeTotalsView> findTotalsByEmployee(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate,
+                                                  @Param("employeeId") UUID employeeId,
+                                                  @Param("status") String status);
+
+    @Query(value = "SELECT s.service_type_id AS serviceTypeId, st.name AS serviceTypeName, " + TOTALS + """
+            FROM daily_commission_summary s
+            JOIN service_type st ON st.id = s.service_type_id
+            """ + FILTER + """
+            GROUP BY s.service_type_id, st.name
+            HAVING SUM(s.service_count) > 0
+            ORDER BY totalCommission DESC, serviceTypeName
+            """, nativeQuery = true)
+    List<ServiceTypeTotalsView> findTotalsByServiceType(@Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate,
+                                                        @Param("employeeId") UUID employeeId,
+                                                        @Param("status") String status);
+
+    @Query(value = "SELECT s.status AS status, " + TOTALS + " FROM daily_commission_summary s " + FILTER + """
+            GROUP BY s.status
+            HAVING SUM(s.service_count) > 0
+            ORDER BY s.status
+            """, nativeQuery = true)
+    List<StatusTotalsView> findTotalsByStatus(@Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate,
+                                              @Param("employeeId") UUID employeeId,
+                                              @Param("status") String status);
+
+    @Query(value = "SELECT CAST(date_trunc(CAST(:unit AS TEXT), s.summary_date) AS DATE) AS periodStart, " + TOTALS
+            + " FROM daily_commission_summary s " + FILTER + """
+            GROUP BY periodStart
+            HAVING SUM(s.service_count) > 0
+            ORDER BY periodStart
+            """, nativeQuery = true)
+    List<PeriodTotalsView> findTotalsByPeriod(@Param("unit") String unit,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate,
+                                              @Param("employeeId") UUID employeeId,
+                                              @Param("status") String status);
+
+    interface TotalsView {
+        long getServiceCount();
+
+        BigDecimal getTotalPrice();
+
+        BigDecimal getTotalCommission();
+    }
+
+    interface EmployeeTotalsView extends TotalsView {
+        UUID getEmployeeId();
+
+        String getEmployeeName();
+    }
+
+    interface ServiceTypeTotalsView extends TotalsView {
+        UUID getServiceTypeId();
+
+        String getServiceTypeName();
+    }
+
+    interface StatusTotalsView extends TotalsView {
+        String getStatus();
+    }
+
+    interface PeriodTotalsView extends TotalsView {
+        LocalDate getPeriodStart();
+    }
+}
@@ -0,0 +1,68 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.DailyCommissionSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DailyCommissionSummaryRepository extends JpaRepository<DailyCommissionSummary, DailyCommissionSummary.Key> {
+
+    /**
+     * Adds the given counts and amounts to one summary row, creating it when missing. Negative
+     * values take a service out of the row, so a change of status or amount is two calls.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_commission_summary AS s
+                (employee_id, summary_date, service_type_id, status, service_count, total_price, total_commission, updated_at)
+            VALUES (:employeeId, :summaryDate, :serviceTypeId, :status, :serviceCount, :totalPrice, :totalCommission, CURRENT_TIMESTAMP)
+            ON CONFLICT (employee_id, summary_date, service_type_id, status) DO UPDATE SET
+                service_count = s.service_count + EXCLUDED.service_count,
+                total_price = s.total_price + EXCLUDED.total_price,
+                total_commission = s.total_commission + EXCLUDED.total_commission,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void addToSummary(@Param("employeeId") UUID employeeId,
+                      @Param("summaryDate") LocalDate summaryDate,
+                      @Param("serviceTypeId") UUID serviceTypeId,
+                      @Param("status") String status,
+                      @Param("serviceCount") long serviceCount,
+                      @Param("totalPrice") BigDecimal totalPrice,
+                      @Param("totalCommission") BigDecimal totalCommission);
+
+    // Writers and SELECT ... FOR UPDATE wait until the rebuild commits, so no change can slip between the
+    // scan and the swap. Plain reads are not blocked.
+    @Transactional
+    @Modifying
+    @Query(value = "LOCK TABLE performed_service IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockPerformedServices();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM daily_commission_summary
+            WHERE (CAST(:startDate AS DATE) IS NULL OR summary_date >= CAST(:startDate AS DATE))
+              AND (CAST(:endDate AS DATE) IS NULL OR summary_date <= CAST(:endDate AS DATE))
+            """, nativeQuery = true)
+    int deleteBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_commission_summary
+                (employee_id, summary_date, service_type_id, status, service_count, total_price, total_commission, updated_at)
+            SELECT employee_id, service_date, service_type_id, status, COUNT(*), SUM(price), SUM(comission_amount), CURRENT_TIMESTAMP
+            FROM performed_service
+            WHERE (CAST(:startDate AS DATE) IS NULL OR service_date >= CAST(:startDate AS DATE))
+              AND (CAST(:endDate AS DATE) IS NULL OR service_date <= CAST(:endDate AS DATE))
+            GROUP BY employee_id, service_date, service_type_id, status
+            """, nativeQuery = true)
+    int insertFromPerformedServices(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,91 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.EmailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    // SKIP LOCKED lets several dispatchers poll the same table without waiting on each other's batches.
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutboxMessage> lockDueMessages(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.SENDING, " +
+            "m.claimedAt = :claimedAt, m.updatedAt = CURRENT_TIMESTAMP WHERE m.id IN :ids")
+    void markSending(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // The attachment is only needed until delivery, so it is dropped once the message is sent.
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.SENT, " +
+            "m.attempts = m.attempts + 1, m.attachment = NULL, m.claimedAt = NULL, m.lastError = NULL, " +
+            "m.sentAt = :sentAt, m.updatedAt = CURRENT_TIMESTAMP WHERE m.id IN :ids")
+    void markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.PENDING, " +
+            "m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, m.claimedAt = NULL, m.lastError = :lastError, " +
+            "m.updatedAt = CURRENT_TIMESTAMP WHERE m.id = :id")
+    void scheduleRetry(@Param("id") UUID id, @Param("attempts") int attempts,
+                       @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.FAILED, " +
+            "m.attempts = :attempts, m.claimedAt = NULL, m.lastError = :lastError, m.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE m.id = :id")
+    void markFailed(@Param("id") UUID id, @Param("attempts") int attempts, @Param("lastError") String lastError);
+
+    // A claim older than the timeout belongs to a dispatcher that stopped mid-batch; its messages are retried.
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.PENDING, " +
+            "m.nextAttemptAt = :now, m.claimedAt = NULL, m.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.SENDING " +
+            "AND m.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m " +
+            "WHERE m.status = com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus.SENT AND m.sentAt < :sentBefore")
+    int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore);
+
+    @Query(value = """
+            SELECT COUNT(*) FILTER (WHERE status = 'PENDING') AS pending,
+                   COUNT(*) FILTER (WHERE status = 'SENDING') AS sending,
+                   COUNT(*) FILTER (WHERE status = 'FAILED') AS failed,
+                   COALESCE(EXTRACT(EPOCH FROM CAST(:now AS TIMESTAMP)
+                       - MIN(created_at) FILTER (WHERE status IN ('PENDING', 'SENDING'))), 0) AS oldestPendingAgeSeconds
+            FROM email_outbox
+            WHERE status <> 'SENT'
+            """, nativeQuery = true)
+    QueueDepthView findQueueDepth(@Param("now") LocalDateTime now);
+
+    interface QueueDepthView {
+        long getPending();
+
+        long getSending();
+
+        long getFailed();
+
+        double getOldestPendingAgeSeconds();
+    }
+}
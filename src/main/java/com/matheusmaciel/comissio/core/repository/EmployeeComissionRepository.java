@@ -2,7 +2,11 @@ package com.matheusmaciel.comissio.core.repository;
 
 import com.matheusmaciel.comissio.core.model.register.EmployeeComission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +17,17 @@ public interface EmployeeComissionRepository extends JpaRepository<EmployeeComis
     List<EmployeeComission> findByEmployeeId(UUID employeeId);
 
     Optional<EmployeeComission> findByServiceTypeId(UUID serviceTypeId);
+
+    @Query("SELECT ec.employee.id AS employeeId, ec.serviceType.id AS serviceTypeId, ec.customPercentage AS percentage " +
+            "FROM EmployeeComission ec WHERE ec.employee.id IN :employeeIds AND ec.serviceType.id IN :serviceTypeIds")
+    List<RuleView> findRulesByEmployeeIdsAndServiceTypeIds(@Param("employeeIds") Collection<UUID> employeeIds,
+                                                           @Param("serviceTypeIds") Collection<UUID> serviceTypeIds);
+
+    interface RuleView {
+        UUID getEmployeeId();
+
+        UUID getServiceTypeId();
+
+        BigDecimal getPercentage();
+    }
 }
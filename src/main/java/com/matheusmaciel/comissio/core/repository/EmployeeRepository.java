@@ -1,8 +1,13 @@
 package com.matheusmaciel.comissio.core.repository;
 
 import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.StatusEmployee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +17,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     Optional<Employee> findByUser_Id(UUID id);
 
+    @Query("SELECT e FROM Employee e JOIN FETCH e.user WHERE e.id IN :ids")
+    List<Employee> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT e FROM Employee e JOIN FETCH e.user u WHERE e.status = :status ORDER BY u.name")
+    List<Employee> findAllWithUserByStatus(@Param("status") StatusEmployee status);
+
 }
@@ -0,0 +1,30 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.PayrollEmployeeStatus;
+import com.matheusmaciel.comissio.core.model.register.PayrollJobEmployee;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PayrollJobEmployeeRepository extends JpaRepository<PayrollJobEmployee, UUID> {
+
+    List<PayrollJobEmployee> findByJobIdAndStatus(UUID jobId, PayrollEmployeeStatus status);
+
+    // Only a row that is still pending takes a result, so an employee is never recorded twice.
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJobEmployee e SET e.status = :status, e.commissionsPaidCount = :commissionsPaid, " +
+            "e.totalPaid = :totalPaid, e.errorMessage = :errorMessage, e.processedAt = :processedAt " +
+            "WHERE e.id = :id AND e.status = com.matheusmaciel.comissio.core.model.register.PayrollEmployeeStatus.PENDING")
+    int recordResult(@Param("id") UUID id, @Param("status") PayrollEmployeeStatus status,
+                     @Param("commissionsPaid") int commissionsPaid, @Param("totalPaid") BigDecimal totalPaid,
+                     @Param("errorMessage") String errorMessage, @Param("processedAt") LocalDateTime processedAt);
+
+}
@@ -0,0 +1,73 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.PayrollJob;
+import com.matheusmaciel.comissio.core.model.register.PayrollJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PayrollJobRepository extends JpaRepository<PayrollJob, UUID> {
+
+    List<PayrollJob> findByStatusInAndHeartbeatAtBefore(Collection<PayrollJobStatus> statuses, LocalDateTime staleBefore);
+
+    // Takes over an unfinished job whose lease went stale; only one instance gets the row back.
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJob j SET j.claimedBy = :owner, j.heartbeatAt = :now, j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.id = :id AND j.heartbeatAt < :staleBefore AND j.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.RUNNING)")
+    int claim(@Param("id") UUID id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJob j SET j.heartbeatAt = :now WHERE j.claimedBy = :owner AND j.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.RUNNING)")
+    int renewLeases(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJob j SET j.status = com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.RUNNING, " +
+            "j.startedAt = COALESCE(j.startedAt, :startedAt), j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.id = :id AND j.claimedBy = :owner AND j.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.RUNNING)")
+    int markRunning(@Param("id") UUID id, @Param("owner") String owner, @Param("startedAt") LocalDateTime startedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJob j SET j.status = com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.COMPLETED, " +
+            "j.updatedAt = CURRENT_TIMESTAMP, j.finishedAt = :finishedAt WHERE j.id = :id AND j.claimedBy = :owner")
+    void markCompleted(@Param("id") UUID id, @Param("owner") String owner, @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJob j SET j.status = com.matheusmaciel.comissio.core.model.register.PayrollJobStatus.FAILED, " +
+            "j.errorMessage = :errorMessage, j.updatedAt = CURRENT_TIMESTAMP, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :id AND j.claimedBy = :owner")
+    void markFailed(@Param("id") UUID id, @Param("owner") String owner, @Param("errorMessage") String errorMessage,
+                    @Param("finishedAt") LocalDateTime finishedAt);
+
+    // Counters are incremented in place so concurrent partitions never overwrite each other's progress.
+    @Transactional
+    @Modifying
+    @Query("UPDATE PayrollJob j SET j.employeesProcessed = j.employeesProcessed + 1, " +
+            "j.employeesPaid = j.employeesPaid + :paid, " +
+            "j.employeesWithNothingToPay = j.employeesWithNothingToPay + :nothingToPay, " +
+            "j.employeesFailed = j.employeesFailed + :failed, " +
+            "j.commissionsPaidCount = j.commissionsPaidCount + :commissionsPaid, " +
+            "j.totalPaid = j.totalPaid + :totalPaid, j.updatedAt = CURRENT_TIMESTAMP WHERE j.id = :id")
+    void incrementProgress(@Param("id") UUID id, @Param("paid") int paid, @Param("nothingToPay") int nothingToPay,
+                           @Param("failed") int failed, @Param("commissionsPaid") int commissionsPaid,
+                           @Param("totalPaid") BigDecimal totalPaid);
+}
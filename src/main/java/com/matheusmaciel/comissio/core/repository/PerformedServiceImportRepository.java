@@ -0,0 +1,51 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.ImportStatus;
+import com.matheusmaciel.comissio.core.model.register.PerformedServiceImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PerformedServiceImportRepository extends JpaRepository<PerformedServiceImport, UUID> {
+
+    List<PerformedServiceImport> findByFinishedAtBefore(LocalDateTime finishedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PerformedServiceImport i SET i.loadedRows = :loadedRows, i.updatedAt = CURRENT_TIMESTAMP WHERE i.id = :id")
+    void updateLoadedRows(@Param("id") UUID id, @Param("loadedRows") long loadedRows);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PerformedServiceImport i SET i.status = :status, i.updatedAt = CURRENT_TIMESTAMP WHERE i.id = :id")
+    void updateStatus(@Param("id") UUID id, @Param("status") ImportStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PerformedServiceImport i SET i.status = com.matheusmaciel.comissio.core.model.register.ImportStatus.FAILED, " +
+            "i.errorMessage = :errorMessage, i.updatedAt = CURRENT_TIMESTAMP, i.finishedAt = :finishedAt WHERE i.id = :id")
+    void markFailed(@Param("id") UUID id, @Param("errorMessage") String errorMessage,
+                    @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PerformedServiceImport i SET i.updatedAt = CURRENT_TIMESTAMP WHERE i.id IN :ids")
+    void touch(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PerformedServiceImport i SET i.status = com.matheusmaciel.comissio.core.model.register.ImportStatus.FAILED, " +
+            "i.errorMessage = :errorMessage, i.updatedAt = CURRENT_TIMESTAMP, i.finishedAt = :finishedAt " +
+            "WHERE i.status IN :statuses AND i.updatedAt < :updatedBefore")
+    int markFailedByStatusInAndUpdatedAtBefore(@Param("statuses") Collection<ImportStatus> statuses,
+                                               @Param("updatedBefore") LocalDateTime updatedBefore,
+                                               @Param("errorMessage") String errorMessage,
+                                               @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -0,0 +1,271 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.dto.performedServiceImport.ImportRejectedRowDTO;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * Staging area for CSV imports of performed services. Rows are streamed into
+ * performed_service_import_row with COPY and then validated, resolved and promoted
+ * with set-based statements, so nothing is held in memory per row.
+ */
+@Repository
+public class PerformedServiceImportStagingRepository {
+
+    public static final String[] CSV_COLUMNS = {"employee_id", "service_type_id", "price", "service_date"};
+
+    private static final String COPY_SQL = "COPY performed_service_import_row " +
+            "(import_id, line_number, employee_id, service_type_id, price, service_date, rejection_reason) FROM STDIN";
+
+    private static final String UUID_PATTERN = "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$";
+
+    private static final String PARSE_SQL = """
+            UPDATE performed_service_import_row SET
+                employee_ref = CASE WHEN employee_id ~* ? THEN employee_id::uuid END,
+                service_type_ref = CASE WHEN service_type_id ~* ? THEN service_type_id::uuid END,
+                price_value = CASE WHEN price ~ '^[0-9]+(\\.[0-9]+)?$' THEN price::numeric END,
+                service_date_value = import_try_date(service_date)
+            WHERE import_id = ? AND rejection_reason IS NULL
+            """;
+
+    private static final String VALIDATE_SQL = """
+            UPDATE performed_service_import_row SET rejection_reason = CASE
+                    WHEN employee_ref IS NULL THEN 'Invalid employee_id'
+                    WHEN service_type_ref IS NULL THEN 'Invalid service_type_id'
+                    WHEN price_value IS NULL THEN 'Invalid price'
+                    WHEN price_value < 0.01 THEN 'Price must be at least 0.01'
+                    WHEN service_date_value IS NULL THEN 'Invalid service_date'
+                    WHEN service_date_value > CURRENT_DATE THEN 'Date of service must be in the past or present'
+                END
+            WHERE import_id = ? AND rejection_reason IS NULL
+            """;
+
+    // Same precedence as PerformedServiceService: employee rule first, then the service type default.
+    private static final String RESOLVE_SQL = """
+            UPDATE performed_service_import_row r SET
+                comission_percentage = COALESCE(ec.custom_percentage, cc.default_percentage),
+                rejection_reason = CASE
+                    WHEN e.id IS NULL THEN 'Employee not found with ID: ' || r.employee_id
+                    WHEN st.id IS NULL THEN 'ServiceType not found with ID: ' || r.service_type_id
+                    WHEN COALESCE(ec.custom_percentage, cc.default_percentage) IS NULL
+                        THEN 'Commission rule not found for Employee: ' || r.employee_id || ' and ServiceType: ' || r.service_type_id
+                END
+            FROM performed_service_import_row src
+            LEFT JOIN employees e ON e.id = src.employee_ref
+            LEFT JOIN service_type st ON st.id = src.service_type_ref
+            LEFT JOIN LATERAL (
+                SELECT custom_percentage FROM employee_comission
+                WHERE employee_id = e.id AND service_type_id = st.id
+                LIMIT 1
+            ) ec ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT default_percentage FROM comission_configuration
+                WHERE service_type_id = st.id
+                LIMIT 1
+            ) cc ON TRUE
+            WHERE r.import_id = ? AND r.rejection_reason IS NULL
+              AND src.import_id = r.import_id AND src.line_number = r.line_number
+            """;
+
+    // Promoted rows are added to daily_commission_summary in the same statement.
+    private static final String PROMOTE_SQL = """
+            WITH promoted AS (
+                INSERT INTO performed_service
+                    (id, employee_id, service_type_id, price, comission_amount, status, service_date, created_at, updated_at)
+                SELECT gen_random_uuid(), employee_ref, service_type_ref, price_value,
+                       ROUND(price_value * ROUND(comission_percentage / 100, 4), 2),
+                       'COMMISSION_PENDING', service_date_value, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM performed_service_import_row
+                WHERE import_id = ? AND rejection_reason IS NULL
+                RETURNING employee_id, service_type_id, service_date, status, price, comission_amount
+            ), summary AS (
+                INSERT INTO daily_commission_summary AS s
+                    (employee_id, summary_date, service_type_id, status, service_count, total_price, total_commission, updated_at)
+                SELECT employee_id, service_date, service_type_id, status, COUNT(*), SUM(price), SUM(comission_amount), CURRENT_TIMESTAMP
+                FROM promoted
+                GROUP BY employee_id, service_date, service_type_id, status
+                ON CONFLICT (employee_id, summary_date, service_type_id, status) DO UPDATE SET
+                    service_count = s.service_count + EXCLUDED.service_count,
+                    total_price = s.total_price + EXCLUDED.total_price,
+                    total_commission = s.total_commission + EXCLUDED.total_commission,
+                    updated_at = EXCLUDED.updated_at
+            )
+            SELECT COUNT(*) FROM promoted
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PerformedServiceImportStagingRepository(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams the CSV into the staging table through a single COPY. A header line naming the
+     * columns is skipped; lines with the wrong number of fields are staged already rejected.
+     */
+    public long copyRows(UUID importId, Reader csv, long progressInterval, LongConsumer progressListener)
+            throws IOException, SQLException {
+        try (Connection connection = dataSource.getConnection();
+             BufferedReader reader = new BufferedReader(csv, 1 << 16)) {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            PGCopyOutputStream copyStream = new PGCopyOutputStream(pgConnection, COPY_SQL, 1 << 16);
+            long rows = 0;
+
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), 1 << 16);
+                String importIdText = importId.toString();
+                long lineNumber = 0;
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                        continue;
+                    }
+
+                    List<String> fields = splitCsvLine(line);
+                    writeField(writer, importIdText);
+                    writer.write('\t');
+                    writer.write(Long.toString(lineNumber));
+                    if (fields.size() == CSV_COLUMNS.length) {
+                        for (String field : fields) {
+                            writer.write('\t');
+                            writeField(writer, field);
+                        }
+                        writer.write("\t\\N\n");
+                    } else {
+                        writer.write("\t\\N\t\\N\t\\N\t\\N\t");
+                        writeField(writer, "Expected " + CSV_COLUMNS.length + " columns but found " + fields.size());
+                        writer.write('\n');
+                    }
+
+                    rows++;
+                    if (rows % progressInterval == 0) {
+                        progressListener.accept(rows);
+                    }
+                }
+
+                writer.flush();
+                copyStream.endCopy();
+            } catch (IOException | RuntimeException e) {
+                if (copyStream.isActive()) {
+                    copyStream.cancelCopy();
+                }
+                throw e;
+            }
+
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            return rows;
+        }
+    }
+
+    public void validateRows(UUID importId) {
+        jdbcTemplate.update(PARSE_SQL, UUID_PATTERN, UUID_PATTERN, importId);
+        jdbcTemplate.update(VALIDATE_SQL, importId);
+    }
+
+    public void resolveCommissionRules(UUID importId) {
+        jdbcTemplate.update(RESOLVE_SQL, importId);
+    }
+
+    public long promoteValidRows(UUID importId) {
+        Long promoted = jdbcTemplate.queryForObject(PROMOTE_SQL, Long.class, importId);
+        jdbcTemplate.update("DELETE FROM performed_service_import_row WHERE import_id = ? AND rejection_reason IS NULL", importId);
+        return promoted != null ? promoted : 0;
+    }
+
+    public int deleteRows(UUID importId) {
+        return jdbcTemplate.update("DELETE FROM performed_service_import_row WHERE import_id = ?", importId);
+    }
+
+    public long countRejectedRows(UUID importId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM performed_service_import_row WHERE import_id = ? AND rejection_reason IS NOT NULL",
+                Long.class, importId);
+        return count != null ? count : 0;
+    }
+
+    public List<ImportRejectedRowDTO> findRejectedRows(UUID importId, int limit, long offset) {
+        return jdbcTemplate.query("""
+                        SELECT line_number, employee_id, service_type_id, price, service_date, rejection_reason
+                        FROM performed_service_import_row
+                        WHERE import_id = ? AND rejection_reason IS NOT NULL
+                        ORDER BY line_number
+                        LIMIT ? OFFSET ?
+                        """,
+                (rs, rowNum) -> new ImportRejectedRowDTO(
+                        rs.getLong("line_number"),
+                        rs.getString("employee_id"),
+                        rs.getString("service_type_id"),
+                        rs.getString("price"),
+                        rs.getString("service_date"),
+                        rs.getString("rejection_reason")),
+                importId, limit, offset);
+    }
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith(CSV_COLUMNS[0]);
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(CSV_COLUMNS.length);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            writer.write("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> writer.write("\\\\");
+                case '\t' -> writer.write("\\t");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                default -> writer.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.ReportRow;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Read path for performed-service listings. Rows are projected straight into
+ * {@link PerformedServiceResponseDTO} from a single joined query, so a page never
+ * triggers per-row loads of the employee, user or service type.
+ */
+public interface PerformedServiceReadRepository {
+
+    Page<PerformedServiceResponseDTO> findResponses(Specification<PerformedService> spec, Pageable pageable);
+
+    /**
+     * Keyset window ordered by (serviceDate, id). Pass a null key to start from the first row.
+     */
+    List<PerformedServiceResponseDTO> findResponsesAfter(Specification<PerformedService> spec,
+                                                         LocalDate afterServiceDate, UUID afterId,
+                                                         Sort.Direction direction, int limit);
+
+    Optional<PerformedServiceResponseDTO> findResponseById(UUID id);
+
+    /**
+     * Report lines of one employee ordered by (serviceDate, id), read from the database in chunks of
+     * {@code fetchSize} rows. Must be consumed and closed inside a transaction.
+     */
+    Stream<ReportRow> streamReportRows(UUID employeeId, LocalDate startDate, LocalDate endDate, int fetchSize);
+}
@@ -0,0 +1,155 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.ReportRow;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class PerformedServiceReadRepositoryImpl implements PerformedServiceReadRepository {
+
+    private final EntityManager entityManager;
+
+    PerformedServiceReadRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<PerformedServiceResponseDTO> findResponses(Specification<PerformedService> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PerformedServiceResponseDTO> query = cb.createQuery(PerformedServiceResponseDTO.class);
+        Root<PerformedService> root = query.from(PerformedService.class);
+        query.select(responseSelection(cb, root));
+        applySpecification(spec, root, query, cb, new ArrayList<>());
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<PerformedServiceResponseDTO> findResponsesAfter(Specification<PerformedService> spec,
+                                                                LocalDate afterServiceDate, UUID afterId,
+                                                                Sort.Direction direction, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PerformedServiceResponseDTO> query = cb.createQuery(PerformedServiceResponseDTO.class);
+        Root<PerformedService> root = query.from(PerformedService.class);
+        query.select(responseSelection(cb, root));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (afterServiceDate != null && afterId != null) {
+            Path<LocalDate> serviceDate = root.get("serviceDate");
+            Path<UUID> id = root.get("id");
+            predicates.add(direction.isAscending()
+                    ? cb.or(cb.greaterThan(serviceDate, afterServiceDate),
+                            cb.and(cb.equal(serviceDate, afterServiceDate), cb.greaterThan(id, afterId)))
+                    : cb.or(cb.lessThan(serviceDate, afterServiceDate),
+                            cb.and(cb.equal(serviceDate, afterServiceDate), cb.lessThan(id, afterId))));
+        }
+        applySpecification(spec, root, query, cb, predicates);
+        query.orderBy(direction.isAscending()
+                ? List.of(cb.asc(root.get("serviceDate")), cb.asc(root.get("id")))
+                : List.of(cb.desc(root.get("serviceDate")), cb.desc(root.get("id"))));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<PerformedServiceResponseDTO> findResponseById(UUID id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PerformedServiceResponseDTO> query = cb.createQuery(PerformedServiceResponseDTO.class);
+        Root<PerformedService> root = query.from(PerformedService.class);
+        query.select(responseSelection(cb, root)).where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultList().stream().findFirst();
+    }
+
+    @Override
+    public Stream<ReportRow> streamReportRows(UUID employeeId, LocalDate startDate, LocalDate endDate, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReportRow> query = cb.createQuery(ReportRow.class);
+        Root<PerformedService> root = query.from(PerformedService.class);
+        Join<PerformedService, ServiceType> serviceType = root.join("serviceTypeId");
+        query.select(cb.construct(ReportRow.class,
+                        root.get("serviceDate"),
+                        serviceType.get("name"),
+                        root.get("price"),
+                        root.get("comissionAmount"),
+                        root.get("status")))
+                .where(cb.equal(root.get("employee").get("id"), employeeId),
+                        cb.between(root.<LocalDate>get("serviceDate"), startDate, endDate))
+                .orderBy(cb.asc(root.get("serviceDate")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private long count(Specification<PerformedService> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<PerformedService> root = query.from(PerformedService.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb, new ArrayList<>());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Selection<PerformedServiceResponseDTO> responseSelection(CriteriaBuilder cb, Root<PerformedService> root) {
+        Join<PerformedService, Employee> employee = root.join("employee");
+        Join<Employee, User> user = employee.join("user");
+        Join<PerformedService, ServiceType> serviceType = root.join("serviceTypeId", JoinType.LEFT);
+
+        return cb.construct(PerformedServiceResponseDTO.class,
+                root.get("id"),
+                employee.get("id"),
+                user.get("name"),
+                serviceType.get("id"),
+                serviceType.get("name"),
+                root.get("price"),
+                root.get("comissionAmount"),
+                root.get("serviceDate"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("updatedAt"));
+    }
+
+    private static void applySpecification(Specification<PerformedService> spec, Root<PerformedService> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder cb, List<Predicate> predicates) {
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (!predicates.isEmpty()) {
+            query.where(predicates.toArray(Predicate[]::new));
+        }
+    }
+}
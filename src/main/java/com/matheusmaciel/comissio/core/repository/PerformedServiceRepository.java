@@ -2,14 +2,20 @@ package com.matheusmaciel.comissio.core.repository;
 
 import com.matheusmaciel.comissio.core.model.register.PerformedService;
 import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface PerformedServiceRepository extends JpaRepository<PerformedService, UUID>, JpaSpecificationExecutor<PerformedService> {
+public interface PerformedServiceRepository extends JpaRepository<PerformedService, UUID>, JpaSpecificationExecutor<PerformedService>,
+        PerformedServiceReadRepository {
     List<PerformedService> findByEmployee_IdAndStatusAndServiceDateLessThanEqual(
             UUID employeeId,
             ServiceStatus status,
@@ -18,6 +24,32 @@ public interface PerformedServiceRepository extends JpaRepository<PerformedServi
 
     List<PerformedService> findByEmployee_IdAndStatus(UUID employeeId, ServiceStatus status);
 
-    List<PerformedService> findByEmployeeIdAndServiceDateBetween(UUID employeeId, LocalDate startDate, LocalDate endDate);
+    // Row lock for read-modify-write paths, so two concurrent changes cannot both pass the status checks.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ps FROM PerformedService ps WHERE ps.id = :id")
+    Optional<PerformedService> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT DISTINCT ps.employee.id FROM PerformedService ps WHERE ps.status = :status AND ps.serviceDate <= :upToServiceDate")
+    List<UUID> findEmployeeIdsByStatusAndServiceDateLessThanEqual(@Param("status") ServiceStatus status,
+                                                                  @Param("upToServiceDate") LocalDate upToServiceDate);
+
+    /**
+     * Fingerprint of the services an employee report covers: the row count plus an order-independent
+     * hash of every row's id, status, amounts, service type and updated_at, and of the service type
+     * name the report prints. Creating, editing, cancelling, paying or deleting any service in the
+     * range changes it, and so does renaming one of its service types.
+     */
+    @Query(value = """
+            SELECT CAST(COUNT(*) AS TEXT) || ':' || CAST(COALESCE(BIT_XOR(HASHTEXTEXTENDED(
+                       CONCAT_WS('|', ps.id, ps.status, ps.price, ps.comission_amount, ps.service_type_id, ps.updated_at,
+                                 st.name), 0)), 0) AS TEXT)
+            FROM performed_service ps
+            LEFT JOIN service_type st ON st.id = ps.service_type_id
+            WHERE ps.employee_id = :employeeId
+              AND ps.service_date BETWEEN :startDate AND :endDate
+            """, nativeQuery = true)
+    String findReportDataVersion(@Param("employeeId") UUID employeeId,
+                                 @Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate);
 
 }
@@ -0,0 +1,63 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.ReportJob;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    List<ReportJob> findByStatusInAndHeartbeatAtBefore(Collection<ReportJobStatus> statuses, LocalDateTime staleBefore);
+
+    List<ReportJob> findByFinishedAtBefore(LocalDateTime finishedBefore);
+
+    // Takes over an unfinished job whose lease went stale; only one instance gets the row back.
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.claimedBy = :owner, j.heartbeatAt = :now, j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.id = :id AND j.heartbeatAt < :staleBefore AND j.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING)")
+    int claim(@Param("id") UUID id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.heartbeatAt = :now WHERE j.claimedBy = :owner AND j.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING)")
+    int renewLeases(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING, " +
+            "j.startedAt = :startedAt, j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.id = :id AND j.claimedBy = :owner AND j.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING)")
+    int markRunning(@Param("id") UUID id, @Param("owner") String owner, @Param("startedAt") LocalDateTime startedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.matheusmaciel.comissio.core.model.register.ReportJobStatus.COMPLETED, " +
+            "j.filePath = :filePath, j.sizeBytes = :sizeBytes, j.updatedAt = CURRENT_TIMESTAMP, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :id AND j.claimedBy = :owner")
+    void markCompleted(@Param("id") UUID id, @Param("owner") String owner, @Param("filePath") String filePath,
+                       @Param("sizeBytes") long sizeBytes, @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.matheusmaciel.comissio.core.model.register.ReportJobStatus.FAILED, " +
+            "j.errorMessage = :errorMessage, j.updatedAt = CURRENT_TIMESTAMP, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :id AND j.claimedBy = :owner")
+    void markFailed(@Param("id") UUID id, @Param("owner") String owner, @Param("errorMessage") String errorMessage,
+                    @Param("finishedAt") LocalDateTime finishedAt);
+}
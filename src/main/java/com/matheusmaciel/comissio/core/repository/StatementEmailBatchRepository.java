@@ -0,0 +1,60 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import com.matheusmaciel.comissio.core.model.register.StatementEmailBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StatementEmailBatchRepository extends JpaRepository<StatementEmailBatch, UUID> {
+
+    List<StatementEmailBatch> findByStatusInAndHeartbeatAtBefore(Collection<ReportJobStatus> statuses,
+                                                                 LocalDateTime staleBefore);
+
+    // Takes over an unfinished batch whose lease went stale; only one instance gets the row back.
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailBatch b SET b.claimedBy = :owner, b.heartbeatAt = :now, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.id = :id AND b.heartbeatAt < :staleBefore AND b.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING)")
+    int claim(@Param("id") UUID id, @Param("owner") String owner, @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailBatch b SET b.heartbeatAt = :now WHERE b.claimedBy = :owner AND b.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING)")
+    int renewLeases(@Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailBatch b SET b.status = com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING, " +
+            "b.startedAt = COALESCE(b.startedAt, :startedAt), b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.id = :id AND b.claimedBy = :owner AND b.status IN (" +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.QUEUED, " +
+            "com.matheusmaciel.comissio.core.model.register.ReportJobStatus.RUNNING)")
+    int markRunning(@Param("id") UUID id, @Param("owner") String owner, @Param("startedAt") LocalDateTime startedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailBatch b SET b.status = com.matheusmaciel.comissio.core.model.register.ReportJobStatus.COMPLETED, " +
+            "b.updatedAt = CURRENT_TIMESTAMP, b.finishedAt = :finishedAt WHERE b.id = :id AND b.claimedBy = :owner")
+    void markCompleted(@Param("id") UUID id, @Param("owner") String owner, @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailBatch b SET b.status = com.matheusmaciel.comissio.core.model.register.ReportJobStatus.FAILED, " +
+            "b.errorMessage = :errorMessage, b.updatedAt = CURRENT_TIMESTAMP, b.finishedAt = :finishedAt " +
+            "WHERE b.id = :id AND b.claimedBy = :owner")
+    void markFailed(@Param("id") UUID id, @Param("owner") String owner, @Param("errorMessage") String errorMessage,
+                    @Param("finishedAt") LocalDateTime finishedAt);
+}
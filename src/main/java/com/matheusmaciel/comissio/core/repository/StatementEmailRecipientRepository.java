@@ -0,0 +1,69 @@
+package com.matheusmaciel.comissio.core.repository;
+
+import com.matheusmaciel.comissio.core.model.register.StatementEmailRecipient;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface StatementEmailRecipientRepository extends JpaRepository<StatementEmailRecipient, UUID> {
+
+    // Recipients whose statement has neither been queued nor failed to render; a resumed batch picks up from here.
+    List<StatementEmailRecipient> findByBatchIdAndOutboxMessageIdIsNullAndErrorMessageIsNull(UUID batchId);
+
+    // Only a recipient that has not been queued yet takes the message, so a statement is never linked twice.
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailRecipient r SET r.outboxMessageId = :outboxMessageId, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id AND r.outboxMessageId IS NULL")
+    int markQueued(@Param("id") UUID id, @Param("outboxMessageId") UUID outboxMessageId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StatementEmailRecipient r SET r.errorMessage = :errorMessage, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id AND r.outboxMessageId IS NULL")
+    void markRenderFailed(@Param("id") UUID id, @Param("errorMessage") String errorMessage);
+
+    // Delivery status comes from the outbox message itself. Sent messages are swept from the outbox
+    // after their retention period, so a queued recipient without a message left was delivered.
+    @Query(value = """
+            SELECT r.employee_id AS employeeId,
+                   r.employee_name AS employeeName,
+                   r.recipient AS recipient,
+                   CASE
+                       WHEN r.error_message IS NOT NULL THEN 'RENDER_FAILED'
+                       WHEN r.outbox_message_id IS NULL THEN 'WAITING'
+                       WHEN o.id IS NULL THEN 'SENT'
+                       ELSE o.status
+                   END AS deliveryStatus,
+                   COALESCE(o.attempts, 0) AS attempts,
+                   COALESCE(r.error_message, o.last_error) AS errorMessage,
+                   o.sent_at AS sentAt
+            FROM statement_email_recipient r
+            LEFT JOIN email_outbox o ON o.id = r.outbox_message_id
+            WHERE r.batch_id = :batchId
+            ORDER BY r.employee_name, r.employee_id
+            """, nativeQuery = true)
+    List<RecipientStatusView> findRecipientStatuses(@Param("batchId") UUID batchId);
+
+    interface RecipientStatusView {
+        UUID getEmployeeId();
+
+        String getEmployeeName();
+
+        String getRecipient();
+
+        String getDeliveryStatus();
+
+        int getAttempts();
+
+        String getErrorMessage();
+
+        LocalDateTime getSentAt();
+    }
+}
@@ -0,0 +1,91 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.repository.AuditLogPartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of audit_logs ahead of the clock and behind the retention.
+ * Partitions for the current month and the next {@code app.audit.partitions.months-ahead} are
+ * created in advance, so inserts never wait on DDL and nothing lands in the default partition.
+ * Months older than {@code app.audit.partitions.retention-months} full months are dropped, or
+ * only detached into standalone tables when {@code app.audit.partitions.drop-expired=false}.
+ * One instance at a time does the work, under a transaction-scoped advisory lock.
+ */
+@Service
+public class AuditLogPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPartitionService.class);
+
+    private final AuditLogPartitionRepository auditLogPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+
+    public AuditLogPartitionService(AuditLogPartitionRepository auditLogPartitionRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${app.audit.partitions.months-ahead:3}") int monthsAhead,
+                                    @Value("${app.audit.partitions.retention-months:12}") int retentionMonths,
+                                    @Value("${app.audit.partitions.drop-expired:true}") boolean dropExpired) {
+        this.auditLogPartitionRepository = auditLogPartitionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = dropExpired;
+    }
+
+    // The first run happens at startup, so a long-stopped instance catches up before writing audit events.
+    @Scheduled(fixedDelayString = "${app.audit.partitions.maintenance-interval:PT6H}")
+    public void maintainPartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (auditLogPartitionRepository.tryMaintenanceLock()) {
+                    maintainPartitions(YearMonth.now());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Audit log partition maintenance failed", e);
+        }
+    }
+
+    private void maintainPartitions(YearMonth currentMonth) {
+        // Creating a month's partition fails while the default partition holds rows of that month, and the
+        // failure would roll back the retention pass too, so those months are skipped until fixed by hand.
+        List<YearMonth> strayMonths = auditLogPartitionRepository.findDefaultPartitionMonths();
+        if (!strayMonths.isEmpty()) {
+            log.warn("Audit log rows of {} are in the default partition; those months need partitions created by hand",
+                    strayMonths);
+        }
+
+        List<YearMonth> attached = auditLogPartitionRepository.findAttachedMonths();
+
+        for (YearMonth month = currentMonth; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            if (!attached.contains(month) && !strayMonths.contains(month)) {
+                auditLogPartitionRepository.createPartition(month);
+                log.info("Created audit log partition {}", AuditLogPartitionRepository.partitionName(month));
+            }
+        }
+
+        YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths);
+        for (YearMonth month : attached) {
+            if (!month.isBefore(oldestRetained)) {
+                continue;
+            }
+            auditLogPartitionRepository.detachPartition(month);
+            if (dropExpired) {
+                auditLogPartitionRepository.dropPartition(month);
+                log.info("Dropped audit log partition {}", AuditLogPartitionRepository.partitionName(month));
+            } else {
+                log.info("Detached audit log partition {}", AuditLogPartitionRepository.partitionName(month));
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.audit.AuditEvent;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
+import com.matheusmaciel.comissio.core.repository.AuditLogBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit trail of mutations, kept off the write paths that produce it. {@link #record} only puts
+ * the event on a bounded in-memory queue, after the surrounding transaction commits; a single
+ * writer thread drains the queue into audit_logs with one multi-row insert per batch. A batch
+ * is written once it holds {@code app.audit.batch-size} events or its first event has waited
+ * {@code app.audit.flush-interval}, whichever comes first.
+ * <p>
+ * When the writer falls behind and the queue is full, the caller waits up to
+ * {@code app.audit.enqueue-timeout} for room and the event is dropped after that. Waits and
+ * drops are counted, so a trail with gaps is visible in the metrics. Events still queued when
+ * the application stops are written before it exits; those queued at a crash are lost.
+ */
+@Service
+public class AuditLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
+
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final BlockingQueue<AuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutNanos;
+    private final Duration shutdownTimeout;
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer enqueueWait;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public AuditLogService(AuditLogBatchRepository auditLogBatchRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                           @Value("${app.audit.batch-size:500}") int batchSize,
+                           @Value("${app.audit.flush-interval:PT1S}") Duration flushInterval,
+                           @Value("${app.audit.enqueue-timeout:PT0.01S}") Duration enqueueTimeout,
+                           @Value("${app.audit.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.auditLogBatchRepository = auditLogBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.min(batchSize, AuditLogBatchRepository.MAX_ROWS_PER_INSERT);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.enqueued = events(meterRegistry, "enqueued");
+        this.dropped = events(meterRegistry, "dropped");
+        this.written = events(meterRegistry, "written");
+        this.failed = events(meterRegistry, "failed");
+        this.enqueueWait = Timer.builder("audit.enqueue.wait")
+                .description("Time callers waited for room in a full audit queue")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Time taken to write one batch of audit events")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("audit.events")
+                .description("Audit events by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::runWriter);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            current.interrupt();
+            if (!current.join(shutdownTimeout)) {
+                log.warn("Audit writer did not finish within {}; {} events were not written", shutdownTimeout, queue.size());
+            }
+        }
+    }
+
+    /**
+     * Captures a mutation made by the current user. Inside a transaction the event is queued
+     * when it commits, so rolled back changes leave no trail.
+     */
+    public void record(AuditEventType eventType, AuditAction action, UUID entityId, String details) {
+        record(currentUserId(), eventType, action, entityId, details);
+    }
+
+    /**
+     * Captures a mutation made on behalf of {@code userId}, for work that runs off the request
+     * thread and has no current user.
+     */
+    public void record(UUID userId, AuditEventType eventType, AuditAction action, UUID entityId, String details) {
+        AuditEvent event = new AuditEvent(UUID.randomUUID(), userId, eventType, action, entityId, details,
+                LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (queue.offer(event)) {
+            enqueued.increment();
+            return;
+        }
+
+        boolean accepted = false;
+        long start = System.nanoTime();
+        try {
+            accepted = enqueueTimeoutNanos > 0 && queue.offer(event, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            enqueueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+
+    private void runWriter() {
+        while (running) {
+            List<AuditEvent> batch = new ArrayList<>(batchSize);
+            try {
+                AuditEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, System.nanoTime() + flushIntervalNanos);
+            } catch (InterruptedException e) {
+                // Stopping: whatever was collected is written with the rest of the queue below.
+                queue.drainTo(batch, batchSize - batch.size());
+                flush(batch);
+                break;
+            }
+            flush(batch);
+        }
+
+        // An interrupt that arrived during a flush would fail the connection checkout of the final ones.
+        Thread.interrupted();
+        List<AuditEvent> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining = new ArrayList<>(batchSize);
+        }
+    }
+
+    // Collects events until the batch is full or the flush deadline of its first event passes.
+    private void fillBatch(List<AuditEvent> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            auditLogBatchRepository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
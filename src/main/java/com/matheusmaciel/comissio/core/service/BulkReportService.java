@@ -0,0 +1,166 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.StatusEmployee;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Bundles the commission reports of every active employee into one ZIP. Reports are rendered in
+ * parallel on the bulk report executor, each into its own scratch file, and copied into the ZIP as
+ * soon as they finish. At most {@code app.bulk-report.workers} reports are in flight per download,
+ * so memory and scratch space do not grow with the number of employees.
+ */
+@Service
+public class BulkReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkReportService.class);
+    private static final String ZIP_CONTENT_TYPE = "application/zip";
+
+    private final EmployeeRepository employeeRepository;
+    private final ReportService reportService;
+    private final TaskExecutor bulkReportExecutor;
+    private final int parallelism;
+    private final Path scratchDirectory;
+
+    public BulkReportService(EmployeeRepository employeeRepository,
+                             ReportService reportService,
+                             @Qualifier("bulkReportExecutor") TaskExecutor bulkReportExecutor,
+                             @Value("${app.bulk-report.workers:4}") int parallelism,
+                             @Value("${app.bulk-report.scratch-directory:${java.io.tmpdir}}") Path scratchDirectory) {
+        this.employeeRepository = employeeRepository;
+        this.reportService = reportService;
+        this.bulkReportExecutor = bulkReportExecutor;
+        this.parallelism = parallelism;
+        this.scratchDirectory = scratchDirectory;
+    }
+
+    public StreamedReport streamActiveEmployeesCommissionReports(ReportFormat format, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("End date cannot be before start date.");
+        }
+
+        List<Employee> employees = employeeRepository.findAllWithUserByStatus(StatusEmployee.ACTIVE);
+        return new StreamedReport("comissoes_" + startDate + "_" + endDate + ".zip", ZIP_CONTENT_TYPE,
+                outputStream -> writeZip(employees, format, startDate, endDate, outputStream));
+    }
+
+    private void writeZip(List<Employee> employees, ReportFormat format, LocalDate startDate, LocalDate endDate,
+                          OutputStream outputStream) throws IOException {
+        CompletionService<RenderedReport> completionService = new ExecutorCompletionService<>(bulkReportExecutor);
+        Iterator<Employee> pending = employees.iterator();
+        Set<String> entryNames = new HashSet<>();
+        int inFlight = 0;
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        try {
+            while (inFlight < parallelism && pending.hasNext()) {
+                submit(completionService, pending.next(), format, startDate, endDate);
+                inFlight++;
+            }
+
+            while (inFlight > 0) {
+                Future<RenderedReport> finished = completionService.take();
+                inFlight--;
+                RenderedReport rendered = finished.get();
+                try {
+                    writeEntry(zipOutputStream, rendered, entryNames);
+                } finally {
+                    Files.deleteIfExists(rendered.file());
+                }
+
+                if (pending.hasNext()) {
+                    submit(completionService, pending.next(), format, startDate, endDate);
+                    inFlight++;
+                }
+            }
+            zipOutputStream.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discard(completionService, inFlight);
+            throw new IOException("Bulk report generation was interrupted", e);
+        } catch (ExecutionException e) {
+            discard(completionService, inFlight);
+            throw new IOException("Failed to generate bulk report: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException | RuntimeException e) {
+            discard(completionService, inFlight);
+            throw e;
+        }
+    }
+
+    private void submit(CompletionService<RenderedReport> completionService, Employee employee, ReportFormat format,
+                        LocalDate startDate, LocalDate endDate) {
+        completionService.submit(() -> render(employee, format, startDate, endDate));
+    }
+
+    private RenderedReport render(Employee employee, ReportFormat format, LocalDate startDate, LocalDate endDate) throws IOException {
+        StreamedReport report = reportService.streamIndividualCommissionReport(format, employee.getId(),
+                employee.getUser().getName(), startDate, endDate);
+
+        Path file = Files.createTempFile(scratchDirectory, "comissio-bulk-", ".part");
+        try (OutputStream fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            report.writer().writeTo(fileOutputStream);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new RenderedReport(employee.getId(), report.filename(), file);
+    }
+
+    // Employees can share a name, so repeated file names get the employee id appended.
+    private void writeEntry(ZipOutputStream zipOutputStream, RenderedReport rendered, Set<String> entryNames) throws IOException {
+        String entryName = rendered.filename();
+        if (!entryNames.add(entryName)) {
+            int extensionStart = entryName.lastIndexOf('.');
+            entryName = entryName.substring(0, extensionStart) + "_" + rendered.employeeId() + entryName.substring(extensionStart);
+            entryNames.add(entryName);
+        }
+
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        Files.copy(rendered.file(), zipOutputStream);
+        zipOutputStream.closeEntry();
+    }
+
+    // Waits for the reports still being rendered so their scratch files can be removed.
+    private void discard(CompletionService<RenderedReport> completionService, int inFlight) {
+        for (int i = 0; i < inFlight; i++) {
+            try {
+                Files.deleteIfExists(completionService.take().get().file());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | IOException e) {
+                log.warn("Discarded bulk report entry could not be cleaned up", e);
+            }
+        }
+    }
+
+    private record RenderedReport(UUID employeeId, String filename, Path file) {
+    }
+}
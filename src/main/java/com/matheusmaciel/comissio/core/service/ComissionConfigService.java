@@ -2,6 +2,8 @@ package com.matheusmaciel.comissio.core.service;
 
 import com.matheusmaciel.comissio.core.dto.comissionConfig.ComissionConfigRequestDTO;
 import com.matheusmaciel.comissio.core.dto.comissionConfig.ComissionConfigResponseDTO;
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
 import com.matheusmaciel.comissio.core.model.register.ComissionConfig;
 import com.matheusmaciel.comissio.core.model.register.ServiceType;
 import com.matheusmaciel.comissio.core.repository.ComissionConfigRepository;
@@ -20,10 +22,17 @@ public class ComissionConfigService {
 
     private final ComissionConfigRepository comissionConfigRepository;
     private final ServiceTypeRepository serviceTypeRepository;
+    private final CommissionRuleCache commissionRuleCache;
+    private final AuditLogService auditLogService;
 
-    public ComissionConfigService(ComissionConfigRepository comissionConfigRepository, ServiceTypeRepository serviceTypeRepository) {
+    public ComissionConfigService(ComissionConfigRepository comissionConfigRepository,
+                                  ServiceTypeRepository serviceTypeRepository,
+                                  CommissionRuleCache commissionRuleCache,
+                                  AuditLogService auditLogService) {
         this.comissionConfigRepository = comissionConfigRepository;
         this.serviceTypeRepository = serviceTypeRepository;
+        this.commissionRuleCache = commissionRuleCache;
+        this.auditLogService = auditLogService;
     }
 
     @Transactional
@@ -33,6 +42,7 @@ public class ComissionConfigService {
 
         ComissionConfig comissionConfig = comissionConfigRepository.findByServiceTypeId(dto.serviceTypeId())
                 .orElse(new ComissionConfig());
+        AuditAction action = comissionConfig.getId() == null ? AuditAction.CREATED : AuditAction.UPDATED;
 
         if(comissionConfig.getId() == null && comissionConfigRepository.findByServiceTypeId(dto.serviceTypeId()).isPresent()) {
             throw new DuplicateResourceException("Comission config for service type '" + serviceType.getName() + "' already exists.");
@@ -42,6 +52,9 @@ public class ComissionConfigService {
         comissionConfig.setDefaultPercentage(dto.defaultPercentage());
 
         ComissionConfig savedComissionConfig = this.comissionConfigRepository.save(comissionConfig);
+        commissionRuleCache.evictServiceType(serviceType.getId());
+        auditLogService.record(AuditEventType.COMMISSION_CONFIG, action, savedComissionConfig.getId(),
+                configDetails(savedComissionConfig));
         return ComissionConfigResponseDTO.fromEntity(savedComissionConfig);
     }
 
@@ -58,13 +71,25 @@ public class ComissionConfigService {
             }
         });
 
+        if (comissionConfig.getServiceType() != null) {
+            commissionRuleCache.evictServiceType(comissionConfig.getServiceType().getId());
+        }
+
         comissionConfig.setServiceType(serviceType);
         comissionConfig.setDefaultPercentage(dto.defaultPercentage());
 
         ComissionConfig updatedComissionConfig = this.comissionConfigRepository.save(comissionConfig);
+        commissionRuleCache.evictServiceType(serviceType.getId());
+        auditLogService.record(AuditEventType.COMMISSION_CONFIG, AuditAction.UPDATED, updatedComissionConfig.getId(),
+                configDetails(updatedComissionConfig));
         return ComissionConfigResponseDTO.fromEntity(updatedComissionConfig);
     }
 
+    private static String configDetails(ComissionConfig comissionConfig) {
+        return "serviceTypeId=" + comissionConfig.getServiceType().getId()
+                + ", percentage=" + comissionConfig.getDefaultPercentage();
+    }
+
     public ComissionConfigResponseDTO getComissionConfigById(UUID id){
         return comissionConfigRepository.findById(id)
                 .map(ComissionConfigResponseDTO::fromEntity)
@@ -87,9 +112,12 @@ public class ComissionConfigService {
 
     @Transactional
     public void deleteComissionConfig(UUID id) {
-        if (!comissionConfigRepository.existsById(id)) {
-            throw new ResourceNotFoundException("ComissionConfig not found with ID: " + id);
+        ComissionConfig comissionConfig = comissionConfigRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ComissionConfig not found with ID: " + id));
+        this.comissionConfigRepository.delete(comissionConfig);
+        if (comissionConfig.getServiceType() != null) {
+            commissionRuleCache.evictServiceType(comissionConfig.getServiceType().getId());
         }
-        this.comissionConfigRepository.deleteById(id);
+        auditLogService.record(AuditEventType.COMMISSION_CONFIG, AuditAction.DELETED, comissionConfig.getId(), null);
     }
 }
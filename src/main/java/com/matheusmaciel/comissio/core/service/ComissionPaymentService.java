@@ -25,67 +25,75 @@ public class ComissionPaymentService {
     private final PerformedServiceRepository performedServiceRepository;
     private final EmployeeRepository employeeRepository;
     private final ComissionPaymentRepository comissionPaymentRepository;
+    private final AuditLogService auditLogService;
 
     public ComissionPaymentService(PerformedServiceRepository performedServiceRepository,
                                    EmployeeRepository employeeRepository,
-                                   ComissionPaymentRepository comissionPaymentRepository) {
+                                   ComissionPaymentRepository comissionPaymentRepository,
+                                   AuditLogService auditLogService) {
         this.performedServiceRepository = performedServiceRepository;
         this.employeeRepository = employeeRepository;
         this.comissionPaymentRepository = comissionPaymentRepository;
+        this.auditLogService = auditLogService;
     }
 
     @Transactional
     public BatchPaymentResponseDTO processBatchPayment(BatchPaymentRequestDTO dto) {
+        BatchPaymentResponseDTO response = payPendingCommissions(dto);
+        auditLogService.record(AuditEventType.COMMISSION_PAYMENT, AuditAction.PAID, response.employeeId(),
+                auditDetails(dto, response));
+        return response;
+    }
+
+    /**
+     * Same as {@link #processBatchPayment(BatchPaymentRequestDTO)} for payroll runs and jobs, which pay
+     * on executor threads without a current user; the payment is audited on behalf of {@code paidBy}.
+     */
+    @Transactional
+    public BatchPaymentResponseDTO processBatchPayment(BatchPaymentRequestDTO dto, UUID paidBy) {
+        BatchPaymentResponseDTO response = payPendingCommissions(dto);
+        auditLogService.record(paidBy, AuditEventType.COMMISSION_PAYMENT, AuditAction.PAID, response.employeeId(),
+                auditDetails(dto, response));
+        return response;
+    }
+
+    private BatchPaymentResponseDTO payPendingCommissions(BatchPaymentRequestDTO dto) {
         Employee employee = employeeRepository.findById(dto.employeeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Funcionário não encontrado com ID: " + dto.employeeId()));
 
-        List<PerformedService> servicesToPay;
-        if (dto.upToServiceDate() != null) {
-            servicesToPay = performedServiceRepository
-                    .findByEmployee_IdAndStatusAndServiceDateLessThanEqual(
-                            employee.getId(),
-                            ServiceStatus.COMMISSION_PENDING,
-                            dto.upToServiceDate());
-        } else {
-            servicesToPay = performedServiceRepository
-                    .findByEmployee_IdAndStatus(employee.getId(), ServiceStatus.COMMISSION_PENDING);
-        }
+        LocalDateTime paymentDate = LocalDateTime.now();
+        List<ComissionPaymentRepository.PaidServiceView> paidServices = comissionPaymentRepository
+                .payPendingCommissions(employee.getId(), dto.upToServiceDate(), paymentDate);
 
-        if (servicesToPay.isEmpty()) {
+        if (paidServices.isEmpty()) {
             throw new BusinessRuleException("Nenhuma comissão pendente encontrada para este funcionário" +
                     (dto.upToServiceDate() != null ? " até a data " + dto.upToServiceDate() : "") + ".");
         }
 
         BigDecimal totalPaidInBatch = BigDecimal.ZERO;
-        List<UUID> paidServiceIds = new ArrayList<>();
-
-        for (PerformedService service : servicesToPay) {
-            service.setStatus(ServiceStatus.COMMISSION_PAID);
-            performedServiceRepository.save(service);
-
-            ComissionPayment payment = ComissionPayment.builder()
-                    .employee(employee)
-                    .performedService(service)
-                    .amountPaid(service.getComissionAmount())
-                    .status(PaymentStatus.PAID)
-                    .paymentDate(LocalDateTime.now())
-                    .build();
-            comissionPaymentRepository.save(payment);
-
-            totalPaidInBatch = totalPaidInBatch.add(service.getComissionAmount());
-            paidServiceIds.add(service.getId());
+        List<UUID> paidServiceIds = new ArrayList<>(paidServices.size());
+
+        for (ComissionPaymentRepository.PaidServiceView paidService : paidServices) {
+            totalPaidInBatch = totalPaidInBatch.add(paidService.getAmountPaid());
+            paidServiceIds.add(paidService.getPerformedServiceId());
         }
 
         return new BatchPaymentResponseDTO(
                 employee.getId(),
                 employee.getUser().getName(),
-                servicesToPay.size(),
+                paidServices.size(),
                 totalPaidInBatch,
-                LocalDateTime.now(),
+                paymentDate,
                 paidServiceIds
         );
     }
 
+    // One entry per batch, keyed by employee; the individual payments are in comission_payments.
+    private static String auditDetails(BatchPaymentRequestDTO dto, BatchPaymentResponseDTO response) {
+        return "services=" + response.commissionsPaidCount() + ", total=" + response.totalPaid()
+                + (dto.upToServiceDate() != null ? ", upToServiceDate=" + dto.upToServiceDate() : "");
+    }
+
 
     public Page<ComissionPaymentResponseDTO> getAllComissionPayments(Pageable pageable) {
         Page<ComissionPayment> comissionPaymentsPage = comissionPaymentRepository.findAll(pageable);
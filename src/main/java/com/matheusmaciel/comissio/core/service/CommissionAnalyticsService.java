@@ -0,0 +1,83 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.analytics.CommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.EmployeeCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.PeriodCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.ServiceTypeCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.StatusCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.model.register.AnalyticsGranularity;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Commission totals for BI and dashboards, read from the daily summary. Employees are limited to
+ * their own numbers by the same rule that filters the performed-service listing.
+ */
+@Service
+public class CommissionAnalyticsService {
+
+    private final CommissionAnalyticsRepository analyticsRepository;
+    private final PerformedServiceService performedServiceService;
+
+    public CommissionAnalyticsService(CommissionAnalyticsRepository analyticsRepository,
+                                      PerformedServiceService performedServiceService) {
+        this.analyticsRepository = analyticsRepository;
+        this.performedServiceService = performedServiceService;
+    }
+
+    public CommissionTotalsDTO getTotals(LocalDate startDate, LocalDate endDate, UUID employeeId, ServiceStatus status,
+                                         Authentication authentication) {
+        Filter filter = filter(startDate, endDate, employeeId, status, authentication);
+        return CommissionTotalsDTO.fromView(analyticsRepository.findTotals(
+                filter.startDate(), filter.endDate(), filter.employeeId(), filter.status()));
+    }
+
+    public List<EmployeeCommissionTotalsDTO> getTotalsByEmployee(LocalDate startDate, LocalDate endDate, UUID employeeId,
+                                                                 ServiceStatus status, Authentication authentication) {
+        Filter filter = filter(startDate, endDate, employeeId, status, authentication);
+        return analyticsRepository.findTotalsByEmployee(filter.startDate(), filter.endDate(), filter.employeeId(), filter.status())
+                .stream().map(EmployeeCommissionTotalsDTO::fromView).toList();
+    }
+
+    public List<ServiceTypeCommissionTotalsDTO> getTotalsByServiceType(LocalDate startDate, LocalDate endDate, UUID employeeId,
+                                                                       ServiceStatus status, Authentication authentication) {
+        Filter filter = filter(startDate, endDate, employeeId, status, authentication);
+        return analyticsRepository.findTotalsByServiceType(filter.startDate(), filter.endDate(), filter.employeeId(), filter.status())
+                .stream().map(ServiceTypeCommissionTotalsDTO::fromView).toList();
+    }
+
+    public List<StatusCommissionTotalsDTO> getTotalsByStatus(LocalDate startDate, LocalDate endDate, UUID employeeId,
+                                                             ServiceStatus status, Authentication authentication) {
+        Filter filter = filter(startDate, endDate, employeeId, status, authentication);
+        return analyticsRepository.findTotalsByStatus(filter.startDate(), filter.endDate(), filter.employeeId(), filter.status())
+                .stream().map(StatusCommissionTotalsDTO::fromView).toList();
+    }
+
+    public List<PeriodCommissionTotalsDTO> getTotalsByPeriod(AnalyticsGranularity granularity, LocalDate startDate,
+                                                             LocalDate endDate, UUID employeeId, ServiceStatus status,
+                                                             Authentication authentication) {
+        Filter filter = filter(startDate, endDate, employeeId, status, authentication);
+        return analyticsRepository.findTotalsByPeriod(granularity.truncUnit(), filter.startDate(), filter.endDate(),
+                        filter.employeeId(), filter.status())
+                .stream().map(PeriodCommissionTotalsDTO::fromView).toList();
+    }
+
+    private Filter filter(LocalDate startDate, LocalDate endDate, UUID employeeId, ServiceStatus status,
+                          Authentication authentication) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("End date cannot be before start date.");
+        }
+        UUID visibleEmployeeId = performedServiceService.resolveVisibleEmployeeId(employeeId, authentication);
+        return new Filter(startDate, endDate, visibleEmployeeId, status != null ? status.name() : null);
+    }
+
+    private record Filter(LocalDate startDate, LocalDate endDate, UUID employeeId, String status) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matheusmaciel.comissio.core.model.register.ComissionConfig;
+import com.matheusmaciel.comissio.core.model.register.EmployeeComission;
+import com.matheusmaciel.comissio.core.repository.ComissionConfigRepository;
+import com.matheusmaciel.comissio.core.repository.EmployeeComissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the commission percentage for an (employee, service type) pair, caching the result.
+ * An empty result (no employee rule and no default) is cached as well, so repeated misses
+ * do not hit the rule tables. Writers must call the evict methods; evictions are repeated
+ * after commit so a concurrent reader cannot re-cache the pre-commit value.
+ */
+@Service
+public class CommissionRuleCache {
+
+    public static final String CACHE_NAME = "commission.rules";
+
+    private final EmployeeComissionRepository employeeComissionRepository;
+    private final ComissionConfigRepository comissionConfigRepository;
+    private final Cache<RuleKey, Optional<BigDecimal>> cache;
+    private final Counter invalidations;
+
+    public CommissionRuleCache(EmployeeComissionRepository employeeComissionRepository,
+                               ComissionConfigRepository comissionConfigRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.commission-rule-cache.max-size:10000}") long maxSize,
+                               @Value("${app.commission-rule-cache.ttl:PT30M}") Duration ttl) {
+        this.employeeComissionRepository = employeeComissionRepository;
+        this.comissionConfigRepository = comissionConfigRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("commission.rule.cache.invalidations")
+                .description("Entries removed from the commission rule cache because a rule changed")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<BigDecimal> findPercentage(UUID employeeId, UUID serviceTypeId) {
+        return cache.get(new RuleKey(employeeId, serviceTypeId), this::loadPercentage);
+    }
+
+    public Map<RuleKey, Optional<BigDecimal>> findPercentages(Collection<RuleKey> keys) {
+        return cache.getAll(keys, this::loadPercentages);
+    }
+
+    public void evict(UUID employeeId, UUID serviceTypeId) {
+        RuleKey key = new RuleKey(employeeId, serviceTypeId);
+        invalidate(key::equals);
+    }
+
+    public void evictServiceType(UUID serviceTypeId) {
+        invalidate(key -> key.serviceTypeId().equals(serviceTypeId));
+    }
+
+    public void evictAll() {
+        invalidate(key -> true);
+    }
+
+    private Optional<BigDecimal> loadPercentage(RuleKey key) {
+        Optional<BigDecimal> customPercentage = employeeComissionRepository
+                .findByEmployeeIdAndServiceTypeId(key.employeeId(), key.serviceTypeId())
+                .map(EmployeeComission::getCustomPercentage);
+
+        if (customPercentage.isPresent()) {
+            return customPercentage;
+        }
+
+        return comissionConfigRepository.findByServiceTypeId(key.serviceTypeId())
+                .map(ComissionConfig::getDefaultPercentage);
+    }
+
+    private Map<RuleKey, Optional<BigDecimal>> loadPercentages(Set<? extends RuleKey> keys) {
+        Set<UUID> employeeIds = keys.stream().map(RuleKey::employeeId).collect(Collectors.toSet());
+        Set<UUID> serviceTypeIds = keys.stream().map(RuleKey::serviceTypeId).collect(Collectors.toSet());
+
+        Map<RuleKey, BigDecimal> customPercentages = new HashMap<>();
+        for (EmployeeComissionRepository.RuleView rule :
+                employeeComissionRepository.findRulesByEmployeeIdsAndServiceTypeIds(employeeIds, serviceTypeIds)) {
+            customPercentages.put(new RuleKey(rule.getEmployeeId(), rule.getServiceTypeId()), rule.getPercentage());
+        }
+
+        Map<UUID, BigDecimal> defaultPercentages = new HashMap<>();
+        for (ComissionConfigRepository.DefaultRuleView rule :
+                comissionConfigRepository.findDefaultRulesByServiceTypeIds(serviceTypeIds)) {
+            defaultPercentages.put(rule.getServiceTypeId(), rule.getPercentage());
+        }
+
+        Map<RuleKey, Optional<BigDecimal>> percentages = new HashMap<>();
+        for (RuleKey key : keys) {
+            BigDecimal percentage = customPercentages.getOrDefault(key, defaultPercentages.get(key.serviceTypeId()));
+            percentages.put(key, Optional.ofNullable(percentage));
+        }
+        return percentages;
+    }
+
+    private void invalidate(Predicate<RuleKey> matcher) {
+        removeMatching(matcher);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeMatching(matcher);
+                }
+            });
+        }
+    }
+
+    private void removeMatching(Predicate<RuleKey> matcher) {
+        cache.asMap().keySet().removeIf(key -> {
+            if (matcher.test(key)) {
+                invalidations.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public record RuleKey(UUID employeeId, UUID serviceTypeId) {
+    }
+}
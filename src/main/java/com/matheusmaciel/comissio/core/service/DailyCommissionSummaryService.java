@@ -0,0 +1,131 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.performedService.DailyCommissionSummaryRebuildResponseDTO;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.DailyCommissionSummaryRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps daily_commission_summary in step with performed_service. Single-service writes report
+ * what a service contributed before and after the change; bulk payment and CSV import update the
+ * summary inside their own SQL statements. Every update joins the caller's transaction, so the
+ * summary can never commit without the change that produced it.
+ */
+@Service
+public class DailyCommissionSummaryService {
+
+    private final DailyCommissionSummaryRepository summaryRepository;
+    private final PerformedServiceRepository performedServiceRepository;
+
+    public DailyCommissionSummaryService(DailyCommissionSummaryRepository summaryRepository,
+                                         PerformedServiceRepository performedServiceRepository) {
+        this.summaryRepository = summaryRepository;
+        this.performedServiceRepository = performedServiceRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(PerformedService service) {
+        flushPerformedServices();
+        apply(Contribution.of(service), 1);
+    }
+
+    // Services landing on the same summary row are added up first, so a batch costs one upsert per row.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAllAdded(Collection<PerformedService> services) {
+        if (services.isEmpty()) {
+            return;
+        }
+
+        Map<RowKey, Contribution> rows = new LinkedHashMap<>();
+        for (PerformedService service : services) {
+            Contribution contribution = Contribution.of(service);
+            rows.merge(RowKey.of(contribution), contribution, Contribution::plus);
+        }
+
+        flushPerformedServices();
+        rows.values().forEach(row -> apply(row, 1));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(Contribution before) {
+        flushPerformedServices();
+        apply(before, -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanged(Contribution before, PerformedService after) {
+        Contribution current = Contribution.of(after);
+        if (!current.equals(before)) {
+            flushPerformedServices();
+            apply(before, -1);
+            apply(current, 1);
+        }
+    }
+
+    /**
+     * Recomputes the summary from performed_service for the given days, or for every day when both
+     * dates are null. Used to backfill and to repair the table after writes made outside the API.
+     */
+    @Transactional
+    public DailyCommissionSummaryRebuildResponseDTO rebuild(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("End date cannot be before start date.");
+        }
+
+        summaryRepository.lockPerformedServices();
+        int rowsDeleted = summaryRepository.deleteBetween(startDate, endDate);
+        int rowsWritten = summaryRepository.insertFromPerformedServices(startDate, endDate);
+        return new DailyCommissionSummaryRebuildResponseDTO(startDate, endDate, rowsDeleted, rowsWritten);
+    }
+
+    // The performed_service write goes out first, so a writer always locks performed_service before any
+    // summary row. A rebuild locks them in the same order, which keeps the two from deadlocking.
+    private void flushPerformedServices() {
+        performedServiceRepository.flush();
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        summaryRepository.addToSummary(contribution.employeeId(), contribution.serviceDate(), contribution.serviceTypeId(),
+                contribution.status().name(), sign * contribution.serviceCount(), contribution.price().multiply(factor),
+                contribution.comissionAmount().multiply(factor));
+    }
+
+    private record RowKey(UUID employeeId, UUID serviceTypeId, LocalDate serviceDate, ServiceStatus status) {
+
+        static RowKey of(Contribution contribution) {
+            return new RowKey(contribution.employeeId(), contribution.serviceTypeId(), contribution.serviceDate(),
+                    contribution.status());
+        }
+    }
+
+    /**
+     * What one performed service adds to its summary row. Taken before a change so the old values
+     * can be subtracted after the entity has been modified.
+     */
+    public record Contribution(UUID employeeId, UUID serviceTypeId, LocalDate serviceDate, ServiceStatus status,
+                               long serviceCount, BigDecimal price, BigDecimal comissionAmount) {
+
+        public static Contribution of(PerformedService service) {
+            return new Contribution(service.getEmployee().getId(), service.getServiceTypeId().getId(),
+                    service.getServiceDate(), service.getStatus(), 1, service.getPrice(), service.getComissionAmount());
+        }
+
+        private Contribution plus(Contribution other) {
+            return new Contribution(employeeId, serviceTypeId, serviceDate, status, serviceCount + other.serviceCount,
+                    price.add(other.price), comissionAmount.add(other.comissionAmount));
+        }
+    }
+}
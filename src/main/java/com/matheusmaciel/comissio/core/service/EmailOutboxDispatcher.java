@@ -0,0 +1,342 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.model.register.EmailOutboxMessage;
+import com.matheusmaciel.comissio.core.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delivers the email_outbox in batches. Each batch is claimed in a short transaction and then
+ * sent with a single {@link JavaMailSender#send(MimeMessage...)} call, which opens one SMTP
+ * connection for the whole batch. {@code app.email-outbox.senders} batches are sent in parallel,
+ * all sharing the {@code app.email-outbox.max-messages-per-second} budget. Failed messages are
+ * retried with exponential backoff until {@code app.email-outbox.max-attempts} is reached.
+ * Delivery is at-least-once: a dispatcher that stops between sending and recording the result
+ * leaves its claim to expire and the batch is sent again.
+ */
+@Service
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor emailSenderExecutor;
+    private final String fromEmail;
+    private final int senders;
+    private final int batchSize;
+    private final double maxMessagesPerSecond;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong sendingDepth = new AtomicLong();
+    private final AtomicLong failedDepth = new AtomicLong();
+    private final AtomicReference<Double> oldestPendingAgeSeconds = new AtomicReference<>(0.0);
+
+    // Senders started by the last poll; the next poll only starts new ones once these are done.
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+
+    // Earliest System.nanoTime() at which the next batch may go out; guarded by this.
+    private long nextSendAt = System.nanoTime();
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 JavaMailSender mailSender,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("emailSenderExecutor") TaskExecutor emailSenderExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${spring.mail.username}") String fromEmail,
+                                 @Value("${app.email-outbox.senders:2}") int senders,
+                                 @Value("${app.email-outbox.batch-size:50}") int batchSize,
+                                 @Value("${app.email-outbox.max-messages-per-second:0}") double maxMessagesPerSecond,
+                                 @Value("${app.email-outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.email-outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                                 @Value("${app.email-outbox.max-backoff:PT1H}") Duration maxBackoff,
+                                 @Value("${app.email-outbox.claim-timeout:PT10M}") Duration claimTimeout,
+                                 @Value("${app.email-outbox.retention:P7D}") Duration retention) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.emailSenderExecutor = emailSenderExecutor;
+        this.fromEmail = fromEmail;
+        this.senders = senders;
+        // Under a rate limit a batch never holds more than one second's budget, so bursts stay within the limit.
+        this.batchSize = maxMessagesPerSecond > 0 ? Math.max(1, Math.min(batchSize, (int) maxMessagesPerSecond)) : batchSize;
+        this.maxMessagesPerSecond = maxMessagesPerSecond;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+
+        this.sentCounter = deliveryCounter(meterRegistry, "sent");
+        this.retriedCounter = deliveryCounter(meterRegistry, "retried");
+        this.failedCounter = deliveryCounter(meterRegistry, "failed");
+        depthGauge(meterRegistry, "pending", pendingDepth);
+        depthGauge(meterRegistry, "sending", sendingDepth);
+        depthGauge(meterRegistry, "failed", failedDepth);
+        Gauge.builder("email.outbox.oldest.pending.age", oldestPendingAgeSeconds, AtomicReference::get)
+                .description("Age in seconds of the oldest message not yet delivered")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts sending every message that is due. Each sender claims and sends one batch after another
+     * until a batch comes back short. The senders run on their own executor, so the scheduler thread
+     * returns right away; a poll that finds the previous senders still busy is skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval:PT5S}")
+    public void dispatchDueMessages() {
+        CompletableFuture<Void> previous = inFlight.get();
+        if (previous != null && !previous.isDone()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int released = emailOutboxRepository.releaseStaleClaims(now.minus(claimTimeout), now);
+        if (released > 0) {
+            log.warn("Released {} outbox messages whose dispatcher stopped mid-batch", released);
+        }
+
+        List<CompletableFuture<Void>> drains = new ArrayList<>();
+        for (int i = 0; i < senders; i++) {
+            drains.add(CompletableFuture.runAsync(this::drainDueMessages, emailSenderExecutor));
+        }
+        inFlight.set(CompletableFuture.allOf(drains.toArray(CompletableFuture[]::new))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.error("Outbox dispatch failed", error);
+                    }
+                    try {
+                        refreshQueueDepth();
+                    } catch (RuntimeException e) {
+                        log.warn("Could not refresh outbox queue depth", e);
+                    }
+                }));
+    }
+
+    @Scheduled(fixedDelayString = "${app.email-outbox.cleanup-interval:PT1H}")
+    public void deleteSentMessages() {
+        int deleted = emailOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} sent outbox messages older than {}", deleted, retention);
+        }
+    }
+
+    private void drainDueMessages() {
+        List<EmailOutboxMessage> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                try {
+                    awaitSendBudget(batch.size());
+                } catch (InterruptedException e) {
+                    // The claim expires after claim-timeout and the batch is picked up again.
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                recordResults(batch, send(batch));
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    // Reserves the next free slot of the shared send budget and waits for it.
+    private void awaitSendBudget(int messages) throws InterruptedException {
+        if (maxMessagesPerSecond <= 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long sendAt = Math.max(now, nextSendAt);
+            nextSendAt = sendAt + (long) (messages * TimeUnit.SECONDS.toNanos(1) / maxMessagesPerSecond);
+            waitNanos = sendAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            List<EmailOutboxMessage> messages = emailOutboxRepository.lockDueMessages(LocalDateTime.now(), batchSize);
+            if (!messages.isEmpty()) {
+                emailOutboxRepository.markSending(messages.stream().map(EmailOutboxMessage::getId).toList(),
+                        LocalDateTime.now());
+            }
+            return messages;
+        });
+    }
+
+    /**
+     * Sends the batch over one SMTP connection and returns the error of every message that was
+     * not delivered, keyed by outbox id.
+     */
+    private Map<UUID, Failure> send(List<EmailOutboxMessage> batch) {
+        Map<UUID, Failure> failures = new HashMap<>();
+        Map<MimeMessage, UUID> mimeMessages = new LinkedHashMap<>();
+        for (EmailOutboxMessage message : batch) {
+            try {
+                mimeMessages.put(toMimeMessage(message), message.getId());
+            } catch (MessagingException e) {
+                // A message that cannot even be built will not get better with retries.
+                failures.put(message.getId(), Failure.permanentError(e));
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mimeMessages.values().forEach(id -> failures.put(id, Failure.transientError(e)));
+            } else {
+                e.getFailedMessages().forEach((failed, cause) -> {
+                    UUID id = mimeMessages.get(failed);
+                    if (id != null) {
+                        failures.put(id, Failure.transientError(cause));
+                    }
+                });
+            }
+        } catch (MailException e) {
+            mimeMessages.values().forEach(id -> failures.put(id, Failure.transientError(e)));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        boolean multipart = message.getAttachment() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, multipart, "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody(), true);
+        if (multipart) {
+            helper.addAttachment(message.getAttachmentFilename(), new ByteArrayResource(message.getAttachment()),
+                    message.getAttachmentContentType());
+        }
+        return mimeMessage;
+    }
+
+    private void recordResults(List<EmailOutboxMessage> batch, Map<UUID, Failure> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> sent = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (EmailOutboxMessage message : batch) {
+                Failure failure = failures.get(message.getId());
+                if (failure == null) {
+                    sent.add(message.getId());
+                    continue;
+                }
+
+                int attempts = message.getAttempts() + 1;
+                if (failure.retryable() && attempts < maxAttempts) {
+                    emailOutboxRepository.scheduleRetry(message.getId(), attempts, now.plus(backoff(attempts)), failure.error());
+                    retriedCounter.increment();
+                } else {
+                    emailOutboxRepository.markFailed(message.getId(), attempts, failure.error());
+                    failedCounter.increment();
+                    log.error("Giving up on outbox message {} to {} after {} attempts: {}",
+                            message.getId(), message.getRecipient(), attempts, failure.error());
+                }
+            }
+            if (!sent.isEmpty()) {
+                emailOutboxRepository.markSent(sent, now);
+            }
+        });
+        sentCounter.increment(sent.size());
+
+        if (!failures.isEmpty()) {
+            log.warn("Outbox batch of {} messages: {} sent, {} failed", batch.size(), sent.size(), failures.size());
+        }
+    }
+
+    // initial-backoff doubled for every attempt already made, capped at max-backoff.
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void refreshQueueDepth() {
+        EmailOutboxRepository.QueueDepthView depth = emailOutboxRepository.findQueueDepth(LocalDateTime.now());
+        pendingDepth.set(depth.getPending());
+        sendingDepth.set(depth.getSending());
+        failedDepth.set(depth.getFailed());
+        oldestPendingAgeSeconds.set(depth.getOldestPendingAgeSeconds());
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("email.outbox.deliveries")
+                .description("Outbox delivery attempts by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void depthGauge(MeterRegistry meterRegistry, String status, AtomicLong depth) {
+        Gauge.builder("email.outbox.depth", depth, AtomicLong::get)
+                .description("Outbox messages by status, refreshed after every dispatch")
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private record Failure(boolean retryable, String error) {
+
+        static Failure transientError(Exception cause) {
+            return new Failure(true, describe(cause));
+        }
+
+        static Failure permanentError(Exception cause) {
+            return new Failure(false, describe(cause));
+        }
+
+        private static String describe(Exception cause) {
+            String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        }
+    }
+}
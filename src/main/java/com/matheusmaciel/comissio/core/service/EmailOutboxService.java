@@ -0,0 +1,47 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.model.register.EmailOutboxMessage;
+import com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus;
+import com.matheusmaciel.comissio.core.repository.EmailOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes outgoing e-mail to the email_outbox table. The row joins the caller's transaction, so a
+ * message is queued only if the change that produced it commits, and no SMTP call is made while
+ * the transaction is open. {@link EmailOutboxDispatcher} delivers the queued messages.
+ */
+@Service
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
+    }
+
+    @Transactional
+    public UUID enqueue(String recipient, String subject, String htmlBody) {
+        return enqueue(recipient, subject, htmlBody, null, null, null);
+    }
+
+    @Transactional
+    public UUID enqueue(String recipient, String subject, String htmlBody,
+                        byte[] attachment, String attachmentFilename, String attachmentContentType) {
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .status(EmailOutboxStatus.PENDING)
+                .recipient(recipient)
+                .subject(subject)
+                .body(htmlBody)
+                .attachment(attachment)
+                .attachmentFilename(attachmentFilename)
+                .attachmentContentType(attachmentContentType)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        return emailOutboxRepository.save(message).getId();
+    }
+}
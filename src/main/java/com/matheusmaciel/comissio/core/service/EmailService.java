@@ -2,13 +2,9 @@ package com.matheusmaciel.comissio.core.service;
 
 import com.matheusmaciel.comissio.core.dto.employee.EmployeeResponseDTO;
 import com.matheusmaciel.comissio.core.dto.report.ReportFile;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -20,10 +16,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.mail.SimpleMailMessage;
 
 
+/**
+ * Composes the application's e-mails. Messages are queued in the outbox and delivered by
+ * {@link EmailOutboxDispatcher}, so callers never wait on SMTP; only the connection test below
+ * talks to the mail server directly.
+ */
 @Service
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
     private final ReportService reportService;
     private final EmployeeService employeeService;
 
@@ -33,87 +35,62 @@ public class EmailService {
     @Value("${spring.mail.username}")
     private String fromEmail;
 
-    public EmailService(JavaMailSender mailSender, ReportService reportService,@Lazy EmployeeService employeeService) {
+    public EmailService(JavaMailSender mailSender, EmailOutboxService emailOutboxService, ReportService reportService,
+                        @Lazy EmployeeService employeeService) {
         this.employeeService = employeeService;
         this.mailSender = mailSender;
+        this.emailOutboxService = emailOutboxService;
         this.reportService = reportService;
     }
 
-    public void sendEmailWithAttachment(String to, String subject, String body,
+    public UUID sendEmailWithAttachment(String to, String subject, String body,
                                         byte[] attachmentBytes, String attachmentFilename, String attachmentContentType) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true); // true indicates multipart
-
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body, true);
-
-            helper.addAttachment(attachmentFilename, new ByteArrayResource(attachmentBytes), attachmentContentType);
-
-            mailSender.send(message);
-            System.out.println("Email enviado para: " + to + " com anexo: " + attachmentFilename); // Log
-        } catch (MessagingException e) {
-
-            throw new RuntimeException("Erro ao enviar email com anexo: " + e.getMessage(), e);
-        }
+        UUID messageId = emailOutboxService.enqueue(to, subject, body, attachmentBytes, attachmentFilename, attachmentContentType);
+        log.info("E-mail para {} com anexo {} enfileirado ({})", to, attachmentFilename, messageId);
+        return messageId;
     }
 
 
-    public void sendCommissionReportByEmail(String toEmail, UUID employeeId,
+    public UUID sendCommissionReportByEmail(String toEmail, UUID employeeId,
                                             LocalDate startDate, LocalDate endDate, String format) throws IOException {
 
         EmployeeResponseDTO employee = employeeService.getEmployeeById(employeeId);
 
         ReportFile reportFile;
-        String subject = "Seu Relatório de Comissões - " + employee.name();
-        String body = "Olá, " + employee.name() + "! Segue em anexo o seu relatório de comissões.";
-
         if ("excel".equalsIgnoreCase(format)) {
             reportFile = reportService.generateIndividualCommissionReportExcel(employeeId, employee.name(), startDate, endDate);
         } else {
             reportFile = reportService.generateIndividualCommissionReportPdf(employeeId, employee.name(), startDate, endDate);
         }
 
-        sendEmailWithAttachment(toEmail, subject, body, reportFile.content(), reportFile.filename(), reportFile.contentType());
+        return queueCommissionReport(toEmail, employee.name(), reportFile);
     }
 
-    public void sendPasswordResetEmail(String to, String name, String resetLink){
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            log.info("Enviando e-mail a partir do endereço: {}", fromEmail);
-            helper.setTo(to);
-            helper.setSubject("Comissio - Recuperação de Senha");
-            
-            String htmlContent = String.format("""
-                <div style="font-family: Arial, sans-serif; line-height: 1.6;">
-                    <h2>Recuperação de Senha</h2>
-                    <p>Olá, %s!</p>
-                    <p>Recebemos uma solicitação para redefinir a senha da sua conta no sistema Comissio. Se não foi você, por favor, ignore este e-mail.</p>
-                    <p>Para criar uma nova senha, clique no link abaixo. Ele é válido por 1 hora.</p>
-                    <p style="margin: 25px 0;">
-                        <a href="%s" style="background-color: #007bff; color: white; padding: 12px 25px; text-decoration: none; border-radius: 5px; font-weight: bold;">
-                            Redefinir Senha
-                        </a>
-                    </p>
-                    <p>Atenciosamente,<br>Equipe Comissio</p>
-                </div>
-            """, name, resetLink);
-
-            helper.setText(htmlContent, true);
-            log.info("Iniciando processo de envio de e-mail...");
-            mailSender.send(message);
-            log.info("E-mail enviado com sucesso!");
+    public UUID queueCommissionReport(String toEmail, String employeeName, ReportFile reportFile) {
+        String subject = "Seu Relatório de Comissões - " + employeeName;
+        String body = "Olá, " + employeeName + "! Segue em anexo o seu relatório de comissões.";
 
+        return sendEmailWithAttachment(toEmail, subject, body, reportFile.content(), reportFile.filename(), reportFile.contentType());
+    }
 
-        } catch (MessagingException e) {
-            log.error("Erro ao enviar e-mail", e);
-            throw new RuntimeException("Erro ao enviar e-mail de recuperação de senha.", e);
-        }
+    public void sendPasswordResetEmail(String to, String name, String resetLink){
+        String htmlContent = String.format("""
+            <div style="font-family: Arial, sans-serif; line-height: 1.6;">
+                <h2>Recuperação de Senha</h2>
+                <p>Olá, %s!</p>
+                <p>Recebemos uma solicitação para redefinir a senha da sua conta no sistema Comissio. Se não foi você, por favor, ignore este e-mail.</p>
+                <p>Para criar uma nova senha, clique no link abaixo. Ele é válido por 1 hora.</p>
+                <p style="margin: 25px 0;">
+                    <a href="%s" style="background-color: #007bff; color: white; padding: 12px 25px; text-decoration: none; border-radius: 5px; font-weight: bold;">
+                        Redefinir Senha
+                    </a>
+                </p>
+                <p>Atenciosamente,<br>Equipe Comissio</p>
+            </div>
+        """, name, resetLink);
+
+        emailOutboxService.enqueue(to, "Comissio - Recuperação de Senha", htmlContent);
+        log.info("E-mail de recuperação de senha enfileirado para {}", to);
     }
 
     public void sendSimpleTestEmail(String to, String subject, String text) {
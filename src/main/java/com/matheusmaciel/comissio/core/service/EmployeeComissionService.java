@@ -2,6 +2,8 @@ package com.matheusmaciel.comissio.core.service;
 
 import com.matheusmaciel.comissio.core.dto.employeeComission.EmployeeComissionRequestDTO;
 import com.matheusmaciel.comissio.core.dto.employeeComission.EmployeeComissionResponseDTO;
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
 import com.matheusmaciel.comissio.core.model.register.Employee;
 import com.matheusmaciel.comissio.core.model.register.EmployeeComission;
 import com.matheusmaciel.comissio.core.model.register.ServiceType;
@@ -24,13 +26,19 @@ public class EmployeeComissionService {
     private final EmployeeComissionRepository employeeComissionRepository;
     private final EmployeeRepository employeeRepository;
     private final ServiceTypeRepository serviceTypeRepository;
+    private final CommissionRuleCache commissionRuleCache;
+    private final AuditLogService auditLogService;
 
     public EmployeeComissionService(EmployeeComissionRepository employeeComissionRepository,
                                     EmployeeRepository employeeRepository,
-                                    ServiceTypeRepository serviceTypeRepository) {
+                                    ServiceTypeRepository serviceTypeRepository,
+                                    CommissionRuleCache commissionRuleCache,
+                                    AuditLogService auditLogService) {
         this.employeeComissionRepository = employeeComissionRepository;
         this.employeeRepository = employeeRepository;
         this.serviceTypeRepository = serviceTypeRepository;
+        this.commissionRuleCache = commissionRuleCache;
+        this.auditLogService = auditLogService;
     }
 
     @Transactional
@@ -46,6 +54,8 @@ public class EmployeeComissionService {
 
         EmployeeComission employeeCommission = buildCommission(dto);
         EmployeeComission saved = employeeComissionRepository.save(employeeCommission);
+        commissionRuleCache.evict(dto.employeeId(), dto.serviceTypeId());
+        auditLogService.record(AuditEventType.EMPLOYEE_COMMISSION, AuditAction.CREATED, saved.getId(), ruleDetails(saved));
         return EmployeeComissionResponseDTO.fromEntity(saved);
     }
 
@@ -56,6 +66,8 @@ public class EmployeeComissionService {
 
         validateEmployeeAndServiceType(dto);
 
+        commissionRuleCache.evict(employeeCommission.getEmployee().getId(), employeeCommission.getServiceType().getId());
+
         employeeCommission.setEmployee(
                 employeeRepository.findById(dto.employeeId())
                         .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + dto.employeeId()))
@@ -69,9 +81,16 @@ public class EmployeeComissionService {
         employeeCommission.setCustomPercentage(dto.customPercentage());
 
         EmployeeComission saved = employeeComissionRepository.save(employeeCommission);
+        commissionRuleCache.evict(dto.employeeId(), dto.serviceTypeId());
+        auditLogService.record(AuditEventType.EMPLOYEE_COMMISSION, AuditAction.UPDATED, saved.getId(), ruleDetails(saved));
         return EmployeeComissionResponseDTO.fromEntity(saved);
     }
 
+    private static String ruleDetails(EmployeeComission commission) {
+        return "employeeId=" + commission.getEmployee().getId() + ", serviceTypeId=" + commission.getServiceType().getId()
+                + ", percentage=" + commission.getCustomPercentage();
+    }
+
     private void validateEmployeeAndServiceType(EmployeeComissionRequestDTO dto) {
         if (!employeeRepository.existsById(dto.employeeId())) {
             throw new ResourceNotFoundException("Employee not found with ID: " + dto.employeeId());
@@ -129,9 +148,11 @@ public class EmployeeComissionService {
 
     @Transactional
     public void deleteEmployeeComission(UUID id) {
-        if (!employeeComissionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("EmployeeComission not found with ID: " + id);
-        }
-        employeeComissionRepository.deleteById(id);
+        EmployeeComission employeeComission = employeeComissionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("EmployeeComission not found with ID: " + id));
+        employeeComissionRepository.delete(employeeComission);
+        commissionRuleCache.evict(employeeComission.getEmployee().getId(), employeeComission.getServiceType().getId());
+        auditLogService.record(AuditEventType.EMPLOYEE_COMMISSION, AuditAction.DELETED, employeeComission.getId(),
+                ruleDetails(employeeComission));
     }
 }
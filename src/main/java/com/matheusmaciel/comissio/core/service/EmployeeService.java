@@ -5,6 +5,7 @@ import com.matheusmaciel.comissio.core.dto.employee.EmployeeResponseDTO;
 import com.matheusmaciel.comissio.core.dto.employee.EmployeeUpdateRequestDTO;
 import com.matheusmaciel.comissio.core.model.access.User;
 import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.StatusEmployee;
 import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
 import com.matheusmaciel.comissio.infra.exception.employee.EmployeeFoundException;
 import com.matheusmaciel.comissio.infra.exception.employee.EmployeeNotFoundException;
@@ -22,10 +23,13 @@ public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public EmployeeService(EmployeeRepository employeeRepository, UserService userService) {
+    public EmployeeService(EmployeeRepository employeeRepository, UserService userService,
+                           TokenRevocationService tokenRevocationService) {
         this.employeeRepository = employeeRepository;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Transactional
@@ -59,9 +63,13 @@ public class EmployeeService {
         Employee employee = this.employeeRepository.findById(employeeId)
         .orElseThrow(() -> new EmployeeNotFoundException("Employee not found"));
 
+        boolean deactivated = employee.getStatus() != StatusEmployee.INACTIVE && dto.status() == StatusEmployee.INACTIVE;
         employee.setStatus(dto.status());
 
         Employee updatedEmployee = this.employeeRepository.save(employee);
+        if (deactivated) {
+            tokenRevocationService.revokeUser(employee.getUser().getId(), "employee deactivated");
+        }
         return EmployeeResponseDTO.fromEntity(updatedEmployee);
     }
 
@@ -0,0 +1,214 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollJobResponseDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunEmployeeResultDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunRequestDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.*;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.PayrollJobEmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.PayrollJobRepository;
+import com.matheusmaciel.comissio.infra.config.InstanceId;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs batch payments and payroll runs in the background. The job and one row per employee are
+ * persisted up front; each employee's payment commits together with its result row, so a job
+ * interrupted by a restart resumes with the employees that are still pending.
+ * <p>
+ * The instance processing a job holds a lease on it (claimed_by and heartbeat_at) and renews it
+ * while the job is unfinished. Only jobs whose lease went stale are resumed, and taking one over is
+ * a conditional update, so one instance processes a job at a time.
+ */
+@Service
+public class PayrollJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollJobService.class);
+
+    private final PayrollJobRepository payrollJobRepository;
+    private final PayrollJobEmployeeRepository payrollJobEmployeeRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ComissionPaymentService comissionPaymentService;
+    private final PayrollRunService payrollRunService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor payrollJobExecutor;
+    private final TaskExecutor payrollRunExecutor;
+    private final InstanceId instanceId;
+    private final Duration leaseTimeout;
+
+    public PayrollJobService(PayrollJobRepository payrollJobRepository,
+                             PayrollJobEmployeeRepository payrollJobEmployeeRepository,
+                             EmployeeRepository employeeRepository,
+                             ComissionPaymentService comissionPaymentService,
+                             PayrollRunService payrollRunService,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("payrollJobExecutor") TaskExecutor payrollJobExecutor,
+                             @Qualifier("payrollRunExecutor") TaskExecutor payrollRunExecutor,
+                             InstanceId instanceId,
+                             @Value("${app.payroll-job.lease-timeout:PT1M}") Duration leaseTimeout) {
+        this.payrollJobRepository = payrollJobRepository;
+        this.payrollJobEmployeeRepository = payrollJobEmployeeRepository;
+        this.employeeRepository = employeeRepository;
+        this.comissionPaymentService = comissionPaymentService;
+        this.payrollRunService = payrollRunService;
+        this.transactionTemplate = transactionTemplate;
+        this.payrollJobExecutor = payrollJobExecutor;
+        this.payrollRunExecutor = payrollRunExecutor;
+        this.instanceId = instanceId;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public PayrollJobResponseDTO startBatchPaymentJob(BatchPaymentRequestDTO dto, User requestedBy) {
+        if (!employeeRepository.existsById(dto.employeeId())) {
+            throw new ResourceNotFoundException("Funcionário não encontrado com ID: " + dto.employeeId());
+        }
+        return startJob(dto.upToServiceDate(), List.of(dto.employeeId()), requestedBy);
+    }
+
+    public PayrollJobResponseDTO startPayrollRunJob(PayrollRunRequestDTO dto, User requestedBy) {
+        return startJob(dto.upToServiceDate(), payrollRunService.resolveEmployeeIds(dto), requestedBy);
+    }
+
+    public PayrollJobResponseDTO getJob(UUID jobId) {
+        PayrollJob job = payrollJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Payroll job not found with ID: " + jobId));
+
+        List<PayrollRunEmployeeResultDTO> failures = payrollJobEmployeeRepository
+                .findByJobIdAndStatus(jobId, PayrollEmployeeStatus.FAILED).stream()
+                .map(failure -> PayrollRunEmployeeResultDTO.failed(failure.getEmployeeId(), failure.getErrorMessage()))
+                .toList();
+        return PayrollJobResponseDTO.fromEntity(job, failures);
+    }
+
+    @Scheduled(fixedDelayString = "${app.payroll-job.heartbeat-interval:PT15S}")
+    public void renewLeases() {
+        payrollJobRepository.renewLeases(instanceId.value(), LocalDateTime.now());
+    }
+
+    // The first run happens at startup and picks up the jobs of instances that stopped, this one included.
+    @Scheduled(fixedDelayString = "${app.payroll-job.heartbeat-interval:PT15S}")
+    public void resumeUnfinishedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(leaseTimeout);
+        List<PayrollJob> staleJobs = payrollJobRepository.findByStatusInAndHeartbeatAtBefore(
+                List.of(PayrollJobStatus.QUEUED, PayrollJobStatus.RUNNING), staleBefore);
+        for (PayrollJob job : staleJobs) {
+            if (payrollJobRepository.claim(job.getId(), instanceId.value(), now, staleBefore) == 0) {
+                continue;
+            }
+            log.info("Resuming payroll job {} ({} of {} employees processed)",
+                    job.getId(), job.getEmployeesProcessed(), job.getEmployeesTotal());
+            submit(job.getId());
+        }
+    }
+
+    private PayrollJobResponseDTO startJob(LocalDate upToServiceDate, List<UUID> employeeIds, User requestedBy) {
+        UUID jobId = transactionTemplate.execute(status -> {
+            PayrollJob job = payrollJobRepository.save(PayrollJob.builder()
+                    .status(PayrollJobStatus.QUEUED)
+                    .upToServiceDate(upToServiceDate)
+                    .employeesTotal(employeeIds.size())
+                    .createdBy(requestedBy)
+                    .claimedBy(instanceId.value())
+                    .heartbeatAt(LocalDateTime.now())
+                    .build());
+
+            payrollJobEmployeeRepository.saveAll(employeeIds.stream()
+                    .map(employeeId -> PayrollJobEmployee.builder()
+                            .jobId(job.getId())
+                            .employeeId(employeeId)
+                            .status(PayrollEmployeeStatus.PENDING)
+                            .build())
+                    .toList());
+            return job.getId();
+        });
+
+        submit(jobId);
+        return getJob(jobId);
+    }
+
+    private void submit(UUID jobId) {
+        try {
+            payrollJobExecutor.execute(() -> processJob(jobId));
+        } catch (TaskRejectedException e) {
+            payrollJobRepository.markFailed(jobId, instanceId.value(), "Payroll job queue is full, try again later.",
+                    LocalDateTime.now());
+        }
+    }
+
+    void processJob(UUID jobId) {
+        try {
+            PayrollJob job = payrollJobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Payroll job not found with ID: " + jobId));
+            if (payrollJobRepository.markRunning(jobId, instanceId.value(), LocalDateTime.now()) == 0) {
+                log.info("Payroll job {} was taken over by another instance, skipping it", jobId);
+                return;
+            }
+
+            // Payments are audited on behalf of the user who started the job, which may have been before a restart.
+            UUID paidBy = job.getCreatedBy() != null ? job.getCreatedBy().getId() : null;
+            List<CompletableFuture<Void>> partitions = payrollJobEmployeeRepository
+                    .findByJobIdAndStatus(jobId, PayrollEmployeeStatus.PENDING).stream()
+                    .map(jobEmployee -> CompletableFuture.runAsync(
+                            () -> processEmployee(job.getUpToServiceDate(), paidBy, jobEmployee), payrollRunExecutor))
+                    .toList();
+            CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+
+            payrollJobRepository.markCompleted(jobId, instanceId.value(), LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Payroll job {} failed", jobId, e);
+            payrollJobRepository.markFailed(jobId, instanceId.value(), "Failed to process payroll job: " + e.getMessage(),
+                    LocalDateTime.now());
+        }
+    }
+
+    private void processEmployee(LocalDate upToServiceDate, UUID paidBy, PayrollJobEmployee jobEmployee) {
+        UUID employeeId = jobEmployee.getEmployeeId();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                PayrollRunEmployeeResultDTO result = PayrollRunEmployeeResultDTO.paid(comissionPaymentService
+                        .processBatchPayment(new BatchPaymentRequestDTO(employeeId, upToServiceDate), paidBy));
+                // Another instance already recorded this employee; its payment stands and this one is undone.
+                if (!recordResult(jobEmployee, result)) {
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (Exception e) {
+            PayrollRunEmployeeResultDTO failure = PayrollRunService.failureResult(employeeId, e);
+            transactionTemplate.executeWithoutResult(status -> recordResult(jobEmployee, failure));
+        }
+    }
+
+    private boolean recordResult(PayrollJobEmployee jobEmployee, PayrollRunEmployeeResultDTO result) {
+        int recorded = payrollJobEmployeeRepository.recordResult(jobEmployee.getId(), result.status(),
+                result.commissionsPaidCount(), result.totalPaid(), result.error(), LocalDateTime.now());
+        if (recorded == 0) {
+            return false;
+        }
+
+        payrollJobRepository.incrementProgress(jobEmployee.getJobId(),
+                result.status() == PayrollEmployeeStatus.PAID ? 1 : 0,
+                result.status() == PayrollEmployeeStatus.NOTHING_TO_PAY ? 1 : 0,
+                result.status() == PayrollEmployeeStatus.FAILED ? 1 : 0,
+                result.commissionsPaidCount(),
+                result.totalPaid());
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunEmployeeResultDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pays every employee (or a filtered set) up to a cutoff date. Each employee is a separate
+ * partition handed to {@link ComissionPaymentService#processBatchPayment}, so it commits or
+ * rolls back on its own; partitions run concurrently on the bounded payroll executor. Those threads
+ * have no current user, so each payment is audited on behalf of the user who started the run.
+ */
+@Service
+public class PayrollRunService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunService.class);
+
+    private final ComissionPaymentService comissionPaymentService;
+    private final PerformedServiceRepository performedServiceRepository;
+    private final TaskExecutor payrollRunExecutor;
+
+    public PayrollRunService(ComissionPaymentService comissionPaymentService,
+                             PerformedServiceRepository performedServiceRepository,
+                             @Qualifier("payrollRunExecutor") TaskExecutor payrollRunExecutor) {
+        this.comissionPaymentService = comissionPaymentService;
+        this.performedServiceRepository = performedServiceRepository;
+        this.payrollRunExecutor = payrollRunExecutor;
+    }
+
+    public PayrollRunResponseDTO runPayroll(PayrollRunRequestDTO dto, User requestedBy) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<UUID> employeeIds = resolveEmployeeIds(dto);
+        UUID paidBy = requestedBy != null ? requestedBy.getId() : null;
+
+        List<CompletableFuture<PayrollRunEmployeeResultDTO>> partitions = new ArrayList<>(employeeIds.size());
+        for (UUID employeeId : employeeIds) {
+            partitions.add(CompletableFuture.supplyAsync(
+                    () -> payEmployee(employeeId, dto.upToServiceDate(), paidBy), payrollRunExecutor));
+        }
+
+        List<PayrollRunEmployeeResultDTO> results = partitions.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        return summarize(dto.upToServiceDate(), results, startedAt);
+    }
+
+    List<UUID> resolveEmployeeIds(PayrollRunRequestDTO dto) {
+        if (dto.employeeIds() != null && !dto.employeeIds().isEmpty()) {
+            return new ArrayList<>(new LinkedHashSet<>(dto.employeeIds()));
+        }
+        return performedServiceRepository.findEmployeeIdsByStatusAndServiceDateLessThanEqual(
+                ServiceStatus.COMMISSION_PENDING, dto.upToServiceDate());
+    }
+
+    PayrollRunEmployeeResultDTO payEmployee(UUID employeeId, LocalDate upToServiceDate, UUID paidBy) {
+        try {
+            return PayrollRunEmployeeResultDTO.paid(comissionPaymentService.processBatchPayment(
+                    new BatchPaymentRequestDTO(employeeId, upToServiceDate), paidBy));
+        } catch (Exception e) {
+            return failureResult(employeeId, e);
+        }
+    }
+
+    static PayrollRunEmployeeResultDTO failureResult(UUID employeeId, Exception e) {
+        if (e instanceof BusinessRuleException) {
+            return PayrollRunEmployeeResultDTO.nothingToPay(employeeId);
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return PayrollRunEmployeeResultDTO.failed(employeeId, e.getMessage());
+        }
+        log.error("Payroll run failed for employee {}", employeeId, e);
+        return PayrollRunEmployeeResultDTO.failed(employeeId, "Unexpected error: " + e.getMessage());
+    }
+
+    static PayrollRunResponseDTO summarize(LocalDate upToServiceDate, List<PayrollRunEmployeeResultDTO> results,
+                                           LocalDateTime startedAt) {
+        int paid = 0;
+        int nothingToPay = 0;
+        int failed = 0;
+        int commissionsPaid = 0;
+        BigDecimal totalPaid = BigDecimal.ZERO;
+
+        for (PayrollRunEmployeeResultDTO result : results) {
+            switch (result.status()) {
+                case PAID -> paid++;
+                case NOTHING_TO_PAY -> nothingToPay++;
+                case FAILED -> failed++;
+            }
+            commissionsPaid += result.commissionsPaidCount();
+            totalPaid = totalPaid.add(result.totalPaid());
+        }
+
+        return new PayrollRunResponseDTO(
+                upToServiceDate,
+                results.size(),
+                paid,
+                nothingToPay,
+                failed,
+                commissionsPaid,
+                totalPaid,
+                startedAt,
+                LocalDateTime.now(),
+                results
+        );
+    }
+}
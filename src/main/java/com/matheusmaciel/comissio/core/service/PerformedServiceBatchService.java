@@ -0,0 +1,154 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.performedService.BatchPerformedServiceItemResultDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.BatchPerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceRequestDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.model.register.ServiceType;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.repository.ServiceTypeRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class PerformedServiceBatchService {
+
+    private final PerformedServiceRepository performedServiceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ServiceTypeRepository serviceTypeRepository;
+    private final CommissionRuleCache commissionRuleCache;
+    private final Validator validator;
+    private final DailyCommissionSummaryService dailyCommissionSummaryService;
+    private final AuditLogService auditLogService;
+
+    public PerformedServiceBatchService(PerformedServiceRepository performedServiceRepository,
+                                        EmployeeRepository employeeRepository,
+                                        ServiceTypeRepository serviceTypeRepository,
+                                        CommissionRuleCache commissionRuleCache,
+                                        Validator validator,
+                                        DailyCommissionSummaryService dailyCommissionSummaryService,
+                                        AuditLogService auditLogService) {
+        this.performedServiceRepository = performedServiceRepository;
+        this.employeeRepository = employeeRepository;
+        this.serviceTypeRepository = serviceTypeRepository;
+        this.commissionRuleCache = commissionRuleCache;
+        this.validator = validator;
+        this.dailyCommissionSummaryService = dailyCommissionSummaryService;
+        this.auditLogService = auditLogService;
+    }
+
+    @Transactional
+    public BatchPerformedServiceResponseDTO createPerformedServices(List<PerformedServiceRequestDTO> requests) {
+        Set<UUID> employeeIds = new HashSet<>();
+        Set<UUID> serviceTypeIds = new HashSet<>();
+        for (PerformedServiceRequestDTO dto : requests) {
+            if (dto != null && dto.employeeId() != null && dto.serviceTypeId() != null) {
+                employeeIds.add(dto.employeeId());
+                serviceTypeIds.add(dto.serviceTypeId());
+            }
+        }
+
+        Map<UUID, Employee> employees = employeeRepository.findAllWithUserByIdIn(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Map<UUID, ServiceType> serviceTypes = serviceTypeRepository.findAllById(serviceTypeIds).stream()
+                .collect(Collectors.toMap(ServiceType::getId, Function.identity()));
+
+        Set<CommissionRuleCache.RuleKey> ruleKeys = requests.stream()
+                .filter(dto -> dto != null && employees.containsKey(dto.employeeId()) && serviceTypes.containsKey(dto.serviceTypeId()))
+                .map(dto -> new CommissionRuleCache.RuleKey(dto.employeeId(), dto.serviceTypeId()))
+                .collect(Collectors.toSet());
+        Map<CommissionRuleCache.RuleKey, Optional<BigDecimal>> percentages = commissionRuleCache.findPercentages(ruleKeys);
+
+        BatchPerformedServiceItemResultDTO[] results = new BatchPerformedServiceItemResultDTO[requests.size()];
+        List<PerformedService> servicesToSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            PerformedServiceRequestDTO dto = requests.get(i);
+
+            String validationError = validate(dto);
+            if (validationError != null) {
+                results[i] = BatchPerformedServiceItemResultDTO.failed(i, validationError);
+                continue;
+            }
+
+            Employee employee = employees.get(dto.employeeId());
+            if (employee == null) {
+                results[i] = BatchPerformedServiceItemResultDTO.failed(i, "Employee not found with ID: " + dto.employeeId());
+                continue;
+            }
+
+            ServiceType serviceType = serviceTypes.get(dto.serviceTypeId());
+            if (serviceType == null) {
+                results[i] = BatchPerformedServiceItemResultDTO.failed(i, "ServiceType not found with ID: " + dto.serviceTypeId());
+                continue;
+            }
+
+            Optional<BigDecimal> comissionPercentage = percentages.get(new CommissionRuleCache.RuleKey(employee.getId(), serviceType.getId()));
+            if (comissionPercentage.isEmpty()) {
+                results[i] = BatchPerformedServiceItemResultDTO.failed(i, "Commission rule not found for Employee: "
+                        + employee.getId() + " and ServiceType: " + serviceType.getId());
+                continue;
+            }
+
+            servicesToSave.add(PerformedService.builder()
+                    .employee(employee)
+                    .serviceTypeId(serviceType)
+                    .price(dto.price())
+                    .comissionAmount(PerformedServiceService.calculateComissionAmount(dto.price(), comissionPercentage.get()))
+                    .status(ServiceStatus.COMMISSION_PENDING)
+                    .serviceDate(dto.serviceDate())
+                    .build());
+            savedIndexes.add(i);
+        }
+
+        List<PerformedService> savedServices = performedServiceRepository.saveAll(servicesToSave);
+        performedServiceRepository.flush();
+        dailyCommissionSummaryService.recordAllAdded(savedServices);
+
+        for (int i = 0; i < savedServices.size(); i++) {
+            int index = savedIndexes.get(i);
+            PerformedService saved = savedServices.get(i);
+            PerformedServiceResponseDTO response = PerformedServiceResponseDTO.fromEntity(saved);
+            results[index] = BatchPerformedServiceItemResultDTO.created(index, response);
+            auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.CREATED, saved.getId(),
+                    "price=" + saved.getPrice() + ", commission=" + saved.getComissionAmount());
+        }
+
+        return new BatchPerformedServiceResponseDTO(
+                requests.size(),
+                savedServices.size(),
+                requests.size() - savedServices.size(),
+                Arrays.asList(results)
+        );
+    }
+
+    private String validate(PerformedServiceRequestDTO dto) {
+        if (dto == null) {
+            return "Service entry cannot be null";
+        }
+
+        Set<ConstraintViolation<PerformedServiceRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,191 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.performedServiceImport.ImportRejectedRowDTO;
+import com.matheusmaciel.comissio.core.dto.performedServiceImport.PerformedServiceImportResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
+import com.matheusmaciel.comissio.core.model.register.ImportStatus;
+import com.matheusmaciel.comissio.core.model.register.PerformedServiceImport;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceImportRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceImportStagingRepository;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class PerformedServiceImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformedServiceImportService.class);
+
+    private final PerformedServiceImportRepository importRepository;
+    private final PerformedServiceImportStagingRepository stagingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogService auditLogService;
+    private final TaskExecutor importExecutor;
+    private final long progressInterval;
+    private final Duration retention;
+    private final Duration staleTimeout;
+    private final Set<UUID> runningImports = ConcurrentHashMap.newKeySet();
+
+    public PerformedServiceImportService(PerformedServiceImportRepository importRepository,
+                                         PerformedServiceImportStagingRepository stagingRepository,
+                                         TransactionTemplate transactionTemplate,
+                                         AuditLogService auditLogService,
+                                         @Qualifier("performedServiceImportExecutor") TaskExecutor importExecutor,
+                                         @Value("${app.performed-service-import.progress-interval:50000}") long progressInterval,
+                                         @Value("${app.performed-service-import.retention:P7D}") Duration retention,
+                                         @Value("${app.performed-service-import.stale-timeout:PT5M}") Duration staleTimeout) {
+        this.importRepository = importRepository;
+        this.stagingRepository = stagingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.auditLogService = auditLogService;
+        this.importExecutor = importExecutor;
+        this.progressInterval = progressInterval;
+        this.retention = retention;
+        this.staleTimeout = staleTimeout;
+    }
+
+    public PerformedServiceImportResponseDTO startImport(MultipartFile file, User requestedBy) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessRuleException("Import file cannot be empty.");
+        }
+
+        PerformedServiceImport performedServiceImport = importRepository.save(PerformedServiceImport.builder()
+                .filename(file.getOriginalFilename())
+                .status(ImportStatus.LOADING)
+                .createdBy(requestedBy)
+                .build());
+        UUID importId = performedServiceImport.getId();
+        runningImports.add(importId);
+
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            long loadedRows = stagingRepository.copyRows(importId, reader, progressInterval,
+                    rows -> importRepository.updateLoadedRows(importId, rows));
+            importRepository.updateLoadedRows(importId, loadedRows);
+            importRepository.updateStatus(importId, ImportStatus.LOADED);
+        } catch (Exception e) {
+            log.error("Failed to load import {}", importId, e);
+            importRepository.markFailed(importId, "Failed to load file: " + e.getMessage(), LocalDateTime.now());
+            runningImports.remove(importId);
+            return getImport(importId);
+        }
+
+        try {
+            importExecutor.execute(() -> processImport(importId));
+        } catch (TaskRejectedException e) {
+            importRepository.markFailed(importId, "Import queue is full, try again later.", LocalDateTime.now());
+            runningImports.remove(importId);
+        }
+
+        return getImport(importId);
+    }
+
+    public PerformedServiceImportResponseDTO getImport(UUID importId) {
+        return importRepository.findById(importId)
+                .map(PerformedServiceImportResponseDTO::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found with ID: " + importId));
+    }
+
+    public Page<ImportRejectedRowDTO> getRejectedRows(UUID importId, Pageable pageable) {
+        PerformedServiceImport performedServiceImport = importRepository.findById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found with ID: " + importId));
+
+        List<ImportRejectedRowDTO> rows = stagingRepository.findRejectedRows(importId, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(rows, pageable, performedServiceImport.getRejectedRows());
+    }
+
+    // Keeps updated_at of the imports running here fresh, including through a long validate or promote statement.
+    @Scheduled(fixedDelayString = "${app.performed-service-import.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        if (!runningImports.isEmpty()) {
+            importRepository.touch(Set.copyOf(runningImports));
+        }
+    }
+
+    /**
+     * The staging table is unlogged, so a crash empties it, and an import whose instance stopped has no
+     * worker anymore either way. Such imports stop getting heartbeats; once updated_at is older than the
+     * stale timeout they are failed so they can be uploaded again. Imports running on other instances
+     * keep their heartbeat and are left alone. The first run happens at startup.
+     */
+    @Scheduled(fixedDelayString = "${app.performed-service-import.heartbeat-interval:PT30S}")
+    public void failInterruptedImports() {
+        LocalDateTime now = LocalDateTime.now();
+        int interrupted = importRepository.markFailedByStatusInAndUpdatedAtBefore(
+                List.of(ImportStatus.LOADING, ImportStatus.LOADED, ImportStatus.VALIDATING, ImportStatus.PROMOTING),
+                now.minus(staleTimeout), "Import was interrupted, upload the file again.", now);
+        if (interrupted > 0) {
+            log.warn("Marked {} interrupted imports as failed", interrupted);
+        }
+    }
+
+    // Rejected rows, and every row of a failed import, stay staged for review until the retention expires.
+    @Scheduled(fixedDelayString = "${app.performed-service-import.cleanup-interval:PT1H}")
+    public void deleteExpiredImports() {
+        List<PerformedServiceImport> expiredImports = importRepository.findByFinishedAtBefore(LocalDateTime.now().minus(retention));
+        for (PerformedServiceImport expiredImport : expiredImports) {
+            transactionTemplate.executeWithoutResult(status -> {
+                stagingRepository.deleteRows(expiredImport.getId());
+                importRepository.delete(expiredImport);
+            });
+        }
+    }
+
+    void processImport(UUID importId) {
+        try {
+            importRepository.updateStatus(importId, ImportStatus.VALIDATING);
+            transactionTemplate.executeWithoutResult(status -> {
+                stagingRepository.validateRows(importId);
+                stagingRepository.resolveCommissionRules(importId);
+            });
+
+            importRepository.updateStatus(importId, ImportStatus.PROMOTING);
+            transactionTemplate.executeWithoutResult(status -> {
+                long promotedRows = stagingRepository.promoteValidRows(importId);
+                long rejectedRows = stagingRepository.countRejectedRows(importId);
+
+                PerformedServiceImport performedServiceImport = importRepository.findById(importId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Import not found with ID: " + importId));
+                performedServiceImport.setPromotedRows(promotedRows);
+                performedServiceImport.setRejectedRows(rejectedRows);
+                performedServiceImport.setStatus(ImportStatus.COMPLETED);
+                performedServiceImport.setFinishedAt(LocalDateTime.now());
+                importRepository.save(performedServiceImport);
+
+                // One entry per import rather than per promoted row; it is queued once this transaction commits.
+                User importedBy = performedServiceImport.getCreatedBy();
+                auditLogService.record(importedBy != null ? importedBy.getId() : null,
+                        AuditEventType.PERFORMED_SERVICE_IMPORT, AuditAction.CREATED, importId,
+                        "promoted=" + promotedRows + ", rejected=" + rejectedRows);
+            });
+        } catch (Exception e) {
+            log.error("Failed to process import {}", importId, e);
+            importRepository.markFailed(importId, "Failed to process import: " + e.getMessage(), LocalDateTime.now());
+        } finally {
+            runningImports.remove(importId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.matheusmaciel.comissio.core.service;
 
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceCursorPageDTO;
 import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceRequestDTO;
 import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
 import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceUpdateRequestDTO;
@@ -11,41 +12,51 @@ import com.matheusmaciel.comissio.infra.exception.performedService.UpdatePerform
 import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class PerformedServiceService {
 
+    private static final BigDecimal ONE_HUNDRED = new BigDecimal("100");
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final PerformedServiceRepository performedServiceRepository;
     private final EmployeeRepository employeeRepository;
     private final ServiceTypeRepository serviceTypeRepository;
-    private final EmployeeComissionRepository employeeComissionRepository;
-    private final ComissionConfigRepository comissionConfigRepository;
     private final ComissionPaymentRepository comissionPaymentRepository;
+    private final CommissionRuleCache commissionRuleCache;
+    private final DailyCommissionSummaryService dailyCommissionSummaryService;
+    private final AuditLogService auditLogService;
 
     public PerformedServiceService(PerformedServiceRepository performedServiceRepository,
                                    EmployeeRepository employeeRepository,
                                    ServiceTypeRepository serviceTypeRepository,
-                                   EmployeeComissionRepository employeeComissionRepository,
-                                   ComissionConfigRepository comissionConfigRepository,
-                                   ComissionPaymentRepository comissionPaymentRepository) {
+                                   ComissionPaymentRepository comissionPaymentRepository,
+                                   CommissionRuleCache commissionRuleCache,
+                                   DailyCommissionSummaryService dailyCommissionSummaryService,
+                                   AuditLogService auditLogService) {
         this.performedServiceRepository = performedServiceRepository;
         this.employeeRepository = employeeRepository;
         this.serviceTypeRepository = serviceTypeRepository;
-        this.employeeComissionRepository = employeeComissionRepository;
-        this.comissionConfigRepository = comissionConfigRepository;
         this.comissionPaymentRepository = comissionPaymentRepository;
+        this.commissionRuleCache = commissionRuleCache;
+        this.dailyCommissionSummaryService = dailyCommissionSummaryService;
+        this.auditLogService = auditLogService;
     }
 
     @Transactional
@@ -56,30 +67,9 @@ public class PerformedServiceService {
         ServiceType serviceType = serviceTypeRepository.findById(dto.serviceTypeId())
                 .orElseThrow(() -> new ResourceNotFoundException("ServiceType not found with ID: " + dto.serviceTypeId()));
 
-        BigDecimal comissionPercentage = BigDecimal.ZERO;
-        boolean ruleFound = false;
-
-        Optional<EmployeeComission> employeeComissionOpt = employeeComissionRepository
-                .findByEmployeeIdAndServiceTypeId(employee.getId(), serviceType.getId());
-
-        if(employeeComissionOpt.isPresent()) {
-            comissionPercentage = employeeComissionOpt.get().getCustomPercentage();
-            ruleFound = true;
-        } else {
-            Optional<ComissionConfig> comissionConfigOpt = comissionConfigRepository.findByServiceTypeId(serviceType.getId());
-            if(comissionConfigOpt.isPresent()) {
-                comissionPercentage = comissionConfigOpt.get().getDefaultPercentage();
-                ruleFound = true;
-            }
-        }
-
-        if(!ruleFound) {
-            throw new CommissionRuleNotFoundException("Commission rule not found for Employee: " + employee.getId() + " and ServiceType: " + serviceType.getId());
-        }
+        BigDecimal comissionPercentage = calculateComissionPercentage(employee, serviceType);
 
-        BigDecimal calculatedAmount = dto.price()
-                .multiply(comissionPercentage.divide(new BigDecimal("100"), 4, BigDecimal.ROUND_HALF_UP))
-                .setScale(2, BigDecimal.ROUND_HALF_UP);
+        BigDecimal calculatedAmount = calculateComissionAmount(dto.price(), comissionPercentage);
 
         PerformedService performedService = PerformedService.builder()
                 .employee(employee)
@@ -91,33 +81,41 @@ public class PerformedServiceService {
                 .build();
 
         PerformedService savedService = performedServiceRepository.save(performedService);
+        dailyCommissionSummaryService.recordAdded(savedService);
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.CREATED, savedService.getId(),
+                "price=" + savedService.getPrice() + ", commission=" + savedService.getComissionAmount());
         return PerformedServiceResponseDTO.fromEntity(savedService);
     }
 
     @Transactional
     public PerformedServiceResponseDTO cancelPerformedService(UUID performedServiceId) {
-        PerformedService service = performedServiceRepository.findById(performedServiceId)
+        PerformedService service = performedServiceRepository.findByIdForUpdate(performedServiceId)
                 .orElseThrow(() -> new ResourceNotFoundException("PerformedService not found with ID: " + performedServiceId));
 
         if(service.getStatus() != ServiceStatus.COMMISSION_PENDING) {
             throw new BusinessRuleException("Performed Service cannot be cancelled. Status is not COMMISSION_PENDING. Current status: " + service.getStatus());
         }
 
+        DailyCommissionSummaryService.Contribution before = DailyCommissionSummaryService.Contribution.of(service);
         service.setStatus(ServiceStatus.CANCELLED);
         service.setComissionAmount(BigDecimal.ZERO);
         PerformedService cancelledService = performedServiceRepository.save(service);
+        dailyCommissionSummaryService.recordChanged(before, cancelledService);
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.CANCELLED, cancelledService.getId(),
+                "commission=" + before.comissionAmount());
         return PerformedServiceResponseDTO.fromEntity(cancelledService);
     }
 
     @Transactional
     public PerformedServiceResponseDTO updatePerformedService(UUID id, PerformedServiceUpdateRequestDTO dto) {
-        PerformedService service = performedServiceRepository.findById(id)
+        PerformedService service = performedServiceRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("PerformedService not found with ID: " + id));
 
         if(service.getStatus() == ServiceStatus.COMMISSION_PAID || service.getStatus() == ServiceStatus.CANCELLED) {
             throw new UpdatePerformedServiceException("cannot update an order that has already been paid or cancelled. Current status: " + service.getStatus());
         }
 
+        DailyCommissionSummaryService.Contribution before = DailyCommissionSummaryService.Contribution.of(service);
         boolean needsReCalculation = false;
 
         if(dto.price() != null && !service.getPrice().equals(dto.price())) {
@@ -131,46 +129,34 @@ public class PerformedServiceService {
 
         if(needsReCalculation){
             BigDecimal comissionPercentage = calculateComissionPercentage(service.getEmployee(), service.getServiceTypeId());
-            BigDecimal newCalculatedAmount = service.getPrice()
-                    .multiply(comissionPercentage.divide(new BigDecimal("100"), 4, BigDecimal.ROUND_HALF_UP))
-                    .setScale(2, BigDecimal.ROUND_HALF_UP);
+            BigDecimal newCalculatedAmount = calculateComissionAmount(service.getPrice(), comissionPercentage);
             service.setComissionAmount(newCalculatedAmount);
         }
 
         PerformedService updatedService = performedServiceRepository.save(service);
+        dailyCommissionSummaryService.recordChanged(before, updatedService);
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.UPDATED, updatedService.getId(),
+                "price=" + updatedService.getPrice() + ", commission=" + updatedService.getComissionAmount()
+                        + ", serviceDate=" + updatedService.getServiceDate());
         return PerformedServiceResponseDTO.fromEntity(updatedService);
 
     }
 
-    private BigDecimal calculateComissionPercentage(Employee employee, ServiceType serviceTypeId) {
-        BigDecimal comissionPercentage = BigDecimal.ZERO;
-        boolean ruleFound = false;
-
-        Optional<EmployeeComission> employeeComissionOpt = employeeComissionRepository
-                .findByEmployeeIdAndServiceTypeId(employee.getId(), serviceTypeId.getId());
-
-        if(employeeComissionOpt.isPresent()) {
-            comissionPercentage = employeeComissionOpt.get().getCustomPercentage();
-            ruleFound = true;
-        } else {
-            Optional<ComissionConfig> comissionConfigOpt = comissionConfigRepository.findByServiceTypeId(serviceTypeId.getId());
-            if(comissionConfigOpt.isPresent()) {
-                comissionPercentage = comissionConfigOpt.get().getDefaultPercentage();
-                ruleFound = true;
-            }
-        }
-
-        if(!ruleFound) {
-            throw new CommissionRuleNotFoundException("Commission rule not found for Employee: " + employee.getId()
-                    + " and ServiceType: " + serviceTypeId.getId());
-        }
+    public static BigDecimal calculateComissionAmount(BigDecimal price, BigDecimal comissionPercentage) {
+        return price
+                .multiply(comissionPercentage.divide(ONE_HUNDRED, 4, RoundingMode.HALF_UP))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
 
-        return comissionPercentage;
+    private BigDecimal calculateComissionPercentage(Employee employee, ServiceType serviceTypeId) {
+        return commissionRuleCache.findPercentage(employee.getId(), serviceTypeId.getId())
+                .orElseThrow(() -> new CommissionRuleNotFoundException("Commission rule not found for Employee: " + employee.getId()
+                        + " and ServiceType: " + serviceTypeId.getId()));
     }
 
     @Transactional
     public void deletePerformedService(UUID id) {
-        PerformedService performedService = performedServiceRepository.findById(id)
+        PerformedService performedService = performedServiceRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("PerformedService not found with ID: " + id));
 
         if(performedService.getStatus() == ServiceStatus.COMMISSION_PAID ||
@@ -180,6 +166,8 @@ public class PerformedServiceService {
         }
 
         performedServiceRepository.delete(performedService);
+        dailyCommissionSummaryService.recordRemoved(DailyCommissionSummaryService.Contribution.of(performedService));
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.DELETED, performedService.getId(), null);
     }
 
     public Page<PerformedServiceResponseDTO> getAllPerformedServices(Pageable pageable) {
@@ -196,50 +184,117 @@ public class PerformedServiceService {
             Pageable pageable,
             Authentication authentication) {
 
-        User authenticatedUser = (User) authentication.getPrincipal();
-        boolean isUserRole = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(role -> role.equals("ROLE_EMPLOYEE"));
+        Specification<PerformedService> spec = buildListingSpecification(employeeId, status, startDate, endDate, authentication);
 
-        UUID finalEmployeeId = employeeId;
+        return performedServiceRepository.findResponses(spec, pageable);
+    }
 
-        if (isUserRole && !authentication.getAuthorities().stream().anyMatch(
-                r -> r.getAuthority().equals("ROLE_ADMIN") || r.getAuthority().equals("ROLE_MANAGER"))) {
-            Employee employee = employeeRepository.findByUser_Id(authenticatedUser.getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Nenhum perfil de funcionário encontrado para o usuário: " + authenticatedUser.getUsername()));
-            finalEmployeeId = employee.getId();
+    /**
+     * Keyset listing ordered by (serviceDate, id). The cursor encodes the last row of the previous
+     * window, so deep pages cost the same as the first one and no count query is issued.
+     */
+    public PerformedServiceCursorPageDTO getPerformedServicesByCursor(
+            UUID employeeId,
+            ServiceStatus status,
+            LocalDate startDate,
+            LocalDate endDate,
+            String cursor,
+            int size,
+            Sort.Direction direction,
+            Authentication authentication) {
+
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessRuleException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE + ".");
         }
 
+        CursorKey after = decodeCursor(cursor);
+        Specification<PerformedService> spec = buildListingSpecification(employeeId, status, startDate, endDate, authentication);
+
+        // One extra row tells whether another window follows without running a count.
+        List<PerformedServiceResponseDTO> rows = performedServiceRepository.findResponsesAfter(
+                spec, after != null ? after.serviceDate() : null, after != null ? after.id() : null, direction, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<PerformedServiceResponseDTO> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
 
-        Specification<PerformedService> spec = Specification
+        return new PerformedServiceCursorPageDTO(content, content.size(), hasNext, nextCursor);
+    }
+
+    private Specification<PerformedService> buildListingSpecification(
+            UUID employeeId,
+            ServiceStatus status,
+            LocalDate startDate,
+            LocalDate endDate,
+            Authentication authentication) {
+
+        UUID finalEmployeeId = resolveVisibleEmployeeId(employeeId, authentication);
+
+        return Specification
                 .where(PerformedServiceSpecification.employeeIdEquals(finalEmployeeId))
                 .and(PerformedServiceSpecification.statusEquals(status))
                 .and(PerformedServiceSpecification.serviceDateGreaterThanOrEquals(startDate))
                 .and(PerformedServiceSpecification.serviceDateLessThanOrEquals(endDate));
+    }
+
+    /**
+     * Employees only ever see their own services, whatever employee was asked for; admins and
+     * managers get the requested employee, or everyone when it is null.
+     */
+    public UUID resolveVisibleEmployeeId(UUID employeeId, Authentication authentication) {
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) authentication.getPrincipal();
+        boolean isUserRole = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> role.equals("ROLE_EMPLOYEE"));
+
+        if (isUserRole && !authentication.getAuthorities().stream().anyMatch(
+                r -> r.getAuthority().equals("ROLE_ADMIN") || r.getAuthority().equals("ROLE_MANAGER"))) {
+            Employee employee = employeeRepository.findByUser_Id(authenticatedUser.id())
+                    .orElseThrow(() -> new ResourceNotFoundException("Nenhum perfil de funcionário encontrado para o usuário: " + authenticatedUser.username()));
+            return employee.getId();
+        }
+        return employeeId;
+    }
+
+    record CursorKey(LocalDate serviceDate, UUID id) {
+    }
 
+    static String encodeCursor(PerformedServiceResponseDTO lastService) {
+        String key = lastService.serviceDate() + "|" + lastService.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
 
-        Page<PerformedService> performedServicesPage = performedServiceRepository.findAll(spec, pageable);
-        return performedServicesPage.map(PerformedServiceResponseDTO::fromEntity);
+    static CursorKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            return new CursorKey(LocalDate.parse(key[0]), UUID.fromString(key[1]));
+        } catch (RuntimeException e) {
+            throw new BusinessRuleException("Invalid cursor.");
+        }
     }
 
     public PerformedServiceResponseDTO getPerformedServiceById(UUID id) {
-        PerformedService performedService = performedServiceRepository.findById(id)
+        return performedServiceRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("PerformedService not found with ID: " + id));
-        return PerformedServiceResponseDTO.fromEntity(performedService);
     }
 
     //payment
     @Transactional
     public PerformedServiceResponseDTO markCommissionAsPaid(UUID performedServiceId) {
-        PerformedService performedService = performedServiceRepository.findById(performedServiceId)
+        PerformedService performedService = performedServiceRepository.findByIdForUpdate(performedServiceId)
                 .orElseThrow(() -> new ResourceNotFoundException("PerformedService not found with ID: " + performedServiceId));
 
         if(performedService.getStatus() != ServiceStatus.COMMISSION_PENDING) {
             throw new BusinessRuleException("Cannot mark commission as paid. Service status is not COMMISSION_PENDING. Current status: " + performedService.getStatus());
         }
 
+        DailyCommissionSummaryService.Contribution before = DailyCommissionSummaryService.Contribution.of(performedService);
         performedService.setStatus(ServiceStatus.COMMISSION_PAID);
         PerformedService updatedPerformedService = performedServiceRepository.save(performedService);
+        dailyCommissionSummaryService.recordChanged(before, updatedPerformedService);
 
 
         //Create the CommissionPayment record
@@ -251,6 +306,8 @@ public class PerformedServiceService {
                 .paymentDate(LocalDateTime.now())
                 .build();
         comissionPaymentRepository.save(payment);
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.PAID, updatedPerformedService.getId(),
+                "amountPaid=" + payment.getAmountPaid());
 
         return PerformedServiceResponseDTO.fromEntity(updatedPerformedService);
     }
@@ -1,9 +1,7 @@
 package com.matheusmaciel.comissio.core.service;
 
-import com.matheusmaciel.comissio.core.model.register.Employee;
 import com.matheusmaciel.comissio.core.model.register.PerformedService;
 import com.matheusmaciel.comissio.core.model.register.ServiceStatus; // Ajuste o import
-import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -13,10 +11,9 @@ public class PerformedServiceSpecification {
         if (employeeId == null) {
             return null;
         }
-        return (root, query, criteriaBuilder) -> {
-            Join<PerformedService, Employee> employeeJoin = root.join("employee");
-            return criteriaBuilder.equal(employeeJoin.get("id"), employeeId);
-        };
+        // Compares the foreign key column, so no extra join is added to the query.
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("employee").get("id"), employeeId);
     }
 
     public static Specification<PerformedService> statusEquals(ServiceStatus status) {
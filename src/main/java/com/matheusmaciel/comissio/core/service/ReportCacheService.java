@@ -0,0 +1,157 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches rendered commission reports by (employee, period, format, data version). The data version
+ * is a fingerprint of the services in the period, so any write to them produces a new key and the
+ * old entry simply ages out; nothing has to be evicted explicitly. The same key backs the ETag,
+ * which lets clients revalidate without the report being rendered or sent again.
+ */
+@Service
+public class ReportCacheService {
+
+    public static final String CACHE_NAME = "report.cache";
+
+    private final PerformedServiceRepository performedServiceRepository;
+    private final Cache<ReportCacheKey, CachedReport> cache;
+    private final long maxEntryBytes;
+    private final Counter notModifiedResponses;
+
+    public ReportCacheService(PerformedServiceRepository performedServiceRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.report-cache.max-size:64MB}") DataSize maxSize,
+                              @Value("${app.report-cache.max-entry-size:4MB}") DataSize maxEntrySize,
+                              @Value("${app.report-cache.ttl:PT1H}") Duration ttl) {
+        this.performedServiceRepository = performedServiceRepository;
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ReportCacheKey key, CachedReport report) -> report.content().length)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        this.notModifiedResponses = Counter.builder("report.cache.not.modified")
+                .description("Report requests answered with 304 Not Modified")
+                .register(meterRegistry);
+        Gauge.builder("report.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of report cache lookups served from the cache")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ReportCacheKey keyFor(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate, String format) {
+        String dataVersion = performedServiceRepository.findReportDataVersion(employeeId, startDate, endDate);
+        return new ReportCacheKey(employeeId, employeeName, startDate, endDate, ReportFormat.fromParameter(format), dataVersion);
+    }
+
+    /**
+     * Serves the report from the cache, or streams a freshly rendered one while keeping a copy.
+     * Reports larger than {@code app.report-cache.max-entry-size} are streamed without being cached.
+     */
+    public StreamedReport getOrRender(ReportCacheKey key, Supplier<StreamedReport> renderer) {
+        CachedReport cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return new StreamedReport(cached.filename(), cached.contentType(),
+                    outputStream -> outputStream.write(cached.content()));
+        }
+
+        StreamedReport report = renderer.get();
+        return new StreamedReport(report.filename(), report.contentType(), outputStream -> {
+            CopyingOutputStream copyingStream = new CopyingOutputStream(outputStream, maxEntryBytes);
+            report.writer().writeTo(copyingStream);
+            byte[] content = copyingStream.copy();
+            if (content != null) {
+                cache.put(key, new CachedReport(content, report.filename(), report.contentType()));
+            }
+        });
+    }
+
+    public void recordNotModified() {
+        notModifiedResponses.increment();
+    }
+
+    public record ReportCacheKey(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate,
+                                 ReportFormat format, String dataVersion) {
+
+        public String etag() {
+            String source = String.join("|", employeeId.toString(), employeeName, startDate.toString(),
+                    endDate.toString(), format.name(), dataVersion);
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+                return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+
+    private record CachedReport(byte[] content, String filename, String contentType) {
+    }
+
+    /**
+     * Passes everything through to the response and keeps a copy until it grows past the limit.
+     */
+    private static final class CopyingOutputStream extends FilterOutputStream {
+
+        private final long limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private CopyingOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (copy != null) {
+                copy.write(b);
+                dropCopyIfTooLarge();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null) {
+                copy.write(b, off, len);
+                dropCopyIfTooLarge();
+            }
+        }
+
+        private void dropCopyIfTooLarge() {
+            if (copy.size() > limit) {
+                copy = null;
+            }
+        }
+
+        private byte[] copy() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.report.ReportDownload;
+import com.matheusmaciel.comissio.core.dto.report.ReportJobResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ReportJob;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import com.matheusmaciel.comissio.core.repository.ReportJobRepository;
+import com.matheusmaciel.comissio.infra.config.InstanceId;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Renders commission reports in the background on a bounded executor, so large reports never
+ * hold a request thread. Finished files are kept on local disk until the retention period
+ * expires and are downloaded separately, with byte-range support.
+ * <p>
+ * Like payroll jobs, an unfinished job is leased to the instance rendering it and only taken over
+ * once that lease goes stale.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportService reportService;
+    private final TaskExecutor reportJobExecutor;
+    private final Path storageDirectory;
+    private final Duration retention;
+    private final InstanceId instanceId;
+    private final Duration leaseTimeout;
+
+    public ReportJobService(ReportJobRepository reportJobRepository,
+                            ReportService reportService,
+                            @Qualifier("reportJobExecutor") TaskExecutor reportJobExecutor,
+                            @Value("${app.report-job.storage-directory:${java.io.tmpdir}/comissio-reports}") Path storageDirectory,
+                            @Value("${app.report-job.retention:PT24H}") Duration retention,
+                            InstanceId instanceId,
+                            @Value("${app.report-job.lease-timeout:PT1M}") Duration leaseTimeout) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportService = reportService;
+        this.reportJobExecutor = reportJobExecutor;
+        this.storageDirectory = storageDirectory;
+        this.retention = retention;
+        this.instanceId = instanceId;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public ReportJobResponseDTO startJob(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate,
+                                         ReportFormat format, User requestedBy) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("End date cannot be before start date.");
+        }
+
+        StreamedReport report = reportService.streamIndividualCommissionReport(format, employeeId, employeeName, startDate, endDate);
+        ReportJob job = reportJobRepository.save(ReportJob.builder()
+                .status(ReportJobStatus.QUEUED)
+                .employeeId(employeeId)
+                .employeeName(employeeName)
+                .startDate(startDate)
+                .endDate(endDate)
+                .format(format)
+                .filename(report.filename())
+                .contentType(report.contentType())
+                .createdBy(requestedBy)
+                .claimedBy(instanceId.value())
+                .heartbeatAt(LocalDateTime.now())
+                .build());
+
+        submit(job.getId());
+        return ReportJobResponseDTO.fromEntity(findJob(job.getId()));
+    }
+
+    public ReportJobResponseDTO getJob(UUID jobId, Authentication authentication) {
+        return ReportJobResponseDTO.fromEntity(findAccessibleJob(jobId, authentication));
+    }
+
+    public ReportDownload openDownload(UUID jobId, Authentication authentication) {
+        ReportJob job = findAccessibleJob(jobId, authentication);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new BusinessRuleException("Report is not ready yet. Current status: " + job.getStatus());
+        }
+
+        Path file = Path.of(job.getFilePath());
+        if (!Files.isReadable(file)) {
+            throw new ResourceNotFoundException("Report file is no longer available for job: " + jobId);
+        }
+        return new ReportDownload(new FileSystemResource(file), job.getFilename(), job.getContentType());
+    }
+
+    @Scheduled(fixedDelayString = "${app.report-job.heartbeat-interval:PT15S}")
+    public void renewLeases() {
+        reportJobRepository.renewLeases(instanceId.value(), LocalDateTime.now());
+    }
+
+    // The first run happens at startup and picks up the jobs of instances that stopped, this one included.
+    @Scheduled(fixedDelayString = "${app.report-job.heartbeat-interval:PT15S}")
+    public void resumeUnfinishedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(leaseTimeout);
+        List<ReportJob> staleJobs = reportJobRepository.findByStatusInAndHeartbeatAtBefore(
+                List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING), staleBefore);
+        for (ReportJob job : staleJobs) {
+            if (reportJobRepository.claim(job.getId(), instanceId.value(), now, staleBefore) == 0) {
+                continue;
+            }
+            log.info("Resuming report job {}", job.getId());
+            submit(job.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.report-job.cleanup-interval:PT1H}")
+    public void deleteExpiredReports() {
+        List<ReportJob> expiredJobs = reportJobRepository.findByFinishedAtBefore(LocalDateTime.now().minus(retention));
+        for (ReportJob job : expiredJobs) {
+            if (job.getFilePath() != null) {
+                try {
+                    Files.deleteIfExists(Path.of(job.getFilePath()));
+                } catch (IOException e) {
+                    log.warn("Could not delete expired report file {}", job.getFilePath(), e);
+                }
+            }
+        }
+        reportJobRepository.deleteAll(expiredJobs);
+    }
+
+    private void submit(UUID jobId) {
+        try {
+            reportJobExecutor.execute(() -> processJob(jobId));
+        } catch (TaskRejectedException e) {
+            reportJobRepository.markFailed(jobId, instanceId.value(), "Report queue is full, try again later.", LocalDateTime.now());
+        }
+    }
+
+    void processJob(UUID jobId) {
+        Path partialFile = storageDirectory.resolve(jobId + ".part");
+        try {
+            ReportJob job = findJob(jobId);
+            if (reportJobRepository.markRunning(jobId, instanceId.value(), LocalDateTime.now()) == 0) {
+                log.info("Report job {} was taken over by another instance, skipping it", jobId);
+                return;
+            }
+
+            StreamedReport report = reportService.streamIndividualCommissionReport(job.getFormat(), job.getEmployeeId(),
+                    job.getEmployeeName(), job.getStartDate(), job.getEndDate());
+            Files.createDirectories(storageDirectory);
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(partialFile))) {
+                report.writer().writeTo(outputStream);
+            }
+
+            // Only finished files get their final name, so a download never sees a partial report.
+            Path reportFile = storageDirectory.resolve(jobId + (job.getFormat() == ReportFormat.EXCEL ? ".xlsx" : ".pdf"));
+            Files.move(partialFile, reportFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            reportJobRepository.markCompleted(jobId, instanceId.value(), reportFile.toString(), Files.size(reportFile),
+                    LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Report job {} failed", jobId, e);
+            try {
+                Files.deleteIfExists(partialFile);
+            } catch (IOException deleteFailure) {
+                log.warn("Could not delete partial report file {}", partialFile, deleteFailure);
+            }
+            reportJobRepository.markFailed(jobId, instanceId.value(), "Failed to generate report: " + e.getMessage(),
+                    LocalDateTime.now());
+        }
+    }
+
+    private ReportJob findJob(UUID jobId) {
+        return reportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Report job not found with ID: " + jobId));
+    }
+
+    // Jobs of other users are reported as missing rather than forbidden, so their ids are not disclosed.
+    private ReportJob findAccessibleJob(UUID jobId, Authentication authentication) {
+        ReportJob job = findJob(jobId);
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) authentication.getPrincipal();
+
+        boolean isAdminOrManager = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(role -> role.equals("ROLE_ADMIN") || role.equals("ROLE_MANAGER"));
+        boolean isOwner = job.getCreatedBy() != null && job.getCreatedBy().getId().equals(authenticatedUser.id());
+
+        if (!isAdminOrManager && !isOwner) {
+            throw new ResourceNotFoundException("Report job not found with ID: " + jobId);
+        }
+        return job;
+    }
+}
@@ -1,42 +1,121 @@
 package com.matheusmaciel.comissio.core.service;
 
 import com.matheusmaciel.comissio.core.dto.report.ReportFile;
-import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.dto.report.ReportRow;
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
 import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Renders individual commission reports. Lines are read through a projection of the printed
+ * columns and streamed from the database in chunks of {@code app.report.fetch-size} rows, and the
+ * period totals come from one aggregate over daily_commission_summary, so memory follows the
+ * page being written rather than the length of the period. Both reads share one read-only,
+ * repeatable-read transaction and therefore see the same snapshot.
+ */
 @Service
 public class ReportService {
 
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+    private static final String EXCEL_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String[] EXCEL_COLUMNS = {"Data Serviço", "Serviço", "Valor Serviço (R$)", "Comissão (R$)", "Status"};
+    private static final int EXCEL_ROW_WINDOW = 100;
+    private static final int MAX_EXCEL_COLUMN_WIDTH = 255;
+
     private final PerformedServiceRepository performedServiceRepository;
+    private final CommissionAnalyticsRepository commissionAnalyticsRepository;
+    private final TransactionTemplate reportTransaction;
+    private final int fetchSize;
+    private final long pdfMaxMainMemoryBytes;
+    private final String pdfScratchDirectory;
 
-    public ReportService(PerformedServiceRepository performedServiceRepository) {
+    public ReportService(PerformedServiceRepository performedServiceRepository,
+                         CommissionAnalyticsRepository commissionAnalyticsRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.report.fetch-size:500}") int fetchSize,
+                         @Value("${app.report.pdf.max-main-memory:16MB}") DataSize pdfMaxMainMemory,
+                         @Value("${app.report.pdf.scratch-directory:}") String pdfScratchDirectory) {
         this.performedServiceRepository = performedServiceRepository;
+        this.commissionAnalyticsRepository = commissionAnalyticsRepository;
+        this.reportTransaction = new TransactionTemplate(transactionManager);
+        this.reportTransaction.setReadOnly(true);
+        this.reportTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.fetchSize = fetchSize;
+        this.pdfMaxMainMemoryBytes = pdfMaxMainMemory.toBytes();
+        this.pdfScratchDirectory = pdfScratchDirectory;
+    }
+
+    public StreamedReport streamIndividualCommissionReport(ReportFormat format, UUID employeeId, String employeeName,
+                                                           LocalDate startDate, LocalDate endDate) {
+        return switch (format) {
+            case EXCEL -> streamIndividualCommissionReportExcel(employeeId, employeeName, startDate, endDate);
+            case PDF -> streamIndividualCommissionReportPdf(employeeId, employeeName, startDate, endDate);
+        };
+    }
+
+    public ReportFile generateIndividualCommissionReport(ReportFormat format, UUID employeeId, String employeeName,
+                                                         LocalDate startDate, LocalDate endDate) throws IOException {
+        return toReportFile(streamIndividualCommissionReport(format, employeeId, employeeName, startDate, endDate));
     }
 
     public ReportFile generateIndividualCommissionReportPdf(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate) throws IOException {
-        List<PerformedService> services = performedServiceRepository.findByEmployeeIdAndServiceDateBetween(employeeId, startDate, endDate);
-        byte[] reportBytes;
+        return toReportFile(streamIndividualCommissionReportPdf(employeeId, employeeName, startDate, endDate));
+    }
+
+    /**
+     * PDF report saved straight to the destination stream. Page content beyond
+     * {@code app.report.pdf.max-main-memory} is kept in a PDFBox scratch file instead of the heap,
+     * so a large document is never held in memory as a whole.
+     */
+    public StreamedReport streamIndividualCommissionReportPdf(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate) {
+        return new StreamedReport(reportFilename(employeeName, "pdf"), PDF_CONTENT_TYPE,
+                outputStream -> writeIndividualCommissionReportPdf(employeeId, employeeName, startDate, endDate, outputStream));
+    }
 
-        try (PDDocument document = new PDDocument()) {
+    private void writeIndividualCommissionReportPdf(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate,
+                                                    OutputStream outputStream) throws IOException {
+        inReportTransaction(() -> {
+            try (Stream<ReportRow> rows = performedServiceRepository.streamReportRows(employeeId, startDate, endDate, fetchSize)) {
+                CommissionAnalyticsRepository.TotalsView totals =
+                        commissionAnalyticsRepository.findTotals(startDate, endDate, employeeId, null);
+                writePdf(rows.iterator(), totals, employeeName, startDate, endDate, outputStream);
+            }
+        });
+    }
+
+    private void writePdf(Iterator<ReportRow> rows, CommissionAnalyticsRepository.TotalsView totals, String employeeName,
+                          LocalDate startDate, LocalDate endDate, OutputStream outputStream) throws IOException {
+        try (PDDocument document = new PDDocument(pdfMemoryUsageSetting().streamCache)) {
             PDPage page = new PDPage();
             document.addPage(page);
             PDPageContentStream contentStream = new PDPageContentStream(document, page);
@@ -54,10 +133,8 @@ public class ReportService {
                 drawTableHeader(contentStream, yPosition, fontBold);
                 yPosition -= 20;
 
-                BigDecimal totalServicesPrice = BigDecimal.ZERO;
-                BigDecimal totalCommissionAmount = BigDecimal.ZERO;
-
-                for (PerformedService service : services) {
+                while (rows.hasNext()) {
+                    ReportRow row = rows.next();
                     if (yPosition < 50) {
                         contentStream.close();
                         page = new PDPage();
@@ -69,10 +146,8 @@ public class ReportService {
                         drawFooter(contentStream, fontPlain);
                         yPosition = 660;
                     }
-                    drawTableRow(contentStream, yPosition, fontPlain, service, dateFormatter, currencyFormatter);
+                    drawTableRow(contentStream, yPosition, fontPlain, row, dateFormatter, currencyFormatter);
                     yPosition -= 20;
-                    totalServicesPrice = totalServicesPrice.add(service.getPrice());
-                    totalCommissionAmount = totalCommissionAmount.add(service.getComissionAmount());
                 }
 
                 yPosition -= 20;
@@ -84,28 +159,43 @@ public class ReportService {
                     yPosition = 750;
                     drawFooter(contentStream, fontPlain);
                 }
-                drawSummary(contentStream, yPosition, fontBold, fontPlain, totalServicesPrice, totalCommissionAmount, currencyFormatter);
+                drawSummary(contentStream, yPosition, fontBold, fontPlain, totals.getTotalPrice(), totals.getTotalCommission(), currencyFormatter);
 
             } finally {
                 contentStream.close();
             }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             document.save(outputStream);
-            reportBytes = outputStream.toByteArray();
         }
-
-        String sanitizedEmployeeName = employeeName.replaceAll("[^a-zA-Z0-9.\\-]", "_");
-        String filename = "comissao_" + sanitizedEmployeeName + ".pdf";
-        return new ReportFile(reportBytes, filename, "application/pdf");
     }
 
     public ReportFile generateIndividualCommissionReportExcel(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate) throws IOException {
-        List<PerformedService> services = performedServiceRepository.findByEmployeeIdAndServiceDateBetween(employeeId, startDate, endDate);
-        byte[] reportBytes;
+        return toReportFile(streamIndividualCommissionReportExcel(employeeId, employeeName, startDate, endDate));
+    }
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            XSSFSheet sheet = workbook.createSheet("Comissões - " + employeeName);
+    /**
+     * Excel report written row by row through an {@link SXSSFWorkbook}: only the last
+     * {@value #EXCEL_ROW_WINDOW} rows stay in memory, and column widths are computed from the data
+     * while writing instead of measuring every cell with autoSizeColumn.
+     */
+    public StreamedReport streamIndividualCommissionReportExcel(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate) {
+        return new StreamedReport(reportFilename(employeeName, "xlsx"), EXCEL_CONTENT_TYPE,
+                outputStream -> writeIndividualCommissionReportExcel(employeeId, employeeName, startDate, endDate, outputStream));
+    }
+
+    private void writeIndividualCommissionReportExcel(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate,
+                                                      OutputStream outputStream) throws IOException {
+        inReportTransaction(() -> {
+            try (Stream<ReportRow> rows = performedServiceRepository.streamReportRows(employeeId, startDate, endDate, fetchSize)) {
+                writeExcel(rows.iterator(), employeeName, outputStream);
+            }
+        });
+    }
+
+    private void writeExcel(Iterator<ReportRow> rows, String employeeName, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        try {
+            Sheet sheet = workbook.createSheet("Comissões - " + employeeName);
 
             Font headerFont = workbook.createFont();
             headerFont.setBold(true);
@@ -118,48 +208,97 @@ public class ReportService {
             CellStyle dateCellStyle = workbook.createCellStyle();
             dateCellStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/MM/yyyy"));
 
+            NumberFormat currencyFormatter = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
+            int[] columnWidths = new int[EXCEL_COLUMNS.length];
+
             Row headerRow = sheet.createRow(0);
-            String[] columns = {"Data Serviço", "Serviço", "Valor Serviço (R$)", "Comissão (R$)", "Status"};
-            for (int i = 0; i < columns.length; i++) {
+            for (int i = 0; i < EXCEL_COLUMNS.length; i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(columns[i]);
+                cell.setCellValue(EXCEL_COLUMNS[i]);
                 cell.setCellStyle(headerCellStyle);
+                columnWidths[i] = EXCEL_COLUMNS[i].length();
             }
+            columnWidths[0] = Math.max(columnWidths[0], "dd/MM/yyyy".length());
 
             int rowNum = 1;
-            for (PerformedService service : services) {
+            while (rows.hasNext()) {
+                ReportRow service = rows.next();
                 Row row = sheet.createRow(rowNum++);
                 Cell dateCell = row.createCell(0);
-                dateCell.setCellValue(service.getServiceDate());
+                dateCell.setCellValue(service.serviceDate());
                 dateCell.setCellStyle(dateCellStyle);
-                row.createCell(1).setCellValue(service.getServiceTypeId().getName());
+                String serviceName = service.serviceTypeName();
+                row.createCell(1).setCellValue(serviceName);
                 Cell priceCell = row.createCell(2);
-                priceCell.setCellValue(service.getPrice().doubleValue());
+                priceCell.setCellValue(service.price().doubleValue());
                 priceCell.setCellStyle(currencyCellStyle);
                 Cell comissionCell = row.createCell(3);
-                comissionCell.setCellValue(service.getComissionAmount().doubleValue());
+                comissionCell.setCellValue(service.comissionAmount().doubleValue());
                 comissionCell.setCellStyle(currencyCellStyle);
-                String statusText;
-                switch (service.getStatus()) {
-                    case COMMISSION_PAID -> statusText = "Pago";
-                    case COMMISSION_PENDING -> statusText = "Pendente";
-                    case CANCELLED -> statusText = "Cancelado";
-                    default -> statusText = "N/A";
-                }
+                String statusText = statusLabel(service.status());
                 row.createCell(4).setCellValue(statusText);
+
+                columnWidths[1] = Math.max(columnWidths[1], serviceName.length());
+                columnWidths[2] = Math.max(columnWidths[2], currencyFormatter.format(service.price()).length());
+                columnWidths[3] = Math.max(columnWidths[3], currencyFormatter.format(service.comissionAmount()).length());
+                columnWidths[4] = Math.max(columnWidths[4], statusText.length());
             }
 
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
+            for (int i = 0; i < columnWidths.length; i++) {
+                sheet.setColumnWidth(i, Math.min(columnWidths[i] + 2, MAX_EXCEL_COLUMN_WIDTH) * 256);
             }
 
             workbook.write(outputStream);
-            reportBytes = outputStream.toByteArray();
+        } finally {
+            // Removes the temporary file holding the rows already flushed out of the window.
+            workbook.dispose();
+            workbook.close();
         }
+    }
+
+    // The row stream needs an open connection, so the whole render runs inside the report transaction.
+    private void inReportTransaction(ReportBody body) throws IOException {
+        try {
+            reportTransaction.executeWithoutResult(status -> {
+                try {
+                    body.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
+    @FunctionalInterface
+    private interface ReportBody {
+        void run() throws IOException;
+    }
+
+    private MemoryUsageSetting pdfMemoryUsageSetting() {
+        MemoryUsageSetting setting = MemoryUsageSetting.setupMixed(pdfMaxMainMemoryBytes);
+        return pdfScratchDirectory.isBlank() ? setting : setting.setTempDir(new File(pdfScratchDirectory));
+    }
+
+    // Used where the whole file is needed at once, such as e-mail attachments.
+    private static ReportFile toReportFile(StreamedReport report) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        report.writer().writeTo(outputStream);
+        return new ReportFile(outputStream.toByteArray(), report.filename(), report.contentType());
+    }
+
+    private static String reportFilename(String employeeName, String extension) {
         String sanitizedEmployeeName = employeeName.replaceAll("[^a-zA-Z0-9.\\-]", "_");
-        String filename = "comissao_" + sanitizedEmployeeName + ".xlsx";
-        return new ReportFile(reportBytes, filename, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        return "comissao_" + sanitizedEmployeeName + "." + extension;
+    }
+
+    private static String statusLabel(ServiceStatus status) {
+        return switch (status) {
+            case COMMISSION_PAID -> "Pago";
+            case COMMISSION_PENDING -> "Pendente";
+            case CANCELLED -> "Cancelado";
+        };
     }
 
     private void drawPageHeader(PDPageContentStream contentStream, String employeeName, LocalDate startDate, LocalDate endDate, PDType1Font fontBold, PDType1Font fontPlain, DateTimeFormatter dateFormatter) throws IOException {
@@ -193,28 +332,22 @@ public class ReportService {
         contentStream.showText("Status");
         contentStream.endText();
     }
-    private void drawTableRow(PDPageContentStream contentStream, float yPosition, PDType1Font font, PerformedService service, DateTimeFormatter dateFormatter, NumberFormat currencyFormatter) throws IOException {
-        String statusText;
-        switch (service.getStatus()) {
-            case COMMISSION_PAID -> statusText = "Pago";
-            case COMMISSION_PENDING -> statusText = "Pendente";
-            case CANCELLED -> statusText = "Cancelado";
-            default -> statusText = "N/A";
-        }
+    private void drawTableRow(PDPageContentStream contentStream, float yPosition, PDType1Font font, ReportRow service, DateTimeFormatter dateFormatter, NumberFormat currencyFormatter) throws IOException {
+        String statusText = statusLabel(service.status());
         contentStream.setFont(font, 10);
         contentStream.beginText();
         contentStream.newLineAtOffset(50, yPosition);
-        contentStream.showText(service.getServiceDate().format(dateFormatter));
+        contentStream.showText(service.serviceDate().format(dateFormatter));
         contentStream.newLineAtOffset(70, 0);
-        String serviceName = service.getServiceTypeId().getName();
+        String serviceName = service.serviceTypeName();
         if (serviceName.length() > 35) {
             serviceName = serviceName.substring(0, 32) + "...";
         }
         contentStream.showText(serviceName);
         contentStream.newLineAtOffset(230, 0);
-        contentStream.showText(currencyFormatter.format(service.getPrice()));
+        contentStream.showText(currencyFormatter.format(service.price()));
         contentStream.newLineAtOffset(90, 0);
-        contentStream.showText(currencyFormatter.format(service.getComissionAmount()));
+        contentStream.showText(currencyFormatter.format(service.comissionAmount()));
         contentStream.newLineAtOffset(90, 0);
         contentStream.showText(statusText);
         contentStream.endText();
@@ -17,9 +17,11 @@ import java.util.stream.Collectors;
 public class ServiceTypeService {
 
     private final ServiceTypeRepository serviceTypeRepository;
+    private final CommissionRuleCache commissionRuleCache;
 
-    public ServiceTypeService(ServiceTypeRepository serviceTypeRepository) {
+    public ServiceTypeService(ServiceTypeRepository serviceTypeRepository, CommissionRuleCache commissionRuleCache) {
         this.serviceTypeRepository = serviceTypeRepository;
+        this.commissionRuleCache = commissionRuleCache;
     }
 
     public ServiceType execute(ServiceType serviceType) {
@@ -76,6 +78,7 @@ public class ServiceTypeService {
             throw new ResourceNotFoundException("ServiceType not found with ID: " + id);
         }
         this.serviceTypeRepository.deleteById(id);
+        commissionRuleCache.evictServiceType(id);
     }
 
 
@@ -0,0 +1,209 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.dto.report.ReportFile;
+import com.matheusmaciel.comissio.core.dto.report.StatementEmailBatchResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.StatementEmailRecipientStatusDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import com.matheusmaciel.comissio.core.model.register.StatementEmailBatch;
+import com.matheusmaciel.comissio.core.model.register.StatementEmailRecipient;
+import com.matheusmaciel.comissio.core.model.register.StatusEmployee;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.StatementEmailBatchRepository;
+import com.matheusmaciel.comissio.core.repository.StatementEmailRecipientRepository;
+import com.matheusmaciel.comissio.infra.config.InstanceId;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * E-mails every active employee their commission statement for a period. The request only records
+ * the batch; statements are rendered in parallel on the statement render executor and each one is
+ * queued in the e-mail outbox as soon as it is ready, so the SMTP side is paced by
+ * {@link EmailOutboxDispatcher} and its messages-per-second limit. Per-recipient delivery status is
+ * read from the outbox messages the batch produced.
+ * <p>
+ * Like payroll jobs, an unfinished batch is leased to the instance rendering it and only taken over
+ * once that lease goes stale.
+ */
+@Service
+public class StatementEmailService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementEmailService.class);
+
+    private final StatementEmailBatchRepository batchRepository;
+    private final StatementEmailRecipientRepository recipientRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ReportService reportService;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor batchExecutor;
+    private final TaskExecutor renderExecutor;
+    private final InstanceId instanceId;
+    private final Duration leaseTimeout;
+
+    public StatementEmailService(StatementEmailBatchRepository batchRepository,
+                                 StatementEmailRecipientRepository recipientRepository,
+                                 EmployeeRepository employeeRepository,
+                                 ReportService reportService,
+                                 EmailService emailService,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("statementEmailBatchExecutor") TaskExecutor batchExecutor,
+                                 @Qualifier("statementEmailRenderExecutor") TaskExecutor renderExecutor,
+                                 InstanceId instanceId,
+                                 @Value("${app.statement-email.lease-timeout:PT1M}") Duration leaseTimeout) {
+        this.batchRepository = batchRepository;
+        this.recipientRepository = recipientRepository;
+        this.employeeRepository = employeeRepository;
+        this.reportService = reportService;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchExecutor = batchExecutor;
+        this.renderExecutor = renderExecutor;
+        this.instanceId = instanceId;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public StatementEmailBatchResponseDTO startBatch(ReportFormat format, LocalDate startDate, LocalDate endDate,
+                                                     User requestedBy) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessRuleException("End date cannot be before start date.");
+        }
+
+        List<Employee> employees = employeeRepository.findAllWithUserByStatus(StatusEmployee.ACTIVE).stream()
+                .filter(employee -> employee.getUser().getEmail() != null && !employee.getUser().getEmail().isBlank())
+                .toList();
+        if (employees.isEmpty()) {
+            throw new BusinessRuleException("There are no active employees with an e-mail address.");
+        }
+
+        StatementEmailBatch batch = transactionTemplate.execute(status -> {
+            StatementEmailBatch saved = batchRepository.save(StatementEmailBatch.builder()
+                    .status(ReportJobStatus.QUEUED)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .format(format)
+                    .recipientCount(employees.size())
+                    .createdBy(requestedBy)
+                    .claimedBy(instanceId.value())
+                    .heartbeatAt(LocalDateTime.now())
+                    .build());
+            recipientRepository.saveAll(employees.stream()
+                    .map(employee -> StatementEmailRecipient.builder()
+                            .batchId(saved.getId())
+                            .employeeId(employee.getId())
+                            .employeeName(employee.getUser().getName())
+                            .recipient(employee.getUser().getEmail())
+                            .build())
+                    .toList());
+            return saved;
+        });
+
+        submit(batch.getId());
+        return getBatch(batch.getId());
+    }
+
+    public StatementEmailBatchResponseDTO getBatch(UUID batchId) {
+        StatementEmailBatch batch = findBatch(batchId);
+        List<StatementEmailRecipientStatusDTO> recipients = recipientRepository.findRecipientStatuses(batchId).stream()
+                .map(StatementEmailRecipientStatusDTO::fromView)
+                .toList();
+        return StatementEmailBatchResponseDTO.fromEntity(batch, recipients);
+    }
+
+    @Scheduled(fixedDelayString = "${app.statement-email.heartbeat-interval:PT15S}")
+    public void renewLeases() {
+        batchRepository.renewLeases(instanceId.value(), LocalDateTime.now());
+    }
+
+    // The first run happens at startup and picks up the batches of instances that stopped, this one included.
+    @Scheduled(fixedDelayString = "${app.statement-email.heartbeat-interval:PT15S}")
+    public void resumeUnfinishedBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(leaseTimeout);
+        List<StatementEmailBatch> staleBatches = batchRepository.findByStatusInAndHeartbeatAtBefore(
+                List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING), staleBefore);
+        for (StatementEmailBatch batch : staleBatches) {
+            if (batchRepository.claim(batch.getId(), instanceId.value(), now, staleBefore) == 0) {
+                continue;
+            }
+            log.info("Resuming statement e-mail batch {}", batch.getId());
+            submit(batch.getId());
+        }
+    }
+
+    private void submit(UUID batchId) {
+        try {
+            batchExecutor.execute(() -> processBatch(batchId));
+        } catch (TaskRejectedException e) {
+            batchRepository.markFailed(batchId, instanceId.value(), "Statement e-mail queue is full, try again later.",
+                    LocalDateTime.now());
+        }
+    }
+
+    // Only recipients not yet queued are rendered, so a batch resumed after a restart sends nobody twice.
+    void processBatch(UUID batchId) {
+        try {
+            StatementEmailBatch batch = findBatch(batchId);
+            if (batchRepository.markRunning(batchId, instanceId.value(), LocalDateTime.now()) == 0) {
+                log.info("Statement e-mail batch {} was taken over by another instance, skipping it", batchId);
+                return;
+            }
+
+            List<StatementEmailRecipient> pending =
+                    recipientRepository.findByBatchIdAndOutboxMessageIdIsNullAndErrorMessageIsNull(batchId);
+            CompletableFuture<?>[] statements = pending.stream()
+                    .map(recipient -> CompletableFuture.runAsync(() -> queueStatement(batch, recipient), renderExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(statements).join();
+
+            batchRepository.markCompleted(batchId, instanceId.value(), LocalDateTime.now());
+            log.info("Statement e-mail batch {} queued {} statements", batchId, pending.size());
+        } catch (RuntimeException e) {
+            log.error("Statement e-mail batch {} failed", batchId, e);
+            batchRepository.markFailed(batchId, instanceId.value(), e.getMessage(), LocalDateTime.now());
+        }
+    }
+
+    // The outbox message and the recipient's link to it are written together, so a statement is
+    // either queued and tracked or left for the next attempt. A recipient another instance already
+    // queued keeps that message and the one queued here is rolled back.
+    private void queueStatement(StatementEmailBatch batch, StatementEmailRecipient recipient) {
+        try {
+            ReportFile statement = reportService.generateIndividualCommissionReport(batch.getFormat(),
+                    recipient.getEmployeeId(), recipient.getEmployeeName(), batch.getStartDate(), batch.getEndDate());
+            transactionTemplate.executeWithoutResult(status -> {
+                UUID messageId = emailService.queueCommissionReport(recipient.getRecipient(), recipient.getEmployeeName(), statement);
+                if (recipientRepository.markQueued(recipient.getId(), messageId) == 0) {
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Statement for employee {} in batch {} could not be queued", recipient.getEmployeeId(), batch.getId(), e);
+            recipientRepository.markRenderFailed(recipient.getId(), e.getMessage());
+        }
+    }
+
+    private StatementEmailBatch findBatch(UUID batchId) {
+        return batchRepository.findById(batchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Statement e-mail batch not found with ID: " + batchId));
+    }
+}
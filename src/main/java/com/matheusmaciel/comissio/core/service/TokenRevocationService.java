@@ -0,0 +1,200 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.matheusmaciel.comissio.core.model.access.RevokedToken;
+import com.matheusmaciel.comissio.core.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revokes JWTs before they expire, one token (logout) or every token a user holds (deactivation,
+ * password reset). Revocations are stored in {@code revoked_tokens}; the per-request check runs
+ * against an in-memory copy fronted by a Bloom filter, so a token that was never revoked is
+ * cleared without touching the exact sets or the database.
+ * <p>
+ * Revocations made on this instance apply immediately. Those made by other instances are picked
+ * up by an incremental refresh every {@code app.token-revocation.refresh-interval}, which re-reads
+ * rows created since the previous refresh minus {@code app.token-revocation.refresh-overlap} to
+ * tolerate clock skew and late commits. Expired rows are purged and the copy rebuilt periodically.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration userRevocationRetention;
+    private final Duration refreshOverlap;
+    private final int expectedEntries;
+    private final Counter deniedRequests;
+
+    private volatile DenyList denyList;
+    private volatile LocalDateTime lastRefreshAt = LocalDateTime.MIN;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.token-revocation.user-revocation-retention:PT24H}") Duration userRevocationRetention,
+                                  @Value("${app.token-revocation.refresh-overlap:PT1M}") Duration refreshOverlap,
+                                  @Value("${app.token-revocation.expected-entries:10000}") int expectedEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRevocationRetention = userRevocationRetention;
+        this.refreshOverlap = refreshOverlap;
+        this.expectedEntries = expectedEntries;
+        this.denyList = new DenyList(expectedEntries);
+        this.deniedRequests = Counter.builder("token.revocation.denied")
+                .description("Requests rejected because their token was revoked")
+                .register(meterRegistry);
+        Gauge.builder("token.revocation.entries", this, service -> service.denyList.size())
+                .description("Revoked tokens and users held in the in-memory deny list")
+                .register(meterRegistry);
+    }
+
+    // Loaded before the application serves requests, so no revoked token slips through after a restart.
+    @PostConstruct
+    public void reload() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RevokedToken> revocations = revokedTokenRepository.findByExpiresAtAfter(startedAt);
+        DenyList rebuilt = new DenyList(Math.max(expectedEntries, revocations.size() * 2));
+        revocations.forEach(rebuilt::add);
+        denyList = rebuilt;
+        lastRefreshAt = startedAt;
+    }
+
+    public void revokeToken(UUID tokenId, UUID userId, Instant expiresAt, String reason) {
+        // Tokens issued before they carried an id can only be revoked together with the user's other tokens
+        if (tokenId == null) {
+            revokeUser(userId, reason);
+            return;
+        }
+
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .userId(userId)
+                    .revokedAt(LocalDateTime.now())
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                    .reason(reason)
+                    .build());
+        }
+        denyList.addToken(tokenId);
+    }
+
+    /**
+     * Revokes every token of the user issued up to now. Tokens issued afterwards, such as the one
+     * from the user's next login, stay valid.
+     */
+    public void revokeUser(UUID userId, String reason) {
+        LocalDateTime revokedAt = LocalDateTime.now();
+        RevokedToken revocation = revokedTokenRepository.save(RevokedToken.builder()
+                .userId(userId)
+                .revokedAt(revokedAt)
+                .expiresAt(revokedAt.plus(userRevocationRetention))
+                .reason(reason)
+                .build());
+        denyList.add(revocation);
+        log.info("Revoked all tokens of user {} ({})", userId, reason);
+    }
+
+    /**
+     * @param tokenId  the token's id, or null for tokens issued without one
+     * @param issuedAt the token's issue time, or null for tokens issued without one
+     */
+    public boolean isRevoked(UUID tokenId, UUID userId, Instant issuedAt) {
+        if (denyList.isRevoked(tokenId, userId, issuedAt)) {
+            deniedRequests.increment();
+            return true;
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.token-revocation.refresh-interval:PT5S}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RevokedToken> revocations = revokedTokenRepository.findByCreatedAtGreaterThanEqualAndExpiresAtAfter(
+                lastRefreshAt.minus(refreshOverlap), startedAt);
+        DenyList current = denyList;
+        revocations.forEach(current::add);
+        lastRefreshAt = startedAt;
+
+        // Past its expected size the filter answers "maybe" too often, so it is rebuilt larger.
+        if (current.size() > current.capacity()) {
+            reload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.token-revocation.cleanup-interval:PT1H}")
+    public void deleteExpiredRevocations() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired token revocations", deleted);
+        }
+        reload();
+    }
+
+    private static final class DenyList {
+
+        private final UuidBloomFilter filter;
+        private final int capacity;
+        private final Set<UUID> tokenIds = ConcurrentHashMap.newKeySet();
+        private final Map<UUID, Instant> usersRevokedAt = new ConcurrentHashMap<>();
+
+        private DenyList(int capacity) {
+            this.filter = UuidBloomFilter.create(capacity, FALSE_POSITIVE_PROBABILITY);
+            this.capacity = capacity;
+        }
+
+        // The exact entry is written before the filter bit, so a reader that passes the filter finds it.
+        void add(RevokedToken revocation) {
+            if (revocation.getTokenId() != null) {
+                addToken(revocation.getTokenId());
+            } else {
+                Instant revokedAt = revocation.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant();
+                usersRevokedAt.merge(revocation.getUserId(), revokedAt, (current, added) -> added.isAfter(current) ? added : current);
+                filter.put(revocation.getUserId());
+            }
+        }
+
+        void addToken(UUID tokenId) {
+            tokenIds.add(tokenId);
+            filter.put(tokenId);
+        }
+
+        // Issue times have second precision, so a token issued within the same second as a user
+        // revocation counts as issued before it.
+        boolean isRevoked(UUID tokenId, UUID userId, Instant issuedAt) {
+            if (tokenId != null && filter.mightContain(tokenId) && tokenIds.contains(tokenId)) {
+                return true;
+            }
+            if (userId != null && filter.mightContain(userId)) {
+                Instant revokedAt = usersRevokedAt.get(userId);
+                return revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt));
+            }
+            return false;
+        }
+
+        int size() {
+            return tokenIds.size() + usersRevokedAt.size();
+        }
+
+        int capacity() {
+            return capacity;
+        }
+    }
+}
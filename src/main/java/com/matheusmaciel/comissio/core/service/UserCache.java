@@ -0,0 +1,67 @@
+package com.matheusmaciel.comissio.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.repository.UserRepository;
+import com.matheusmaciel.comissio.infra.exception.user.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Small cache of {@link User} entities for the few endpoints that need the full user behind an
+ * {@link AuthenticatedUser}, typically to record who started a job. Entries are detached copies:
+ * use them as references or to read fields, never to modify the user. Writers must call
+ * {@link #evict}; the eviction is repeated after commit like in {@link CommissionRuleCache}.
+ */
+@Service
+public class UserCache {
+
+    public static final String CACHE_NAME = "users";
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, User> cache;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.user-cache.max-size:1000}") long maxSize,
+                     @Value("${app.user-cache.ttl:PT10M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public User getUser(AuthenticatedUser principal) {
+        return getUser(principal.id());
+    }
+
+    public User getUser(UUID userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado: " + id)));
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
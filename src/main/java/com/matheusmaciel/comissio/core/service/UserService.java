@@ -19,14 +19,19 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final UserCache userCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, EmailService emailService) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, EmailService emailService,
+                       UserCache userCache, TokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.userCache = userCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     public User findById(UUID id) {
@@ -44,6 +49,7 @@ public class UserService {
             user.setPasswordResetTokenExpiry(expiryDate);
 
             userRepository.save(user);
+            userCache.evict(user.getId());
 
             String resetLink = frontendUrl + "/reset-password?token=" + token;
             emailService.sendPasswordResetEmail(user.getEmail(), user.getName(), resetLink);
@@ -60,6 +66,7 @@ public class UserService {
             user.setPasswordResetToken(null);
             user.setPasswordResetTokenExpiry(null);
             userRepository.save(user);
+            userCache.evict(user.getId());
             throw new BusinessException("Token de recuperação expirado.");
         }
 
@@ -69,5 +76,7 @@ public class UserService {
         user.setPasswordResetTokenExpiry(null);
 
         userRepository.save(user);
+        userCache.evict(user.getId());
+        tokenRevocationService.revokeUser(user.getId(), "password reset");
     }
 }
@@ -0,0 +1,98 @@
+package com.matheusmaciel.comissio.infra.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "performedServiceImportExecutor")
+    public ThreadPoolTaskExecutor performedServiceImportExecutor(
+            @Value("${app.performed-service-import.workers:2}") int workers,
+            @Value("${app.performed-service-import.queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("service-import-", workers, queueCapacity);
+    }
+
+    // A full queue runs the partition on the submitting thread, which throttles the run instead of failing it.
+    @Bean(name = "payrollRunExecutor")
+    public ThreadPoolTaskExecutor payrollRunExecutor(
+            @Value("${app.payroll-run.workers:4}") int workers,
+            @Value("${app.payroll-run.queue-capacity:50}") int queueCapacity) {
+        return boundedExecutor("payroll-run-", workers, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = "payrollJobExecutor")
+    public ThreadPoolTaskExecutor payrollJobExecutor(
+            @Value("${app.payroll-job.workers:1}") int workers,
+            @Value("${app.payroll-job.queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("payroll-job-", workers, queueCapacity);
+    }
+
+    // Writes streamed report downloads to the response after the request thread has been released.
+    @Bean(name = "reportStreamExecutor")
+    public ThreadPoolTaskExecutor reportStreamExecutor(
+            @Value("${app.report-stream.workers:4}") int workers,
+            @Value("${app.report-stream.queue-capacity:50}") int queueCapacity) {
+        return boundedExecutor("report-stream-", workers, queueCapacity);
+    }
+
+    @Bean(name = "reportJobExecutor")
+    public ThreadPoolTaskExecutor reportJobExecutor(
+            @Value("${app.report-job.workers:2}") int workers,
+            @Value("${app.report-job.queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("report-job-", workers, queueCapacity);
+    }
+
+    // Renders the per-employee reports of a bulk download. When the queue is full the streaming thread
+    // renders the report itself, which slows that download down instead of failing it.
+    @Bean(name = "bulkReportExecutor")
+    public ThreadPoolTaskExecutor bulkReportExecutor(
+            @Value("${app.bulk-report.workers:4}") int workers,
+            @Value("${app.bulk-report.queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("bulk-report-", workers, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // One thread per parallel SMTP connection of the outbox dispatcher.
+    @Bean(name = "emailSenderExecutor")
+    public ThreadPoolTaskExecutor emailSenderExecutor(@Value("${app.email-outbox.senders:2}") int senders) {
+        return boundedExecutor("email-sender-", senders, senders);
+    }
+
+    // Renders the statements of a bulk e-mail batch. A full queue renders on the batch thread itself.
+    @Bean(name = "statementEmailRenderExecutor")
+    public ThreadPoolTaskExecutor statementEmailRenderExecutor(
+            @Value("${app.statement-email.render-workers:4}") int workers,
+            @Value("${app.statement-email.render-queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("statement-render-", workers, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = "statementEmailBatchExecutor")
+    public ThreadPoolTaskExecutor statementEmailBatchExecutor(
+            @Value("${app.statement-email.batch-workers:1}") int workers,
+            @Value("${app.statement-email.batch-queue-capacity:10}") int queueCapacity) {
+        return boundedExecutor("statement-batch-", workers, queueCapacity);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int workers, int queueCapacity) {
+        return boundedExecutor(threadNamePrefix, workers, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int workers, int queueCapacity,
+                                                   RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
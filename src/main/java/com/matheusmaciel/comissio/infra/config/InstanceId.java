@@ -0,0 +1,43 @@
+package com.matheusmaciel.comissio.infra.config;
+
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Identifies this running instance in the lease columns of background jobs. The random suffix
+ * makes a restarted instance a new owner, so jobs it held before the restart go stale and are
+ * taken over like those of any other stopped instance.
+ */
+@Component
+public class InstanceId {
+
+    private final String value;
+
+    public InstanceId() {
+        this(hostname() + "-" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    public InstanceId(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
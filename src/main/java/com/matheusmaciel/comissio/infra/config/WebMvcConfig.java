@@ -0,0 +1,29 @@
+package com.matheusmaciel.comissio.infra.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor reportStreamExecutor;
+    private final Duration asyncRequestTimeout;
+
+    public WebMvcConfig(@Qualifier("reportStreamExecutor") ThreadPoolTaskExecutor reportStreamExecutor,
+                        @Value("${app.report-stream.timeout:PT5M}") Duration asyncRequestTimeout) {
+        this.reportStreamExecutor = reportStreamExecutor;
+        this.asyncRequestTimeout = asyncRequestTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(reportStreamExecutor);
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+}
@@ -57,6 +57,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/users/forgot-password").permitAll()
                         .requestMatchers(HttpMethod.POST, "/users/reset-password").permitAll()
                         .requestMatchers(HttpMethod.GET, "/users/list").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/users/logout").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/users/{id}/revoke-tokens").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/users/test-email").permitAll()
 
 
@@ -84,18 +86,34 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.DELETE, "/employee-comissions/**").hasRole("ADMIN")
 
                         .requestMatchers(HttpMethod.POST, "/performed-services").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/performed-services/batch").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers("/performed-services/imports/**").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/performed-services/daily-summary/rebuild").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/performed-services").hasAnyRole("ADMIN", "MANAGER", "EMPLOYEE")
+                        .requestMatchers(HttpMethod.GET, "/performed-services/cursor").hasAnyRole("ADMIN", "MANAGER", "EMPLOYEE")
                         .requestMatchers(HttpMethod.GET, "/performed-services/{id}").hasAnyRole("ADMIN", "MANAGER","EMPLOYEE")
                         .requestMatchers(HttpMethod.PUT, "/performed-services/{id}").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers(HttpMethod.PATCH, "/performed-services/{id}/cancel").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/performed-services/{id}").hasRole("ADMIN")
 
                         .requestMatchers(HttpMethod.POST, "/comission-payments/batch").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/comission-payments/payroll-runs").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/comission-payments/batch/jobs").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/comission-payments/payroll-runs/jobs").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/comission-payments/jobs/{id}").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers(HttpMethod.GET, "/comission-payments").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers(HttpMethod.GET, "/comission-payments/{id}").hasAnyRole("ADMIN", "MANAGER")
 
+                        .requestMatchers(HttpMethod.GET, "/reports/employees/commissions/bulk").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers(HttpMethod.GET, "/reports/employees/{id}/commissions").hasAnyRole("ADMIN", "MANAGER", "EMPLOYEE")
                         .requestMatchers(HttpMethod.POST, "/reports/employees/{id}/commissions/send-email").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/reports/employees/commissions/send-email/bulk").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.GET, "/reports/statement-emails/{id}").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/reports/employees/{id}/commissions/jobs").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/reports/my-commissions/jobs").hasAnyRole("ADMIN", "MANAGER", "EMPLOYEE")
+                        .requestMatchers(HttpMethod.GET, "/reports/jobs/{id}", "/reports/jobs/{id}/download").hasAnyRole("ADMIN", "MANAGER", "EMPLOYEE")
+
+                        .requestMatchers(HttpMethod.GET, "/analytics/commissions/**").hasAnyRole("ADMIN", "MANAGER", "EMPLOYEE")
 
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         .requestMatchers("/actuator/metrics", "/actuator/loggers").hasRole("ADMIN")
@@ -1,29 +1,50 @@
 package com.matheusmaciel.comissio.infra.config.security;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
 import com.matheusmaciel.comissio.core.repository.UserRepository;
+import com.matheusmaciel.comissio.core.service.TokenRevocationService;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Authenticates requests carrying a JWT. By default the principal is built from the token's
+ * verified claims, so authentication costs no database round trip; role changes and removed
+ * users then take effect when the token expires. With
+ * {@code api.security.token.claims-principal=false}, or for tokens issued without the user id
+ * claim, the user is loaded on every request instead.
+ * <p>
+ * Revoked tokens are rejected by an in-memory lookup in {@link TokenRevocationService}, which
+ * keeps logout and deactivation effective before the token expires.
+ */
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean claimsPrincipal;
 
-    public SecurityFilter(TokenService tokenService, UserRepository userRepository) {
+    public SecurityFilter(TokenService tokenService, UserRepository userRepository,
+                          TokenRevocationService tokenRevocationService,
+                          @Value("${api.security.token.claims-principal:true}") boolean claimsPrincipal) {
         this.tokenService = tokenService;
         this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.claimsPrincipal = claimsPrincipal;
     }
 
     private static final String[] SWAGGER_LIST = {
@@ -49,19 +70,30 @@ public class SecurityFilter extends OncePerRequestFilter {
         var token = this.recoverToken(request);
 
         if (token != null) {
-        var username = tokenService.validateToken(token);
-        var user = this.userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-        var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-    }
+            var jwt = tokenService.verifyToken(token);
+            if (jwt.isPresent()) {
+                var principal = resolvePrincipal(jwt.get());
+                boolean revoked = tokenRevocationService.isRevoked(tokenService.readTokenId(jwt.get()),
+                        principal.id(), jwt.get().getIssuedAtAsInstant());
+                if (!revoked) {
+                    var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            }
+        }
 
 
         filterChain.doFilter(request, response);
 
     }
 
+    private AuthenticatedUser resolvePrincipal(DecodedJWT jwt) {
+        Optional<AuthenticatedUser> fromClaims = claimsPrincipal ? tokenService.readPrincipal(jwt) : Optional.empty();
+        return fromClaims.orElseGet(() -> this.userRepository.findByUsername(jwt.getSubject())
+                .map(AuthenticatedUser::fromUser)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
+
     private String recoverToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if (authHeader == null) {
@@ -2,30 +2,73 @@ package com.matheusmaciel.comissio.infra.config.security;
 
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
 import com.matheusmaciel.comissio.core.model.access.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import java.util.stream.Collectors;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 
+/**
+ * Issues and verifies the API's JWTs. The HMAC algorithm and verifier are built once. Tokens
+ * that pass verification are remembered, keyed by their SHA-256 digest, until their own
+ * expiry, so a client repeating the same token skips the signature check and the JSON parsing.
+ * Tokens that fail verification are never cached.
+ */
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    public static final String CACHE_NAME = "verified.tokens";
+
+    private static final String ISSUER = "com.matheusmaciel.comissio";
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<ByteBuffer, DecodedJWT> verifiedTokens;
+
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        MeterRegistry meterRegistry,
+                        @Value("${api.security.token.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ExpiresWithToken())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+    }
 
     public String generateToken(User user) {
         try{
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
             var roles = user.getAuthorities()
                             .stream()
                             .map(GrantedAuthority::getAuthority)
@@ -33,10 +76,13 @@ public class TokenService {
 
             
             String token = JWT.create()
-                    .withIssuer("com.matheusmaciel.comissio")
+                    .withIssuer(ISSUER)
+                    .withJWTId(UUID.randomUUID().toString())
+                    .withIssuedAt(Instant.now())
                     .withExpiresAt(genExpirationDate())
                     .withSubject(user.getUsername())
-                    .withClaim("roles", roles)
+                    .withClaim(USER_ID_CLAIM, user.getId().toString())
+                    .withClaim(ROLES_CLAIM, roles)
                     .sign(algorithm);
             return token;
         }
@@ -45,17 +91,76 @@ public class TokenService {
         }
     }
 
-    public String validateToken(String token) {
+    public Optional<DecodedJWT> verifyToken(String token) {
+        ByteBuffer digest = digest(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try{
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("com.matheusmaciel.comissio")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT jwt = verifier.verify(token);
+            // Without an exp claim there is nothing to bound the cache entry by
+            if (jwt.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(digest, jwt);
+            }
+            return Optional.of(jwt);
         }
         catch (JWTVerificationException e){
-            return "";
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Principal asserted by a verified token. Tokens issued before the user id claim was added
+     * yield an empty result and have to be resolved from the database.
+     */
+    public Optional<AuthenticatedUser> readPrincipal(DecodedJWT jwt) {
+        Claim userId = jwt.getClaim(USER_ID_CLAIM);
+        List<String> roles = jwt.getClaim(ROLES_CLAIM).asList(String.class);
+        if (userId.isMissing() || userId.isNull() || roles == null) {
+            return Optional.empty();
+        }
+
+        List<GrantedAuthority> authorities = roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return Optional.of(new AuthenticatedUser(UUID.fromString(userId.asString()), jwt.getSubject(), authorities));
+    }
+
+    /**
+     * Id under which the token can be revoked individually, or null for tokens issued before
+     * tokens carried one.
+     */
+    public UUID readTokenId(DecodedJWT jwt) {
+        String tokenId = jwt.getId();
+        return tokenId == null ? null : UUID.fromString(tokenId);
+    }
+
+    // Each entry lives until its token's exp; reading or replacing it does not extend that.
+    private static final class ExpiresWithToken implements Expiry<ByteBuffer, DecodedJWT> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer digest, DecodedJWT jwt, long currentTime) {
+            return Duration.between(Instant.now(), jwt.getExpiresAtAsInstant()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer digest, DecodedJWT jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer digest, DecodedJWT jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
@@ -0,0 +1,105 @@
+package com.matheusmaciel.comissio.infra.controller;
+
+import com.matheusmaciel.comissio.core.dto.analytics.CommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.EmployeeCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.PeriodCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.ServiceTypeCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.dto.analytics.StatusCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.model.register.AnalyticsGranularity;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.service.CommissionAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/analytics/commissions")
+@Tag(name = "Analytics", description = "Commission totals aggregated by employee, service type, status and period")
+@SecurityRequirement(name = "jwt_auth")
+@PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+public class AnalyticsController {
+
+    private final CommissionAnalyticsService analyticsService;
+
+    public AnalyticsController(CommissionAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/totals")
+    @Operation(summary = "Total services, prices and commissions for a period",
+            description = "Employees only see their own numbers; employeeId is ignored for them.")
+    @ApiResponse(responseCode = "200", description = "Totals for the period")
+    @ApiResponse(responseCode = "400", description = "Invalid period")
+    public ResponseEntity<CommissionTotalsDTO> getTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) ServiceStatus status,
+            Authentication authentication) {
+        return ResponseEntity.ok(analyticsService.getTotals(startDate, endDate, employeeId, status, authentication));
+    }
+
+    @GetMapping("/by-employee")
+    @Operation(summary = "Totals per employee for a period")
+    @ApiResponse(responseCode = "200", description = "One row per employee, highest commission first")
+    public ResponseEntity<List<EmployeeCommissionTotalsDTO>> getTotalsByEmployee(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) ServiceStatus status,
+            Authentication authentication) {
+        return ResponseEntity.ok(analyticsService.getTotalsByEmployee(startDate, endDate, employeeId, status, authentication));
+    }
+
+    @GetMapping("/by-service-type")
+    @Operation(summary = "Totals per service type for a period")
+    @ApiResponse(responseCode = "200", description = "One row per service type, highest commission first")
+    public ResponseEntity<List<ServiceTypeCommissionTotalsDTO>> getTotalsByServiceType(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) ServiceStatus status,
+            Authentication authentication) {
+        return ResponseEntity.ok(analyticsService.getTotalsByServiceType(startDate, endDate, employeeId, status, authentication));
+    }
+
+    @GetMapping("/by-status")
+    @Operation(summary = "Totals per service status for a period")
+    @ApiResponse(responseCode = "200", description = "One row per status")
+    public ResponseEntity<List<StatusCommissionTotalsDTO>> getTotalsByStatus(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) ServiceStatus status,
+            Authentication authentication) {
+        return ResponseEntity.ok(analyticsService.getTotalsByStatus(startDate, endDate, employeeId, status, authentication));
+    }
+
+    @GetMapping("/by-period")
+    @Operation(summary = "Totals per day, week or month for a period",
+            description = "Weeks start on Monday. Periods without services are omitted.")
+    @ApiResponse(responseCode = "200", description = "One row per period, oldest first")
+    public ResponseEntity<List<PeriodCommissionTotalsDTO>> getTotalsByPeriod(
+            @RequestParam(defaultValue = "MONTH") AnalyticsGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) ServiceStatus status,
+            Authentication authentication) {
+        return ResponseEntity.ok(analyticsService.getTotalsByPeriod(granularity, startDate, endDate, employeeId, status,
+                authentication));
+    }
+}
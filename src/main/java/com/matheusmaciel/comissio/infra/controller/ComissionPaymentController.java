@@ -4,7 +4,15 @@ package com.matheusmaciel.comissio.infra.controller;
 import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentRequestDTO;
 import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentResponseDTO;
 import com.matheusmaciel.comissio.core.dto.comissionPayment.ComissionPaymentResponseDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollJobResponseDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
 import com.matheusmaciel.comissio.core.service.ComissionPaymentService;
+import com.matheusmaciel.comissio.core.service.PayrollJobService;
+import com.matheusmaciel.comissio.core.service.PayrollRunService;
+import com.matheusmaciel.comissio.core.service.UserCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,8 +23,10 @@ import jakarta.validation.Valid;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -28,9 +38,18 @@ import java.util.UUID;
 public class ComissionPaymentController {
 
     private final ComissionPaymentService comissionPaymentService;
+    private final PayrollRunService payrollRunService;
+    private final PayrollJobService payrollJobService;
+    private final UserCache userCache;
 
-    public ComissionPaymentController(ComissionPaymentService comissionPaymentService) {
+    public ComissionPaymentController(ComissionPaymentService comissionPaymentService,
+                                      PayrollRunService payrollRunService,
+                                      PayrollJobService payrollJobService,
+                                      UserCache userCache) {
         this.comissionPaymentService = comissionPaymentService;
+        this.payrollRunService = payrollRunService;
+        this.payrollJobService = payrollJobService;
+        this.userCache = userCache;
     }
 
     @PostMapping("/batch")
@@ -47,6 +66,59 @@ public class ComissionPaymentController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/payroll-runs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Executar a folha de comissões de todos os funcionários",
+            description = "Paga as comissões pendentes até a data de corte de todos os funcionários (ou apenas dos informados). " +
+                    "Cada funcionário é processado em sua própria transação e em paralelo; o resultado traz um resumo agregado da execução.")
+    @ApiResponse(responseCode = "200", description = "Folha processada; falhas individuais constam no resumo.")
+    @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos.")
+    public ResponseEntity<PayrollRunResponseDTO> runPayroll(@Valid @RequestBody PayrollRunRequestDTO dto,
+                                                            Authentication authentication) {
+        User authenticatedUser = userCache.getUser((AuthenticatedUser) authentication.getPrincipal());
+        PayrollRunResponseDTO response = payrollRunService.runPayroll(dto, authenticatedUser);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch/jobs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Agendar pagamento de comissões em lote para um funcionário",
+            description = "Mesma operação de /comission-payments/batch, executada em segundo plano. " +
+                    "Retorna imediatamente o job criado; acompanhe o progresso em /comission-payments/jobs/{id}.")
+    @ApiResponse(responseCode = "202", description = "Job criado e enfileirado.")
+    @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos.")
+    @ApiResponse(responseCode = "404", description = "Funcionário não encontrado.")
+    public ResponseEntity<PayrollJobResponseDTO> startBatchPaymentJob(@Valid @RequestBody BatchPaymentRequestDTO dto,
+                                                                      Authentication authentication) {
+        User authenticatedUser = userCache.getUser((AuthenticatedUser) authentication.getPrincipal());
+        PayrollJobResponseDTO response = payrollJobService.startBatchPaymentJob(dto, authenticatedUser);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/payroll-runs/jobs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Agendar a folha de comissões de todos os funcionários",
+            description = "Mesma operação de /comission-payments/payroll-runs, executada em segundo plano. " +
+                    "Retorna imediatamente o job criado; acompanhe o progresso em /comission-payments/jobs/{id}.")
+    @ApiResponse(responseCode = "202", description = "Job criado e enfileirado.")
+    @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos.")
+    public ResponseEntity<PayrollJobResponseDTO> startPayrollRunJob(@Valid @RequestBody PayrollRunRequestDTO dto,
+                                                                    Authentication authentication) {
+        User authenticatedUser = userCache.getUser((AuthenticatedUser) authentication.getPrincipal());
+        PayrollJobResponseDTO response = payrollJobService.startPayrollRunJob(dto, authenticatedUser);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/jobs/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Consultar o progresso de um job de pagamento",
+            description = "Retorna o status, a contagem de funcionários processados, os totais pagos e as falhas do job.")
+    @ApiResponse(responseCode = "200", description = "Job encontrado.")
+    @ApiResponse(responseCode = "404", description = "Job não encontrado.")
+    public ResponseEntity<PayrollJobResponseDTO> getPaymentJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(payrollJobService.getJob(id));
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(summary = "Listar todos os registros de pagamento de comissão com paginação",
@@ -1,9 +1,15 @@
 package com.matheusmaciel.comissio.infra.controller;
 
+import com.matheusmaciel.comissio.core.dto.performedService.BatchPerformedServiceRequestDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.BatchPerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.DailyCommissionSummaryRebuildResponseDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceCursorPageDTO;
 import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceRequestDTO;
 import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
 import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceUpdateRequestDTO;
 import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.service.DailyCommissionSummaryService;
+import com.matheusmaciel.comissio.core.service.PerformedServiceBatchService;
 import com.matheusmaciel.comissio.core.service.PerformedServiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +19,7 @@ import jakarta.validation.Valid;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,9 +37,15 @@ import java.util.UUID;
 @SecurityRequirement(name = "jwt_auth")
 public class PerformedServiceController {
     private final PerformedServiceService performedServiceService;
+    private final PerformedServiceBatchService performedServiceBatchService;
+    private final DailyCommissionSummaryService dailyCommissionSummaryService;
 
-    public PerformedServiceController(PerformedServiceService performedServiceService) {
+    public PerformedServiceController(PerformedServiceService performedServiceService,
+                                      PerformedServiceBatchService performedServiceBatchService,
+                                      DailyCommissionSummaryService dailyCommissionSummaryService) {
         this.performedServiceService = performedServiceService;
+        this.performedServiceBatchService = performedServiceBatchService;
+        this.dailyCommissionSummaryService = dailyCommissionSummaryService;
     }
 
     @PostMapping
@@ -57,6 +70,33 @@ public class PerformedServiceController {
 
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Register a list of performed services in a single request",
+            description = "Employees, service types and commission rules are resolved once for the whole list " +
+                    "and the valid services are inserted in JDBC batches. Each item is reported individually, " +
+                    "so invalid entries do not prevent the others from being registered.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; check each item result for failures")
+    @ApiResponse(responseCode = "400", description = "Empty list or more items than allowed")
+    public ResponseEntity<BatchPerformedServiceResponseDTO> registerServicesBatch(
+            @Valid @RequestBody BatchPerformedServiceRequestDTO dto) {
+        BatchPerformedServiceResponseDTO response = performedServiceBatchService.createPerformedServices(dto.services());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/daily-summary/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild the daily commission summary from the performed services",
+            description = "Recomputes the per-day totals for the given period, or for every day when no dates are given. " +
+                    "Writes to performed services wait while the rebuild runs.")
+    @ApiResponse(responseCode = "200", description = "Summary rebuilt")
+    @ApiResponse(responseCode = "400", description = "End date before start date")
+    public ResponseEntity<DailyCommissionSummaryRebuildResponseDTO> rebuildDailySummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(dailyCommissionSummaryService.rebuild(startDate, endDate));
+    }
+
     @PatchMapping("/{id}/cancel")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(summary = "Cancel a performed service")
@@ -110,6 +150,30 @@ public class PerformedServiceController {
         return ResponseEntity.ok(responsePage);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+    @Operation(summary = "List performed services with cursor pagination",
+            description = "Returns services ordered by serviceDate and id, with the same filters and role rules as the " +
+                    "paginated listing. Pass the returned nextCursor to fetch the following window. " +
+                    "No total count is computed, so deep pages are as fast as the first one.")
+    @ApiResponse(responseCode = "200", description = "Window of performed services retrieved")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    public ResponseEntity<PerformedServiceCursorPageDTO> getPerformedServicesByCursor(
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) ServiceStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            Authentication authentication) {
+
+        PerformedServiceCursorPageDTO response = performedServiceService.getPerformedServicesByCursor(
+                employeeId, status, startDate, endDate, cursor, size, direction, authentication);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(summary = "Get a performed service by id")
@@ -0,0 +1,74 @@
+package com.matheusmaciel.comissio.infra.controller;
+
+import com.matheusmaciel.comissio.core.dto.performedServiceImport.ImportRejectedRowDTO;
+import com.matheusmaciel.comissio.core.dto.performedServiceImport.PerformedServiceImportResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.service.PerformedServiceImportService;
+import com.matheusmaciel.comissio.core.service.UserCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.converters.models.PageableAsQueryParam;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/performed-services/imports")
+@Tag(name = "Performed Service Imports", description = "Bulk import of historical performed services from CSV files")
+@SecurityRequirement(name = "jwt_auth")
+public class PerformedServiceImportController {
+
+    private final PerformedServiceImportService performedServiceImportService;
+    private final UserCache userCache;
+
+    public PerformedServiceImportController(PerformedServiceImportService performedServiceImportService,
+                                            UserCache userCache) {
+        this.performedServiceImportService = performedServiceImportService;
+        this.userCache = userCache;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Import performed services from a CSV file",
+            description = "Expected columns: employee_id,service_type_id,price,service_date (yyyy-MM-dd). " +
+                    "The file is streamed into a staging table; validation, commission calculation and " +
+                    "promotion run in the background. Poll the returned import to follow its progress.")
+    @ApiResponse(responseCode = "202", description = "File loaded and queued for processing")
+    @ApiResponse(responseCode = "400", description = "Empty file")
+    public ResponseEntity<PerformedServiceImportResponseDTO> importPerformedServices(
+            @RequestParam("file") MultipartFile file, Authentication authentication) {
+        User authenticatedUser = userCache.getUser((AuthenticatedUser) authentication.getPrincipal());
+        PerformedServiceImportResponseDTO response = performedServiceImportService.startImport(file, authenticatedUser);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Get the progress of a performed service import")
+    @ApiResponse(responseCode = "200", description = "Import found")
+    @ApiResponse(responseCode = "404", description = "Import not found")
+    public ResponseEntity<PerformedServiceImportResponseDTO> getImport(@PathVariable UUID id) {
+        return ResponseEntity.ok(performedServiceImportService.getImport(id));
+    }
+
+    @GetMapping("/{id}/rejections")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "List the rows rejected by an import, ordered by line number")
+    @PageableAsQueryParam
+    @ApiResponse(responseCode = "200", description = "Rejected rows retrieved")
+    @ApiResponse(responseCode = "404", description = "Import not found")
+    public ResponseEntity<Page<ImportRejectedRowDTO>> getRejectedRows(@PathVariable UUID id, Pageable pageable) {
+        return ResponseEntity.ok(performedServiceImportService.getRejectedRows(id, pageable));
+    }
+}
@@ -2,14 +2,26 @@ package com.matheusmaciel.comissio.infra.controller;
 
 
 import com.matheusmaciel.comissio.core.dto.employee.EmployeeResponseDTO;
-import com.matheusmaciel.comissio.core.dto.report.ReportFile;
-import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.dto.report.ReportDownload;
+import com.matheusmaciel.comissio.core.dto.report.ReportJobResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.StatementEmailBatchResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.service.BulkReportService;
 import com.matheusmaciel.comissio.core.service.EmailService;
 import com.matheusmaciel.comissio.core.service.EmployeeService;
+import com.matheusmaciel.comissio.core.service.ReportCacheService;
+import com.matheusmaciel.comissio.core.service.ReportJobService;
 import com.matheusmaciel.comissio.core.service.ReportService;
+import com.matheusmaciel.comissio.core.service.StatementEmailService;
+import com.matheusmaciel.comissio.core.service.UserCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,6 +29,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -27,69 +41,76 @@ import java.util.UUID;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportCacheService reportCacheService;
+    private final ReportJobService reportJobService;
+    private final BulkReportService bulkReportService;
     private final EmailService emailService;
     private final EmployeeService employeeService;
+    private final StatementEmailService statementEmailService;
+    private final UserCache userCache;
 
-    public ReportController(ReportService reportService, EmailService emailService, EmployeeService employeeService) {
+    public ReportController(ReportService reportService, ReportCacheService reportCacheService, ReportJobService reportJobService,
+                            BulkReportService bulkReportService, EmailService emailService, EmployeeService employeeService,
+                            StatementEmailService statementEmailService, UserCache userCache) {
         this.reportService = reportService;
+        this.reportCacheService = reportCacheService;
+        this.reportJobService = reportJobService;
+        this.bulkReportService = bulkReportService;
         this.emailService = emailService;
         this.employeeService = employeeService;
+        this.statementEmailService = statementEmailService;
+        this.userCache = userCache;
     }
 
     @GetMapping("/employees/{employeeId}/commissions")
-    public ResponseEntity<byte[]> getIndividualCommissionReport(
+    public ResponseEntity<StreamingResponseBody> getIndividualCommissionReport(
             @PathVariable UUID employeeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(defaultValue = "pdf") String format) throws IOException {
+            @RequestParam(defaultValue = "pdf") String format,
+            WebRequest webRequest) {
 
         // Controller busca os dados do funcionário
         EmployeeResponseDTO employee = employeeService.getEmployeeById(employeeId);
 
-        ReportFile reportFile;
-        if ("excel".equalsIgnoreCase(format)) {
-            // Passa o nome para o serviço
-            reportFile = reportService.generateIndividualCommissionReportExcel(employeeId, employee.name(), startDate, endDate);
-        } else {
-            reportFile = reportService.generateIndividualCommissionReportPdf(employeeId, employee.name(), startDate, endDate);
-        }
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(reportFile.contentType()));
-        headers.setContentDispositionFormData("attachment", reportFile.filename());
-
-        return new ResponseEntity<>(reportFile.content(), headers, HttpStatus.OK);
+        return cachedReport(employeeId, employee.name(), startDate, endDate, format, webRequest);
     }
 
     @GetMapping("/my-commissions")
-    public ResponseEntity<byte[]> getMyCommissionReport(
+    public ResponseEntity<StreamingResponseBody> getMyCommissionReport(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "pdf") String format,
-            Authentication authentication) throws IOException {
+            Authentication authentication,
+            WebRequest webRequest) {
 
-        User authenticatedUser = (User) authentication.getPrincipal();
-        EmployeeResponseDTO employee = employeeService.findByUserIdAndReturnDto(authenticatedUser.getId());
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) authentication.getPrincipal();
+        EmployeeResponseDTO employee = employeeService.findByUserIdAndReturnDto(authenticatedUser.id());
 
-        ReportFile reportFile;
-        if ("excel".equalsIgnoreCase(format)) {
-            reportFile = reportService.generateIndividualCommissionReportExcel(employee.id(), employee.name(), startDate, endDate);
-        } else {
-            reportFile = reportService.generateIndividualCommissionReportPdf(employee.id(), employee.name(), startDate, endDate);
-        }
+        return cachedReport(employee.id(), employee.name(), startDate, endDate, format, webRequest);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(reportFile.contentType()));
-        headers.setContentDispositionFormData("attachment", reportFile.filename());
+    @GetMapping("/employees/commissions/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Baixar os relatórios de comissão de todos os funcionários ativos em um ZIP",
+            description = "Reports are rendered in parallel and each one is added to the ZIP as soon as it is ready.")
+    @ApiResponse(responseCode = "200", description = "ZIP with one report per active employee")
+    @ApiResponse(responseCode = "400", description = "Invalid period")
+    public ResponseEntity<StreamingResponseBody> getAllEmployeesCommissionReports(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "pdf") String format) {
 
-        return new ResponseEntity<>(reportFile.content(), headers, HttpStatus.OK);
+        return streamReport(bulkReportService.streamActiveEmployeesCommissionReports(ReportFormat.fromParameter(format),
+                startDate, endDate));
     }
 
     @PostMapping("/employees/{employeeId}/commissions/send-email")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    @Operation(summary = "Enviar relatório de comissão individual por e-mail")
-    @ApiResponse(responseCode = "200", description = "E-mail com relatório enviado com sucesso")
-    @ApiResponse(responseCode = "500", description = "Erro ao gerar relatório ou enviar e-mail")
+    @Operation(summary = "Enviar relatório de comissão individual por e-mail",
+            description = "Gera o relatório e o coloca na fila de e-mails; a entrega é feita em segundo plano.")
+    @ApiResponse(responseCode = "200", description = "E-mail com relatório enfileirado para envio")
+    @ApiResponse(responseCode = "500", description = "Erro ao gerar relatório ou enfileirar e-mail")
     public ResponseEntity<String> sendIndividualCommissionReportByEmail(
             @PathVariable UUID employeeId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -100,12 +121,135 @@ public class ReportController {
         try {
 
             emailService.sendCommissionReportByEmail(toEmail, employeeId, startDate, endDate, format);
-            return ResponseEntity.ok("Relatório enviado para " + toEmail);
+            return ResponseEntity.ok("Relatório enfileirado para envio a " + toEmail);
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro ao gerar o relatório: " + e.getMessage());
         } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro ao enviar o e-mail: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro ao enfileirar o e-mail: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/employees/commissions/send-email/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Enviar por e-mail o relatório de comissões de todos os funcionários ativos",
+            description = "Statements are rendered in parallel in the background and queued in the e-mail outbox, which " +
+                    "delivers them at the configured messages-per-second rate. Poll the batch for per-recipient status.")
+    @ApiResponse(responseCode = "202", description = "Statement e-mail batch queued")
+    @ApiResponse(responseCode = "400", description = "Invalid period or no active employee with an e-mail address")
+    public ResponseEntity<StatementEmailBatchResponseDTO> sendAllEmployeesCommissionReportsByEmail(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "pdf") String format,
+            Authentication authentication) {
+
+        StatementEmailBatchResponseDTO batch = statementEmailService.startBatch(ReportFormat.fromParameter(format),
+                startDate, endDate, userCache.getUser((AuthenticatedUser) authentication.getPrincipal()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(batch);
+    }
+
+    @GetMapping("/statement-emails/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Consultar o envio em massa de relatórios por e-mail",
+            description = "Returns the batch status, counts per delivery status and the delivery status of every recipient.")
+    @ApiResponse(responseCode = "200", description = "Statement e-mail batch found")
+    @ApiResponse(responseCode = "404", description = "Statement e-mail batch not found")
+    public ResponseEntity<StatementEmailBatchResponseDTO> getStatementEmailBatch(@PathVariable UUID id) {
+        return ResponseEntity.ok(statementEmailService.getBatch(id));
+    }
+
+    @PostMapping("/employees/{employeeId}/commissions/jobs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(summary = "Gerar relatório de comissão individual em segundo plano",
+            description = "Enqueues the report and returns a job id. Poll the job and download the file once it is COMPLETED.")
+    @ApiResponse(responseCode = "202", description = "Report job queued")
+    @ApiResponse(responseCode = "404", description = "Employee not found")
+    public ResponseEntity<ReportJobResponseDTO> startIndividualCommissionReportJob(
+            @PathVariable UUID employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "pdf") String format,
+            Authentication authentication) {
+
+        EmployeeResponseDTO employee = employeeService.getEmployeeById(employeeId);
+        ReportJobResponseDTO job = reportJobService.startJob(employeeId, employee.name(), startDate, endDate,
+                ReportFormat.fromParameter(format), userCache.getUser((AuthenticatedUser) authentication.getPrincipal()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @PostMapping("/my-commissions/jobs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+    @Operation(summary = "Gerar o próprio relatório de comissões em segundo plano")
+    @ApiResponse(responseCode = "202", description = "Report job queued")
+    public ResponseEntity<ReportJobResponseDTO> startMyCommissionReportJob(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "pdf") String format,
+            Authentication authentication) {
+
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) authentication.getPrincipal();
+        EmployeeResponseDTO employee = employeeService.findByUserIdAndReturnDto(authenticatedUser.id());
+        ReportJobResponseDTO job = reportJobService.startJob(employee.id(), employee.name(), startDate, endDate,
+                ReportFormat.fromParameter(format), userCache.getUser(authenticatedUser));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+    @Operation(summary = "Consultar o status de um relatório em segundo plano")
+    @ApiResponse(responseCode = "200", description = "Report job found")
+    @ApiResponse(responseCode = "404", description = "Report job not found")
+    public ResponseEntity<ReportJobResponseDTO> getReportJob(@PathVariable UUID id, Authentication authentication) {
+        return ResponseEntity.ok(reportJobService.getJob(id, authentication));
+    }
+
+    @GetMapping("/jobs/{id}/download")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+    @Operation(summary = "Baixar o arquivo de um relatório concluído",
+            description = "Supports HTTP Range requests, so interrupted downloads can be resumed.")
+    @ApiResponse(responseCode = "200", description = "Report file")
+    @ApiResponse(responseCode = "206", description = "Requested byte range of the report file")
+    @ApiResponse(responseCode = "400", description = "Report is not ready yet")
+    @ApiResponse(responseCode = "404", description = "Report job or file not found")
+    public ResponseEntity<Resource> downloadReport(@PathVariable UUID id, Authentication authentication) {
+        ReportDownload download = reportJobService.openDownload(id, authentication);
+
+        // Com um Resource no corpo, o Spring atende os headers Range com 206 Partial Content
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(download.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(download.filename()).build().toString())
+                .body(download.resource());
+    }
+
+    // If-None-Match com a versão atual dos dados responde 304 sem gerar o relatório.
+    // checkNotModified também grava o header ETag na resposta, nos dois casos.
+    private ResponseEntity<StreamingResponseBody> cachedReport(UUID employeeId, String employeeName, LocalDate startDate,
+                                                               LocalDate endDate, String format, WebRequest webRequest) {
+        ReportCacheService.ReportCacheKey key = reportCacheService.keyFor(employeeId, employeeName, startDate, endDate, format);
+        String etag = key.etag();
+
+        if (webRequest.checkNotModified(etag)) {
+            reportCacheService.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
         }
+
+        StreamedReport report = reportCacheService.getOrRender(key,
+                () -> buildReport(employeeId, employeeName, startDate, endDate, format));
+        return streamReport(report);
+    }
+
+    // O relatório é escrito direto na resposta, sem montar o arquivo em memória
+    private StreamedReport buildReport(UUID employeeId, String employeeName, LocalDate startDate, LocalDate endDate,
+                                       String format) {
+        return reportService.streamIndividualCommissionReport(ReportFormat.fromParameter(format), employeeId, employeeName,
+                startDate, endDate);
     }
 
-}
\ No newline at end of file
+    private ResponseEntity<StreamingResponseBody> streamReport(StreamedReport report) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(report.contentType()));
+        headers.setContentDispositionFormData("attachment", report.filename());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+        return new ResponseEntity<>(report.writer()::writeTo, headers, HttpStatus.OK);
+    }
+}
@@ -3,9 +3,11 @@ package com.matheusmaciel.comissio.infra.controller;
 import com.matheusmaciel.comissio.core.dto.LoginRequestDTO;
 import com.matheusmaciel.comissio.core.dto.LoginResponseDTO;
 import com.matheusmaciel.comissio.core.dto.UserRequestDTO;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
 import com.matheusmaciel.comissio.core.model.access.User;
 import com.matheusmaciel.comissio.core.repository.UserRepository;
 import com.matheusmaciel.comissio.core.service.EmailService;
+import com.matheusmaciel.comissio.core.service.TokenRevocationService;
 import com.matheusmaciel.comissio.core.service.UserService;
 import com.matheusmaciel.comissio.infra.config.security.TokenService;
 
@@ -24,10 +26,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -36,6 +41,7 @@ import com.matheusmaciel.comissio.core.dto.user.ForgotPasswordDTO;
 import com.matheusmaciel.comissio.core.dto.user.ResetPasswordDTO;
 
 import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/users")
@@ -46,18 +52,21 @@ public class UserController {
     private final TokenService tokenService;
     private final UserService service;
     private final EmailService emailService;
+    private final TokenRevocationService tokenRevocationService;
 
   public UserController(AuthenticationManager authenticationManager,
                                   UserRepository repository,
                                   TokenService tokenService,
                                   UserService service,
-                                  EmailService emailService) {
+                                  EmailService emailService,
+                                  TokenRevocationService tokenRevocationService) {
 
     this.authenticationManager = authenticationManager;
     this.repository = repository;
     this.tokenService = tokenService;
     this.service = service;
     this.emailService = emailService;
+    this.tokenRevocationService = tokenRevocationService;
 
   }
 
@@ -72,6 +81,35 @@ public class UserController {
     return ResponseEntity.ok(new LoginResponseDTO(token));
   }
 
+  @PostMapping("/logout")
+  @Tag(name = "Users", description = "Users logout")
+  @Operation(summary = "Encerrar sessão", description = "Revoga o token usado na requisição antes da sua expiração")
+  @ApiResponse(responseCode = "204", description = "Token revogado")
+  @SecurityRequirement(name = "jwt_auth")
+  public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authorization,
+                                     Authentication authentication) {
+    // The filter already accepted this token, so it verifies again from the cache
+    var jwt = tokenService.verifyToken(authorization.replace("Bearer ", ""))
+            .orElseThrow(() -> new BusinessException("Invalid token"));
+    var principal = (AuthenticatedUser) authentication.getPrincipal();
+
+    tokenRevocationService.revokeToken(tokenService.readTokenId(jwt), principal.id(),
+            jwt.getExpiresAtAsInstant(), "logout");
+    return ResponseEntity.noContent().build();
+  }
+
+  @PostMapping("/{id}/revoke-tokens")
+  @PreAuthorize("hasRole('ADMIN')")
+  @Tag(name = "Users", description = "Users token revocation")
+  @Operation(summary = "Revogar tokens do usuário", description = "Revoga todos os tokens emitidos para o usuário até o momento")
+  @ApiResponse(responseCode = "204", description = "Tokens revogados")
+  @SecurityRequirement(name = "jwt_auth")
+  public ResponseEntity<Void> revokeTokens(@PathVariable UUID id) {
+    User user = service.findById(id);
+    tokenRevocationService.revokeUser(user.getId(), "revoked by admin");
+    return ResponseEntity.noContent().build();
+  }
+
 
   //@PreAuthorize("hasRole('ADMIN')")
   @Tag(name = "Users", description = "Users register")
@@ -0,0 +1,45 @@
+CREATE TABLE performed_service_import (
+    id UUID PRIMARY KEY,
+    filename VARCHAR(255),
+    status TEXT NOT NULL,
+    loaded_rows BIGINT NOT NULL DEFAULT 0,
+    promoted_rows BIGINT NOT NULL DEFAULT 0,
+    rejected_rows BIGINT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_by UUID REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP,
+    CONSTRAINT check_performed_service_import_status
+        CHECK (status IN ('LOADING', 'LOADED', 'VALIDATING', 'PROMOTING', 'COMPLETED', 'FAILED'))
+);
+
+-- Staging rows are only needed until the import is promoted, so they skip the WAL.
+CREATE UNLOGGED TABLE performed_service_import_row (
+    import_id UUID NOT NULL,
+    line_number BIGINT NOT NULL,
+    employee_id TEXT,
+    service_type_id TEXT,
+    price TEXT,
+    service_date TEXT,
+    employee_ref UUID,
+    service_type_ref UUID,
+    price_value NUMERIC,
+    service_date_value DATE,
+    comission_percentage NUMERIC,
+    rejection_reason TEXT,
+    PRIMARY KEY (import_id, line_number)
+);
+
+-- Import dates are yyyy-MM-dd only. A plain ::DATE cast would read them through the session's
+-- DateStyle, so the format is checked first and parsed explicitly; to_date is STABLE, and so is this.
+CREATE OR REPLACE FUNCTION import_try_date(value TEXT) RETURNS DATE AS $$
+BEGIN
+    IF value !~ '^\d{4}-\d{2}-\d{2}$' THEN
+        RETURN NULL;
+    END IF;
+    RETURN to_date(value, 'YYYY-MM-DD');
+EXCEPTION WHEN others THEN
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql STABLE;
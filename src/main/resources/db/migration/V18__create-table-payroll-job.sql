@@ -0,0 +1,40 @@
+CREATE TABLE payroll_job (
+    id UUID PRIMARY KEY,
+    status TEXT NOT NULL,
+    up_to_service_date DATE,
+    employees_total INTEGER NOT NULL DEFAULT 0,
+    employees_processed INTEGER NOT NULL DEFAULT 0,
+    employees_paid INTEGER NOT NULL DEFAULT 0,
+    employees_with_nothing_to_pay INTEGER NOT NULL DEFAULT 0,
+    employees_failed INTEGER NOT NULL DEFAULT 0,
+    commissions_paid_count INTEGER NOT NULL DEFAULT 0,
+    total_paid DECIMAL NOT NULL DEFAULT 0,
+    error_message TEXT,
+    -- Lease of the instance processing the job; a job whose heartbeat went stale is taken over.
+    claimed_by TEXT,
+    heartbeat_at TIMESTAMP,
+    created_by UUID REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    CONSTRAINT check_payroll_job_status
+        CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_payroll_job_status ON payroll_job(status);
+
+-- One row per employee in the job; rows still PENDING are what a restarted job resumes.
+CREATE TABLE payroll_job_employee (
+    id UUID PRIMARY KEY,
+    job_id UUID NOT NULL REFERENCES payroll_job(id) ON DELETE CASCADE,
+    employee_id UUID NOT NULL,
+    status TEXT NOT NULL,
+    commissions_paid_count INTEGER NOT NULL DEFAULT 0,
+    total_paid DECIMAL NOT NULL DEFAULT 0,
+    error_message TEXT,
+    processed_at TIMESTAMP,
+    CONSTRAINT uk_payroll_job_employee UNIQUE (job_id, employee_id),
+    CONSTRAINT check_payroll_job_employee_status
+        CHECK (status IN ('PENDING', 'PAID', 'NOTHING_TO_PAY', 'FAILED'))
+);
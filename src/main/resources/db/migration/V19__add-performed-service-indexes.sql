@@ -0,0 +1,23 @@
+-- Employee commission lookups: findByEmployee_IdAndStatus(AndServiceDateLessThanEqual) and the
+-- set-based batch payment, which filters on all three columns.
+CREATE INDEX IF NOT EXISTS idx_performed_service_employee_status_date
+    ON performed_service (employee_id, status, service_date);
+
+-- Per-employee date ranges (findByEmployeeIdAndServiceDateBetween) and the employee-filtered
+-- listings, which sort and page by (service_date, id).
+CREATE INDEX IF NOT EXISTS idx_performed_service_employee_date_id
+    ON performed_service (employee_id, service_date, id);
+
+-- Unfiltered listings and cursor windows across all employees.
+CREATE INDEX IF NOT EXISTS idx_performed_service_date_id
+    ON performed_service (service_date, id);
+
+-- Pending rows are the small, hot subset once commissions get paid; payroll runs look up which
+-- employees still have something to pay up to a cutoff date.
+CREATE INDEX IF NOT EXISTS idx_performed_service_pending_date_employee
+    ON performed_service (service_date, employee_id)
+    WHERE status = 'COMMISSION_PENDING';
+
+-- Rows are appended in creation order, so a BRIN index stays tiny and still prunes time ranges.
+CREATE INDEX IF NOT EXISTS idx_performed_service_created_at_brin
+    ON performed_service USING BRIN (created_at);
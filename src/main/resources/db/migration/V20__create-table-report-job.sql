@@ -0,0 +1,31 @@
+CREATE TABLE report_job (
+    id UUID PRIMARY KEY,
+    status TEXT NOT NULL,
+    employee_id UUID NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    employee_name VARCHAR(255) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    format TEXT NOT NULL,
+    filename VARCHAR(255),
+    content_type VARCHAR(255),
+    file_path TEXT,
+    size_bytes BIGINT,
+    error_message TEXT,
+    -- Lease of the instance rendering the job; a job whose heartbeat went stale is taken over.
+    claimed_by TEXT,
+    heartbeat_at TIMESTAMP,
+    created_by UUID REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    CONSTRAINT check_report_job_status
+        CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    CONSTRAINT check_report_job_format
+        CHECK (format IN ('PDF', 'EXCEL'))
+);
+
+CREATE INDEX idx_report_job_status ON report_job(status);
+
+-- Finished jobs are swept by age once their files expire.
+CREATE INDEX idx_report_job_finished_at ON report_job(finished_at) WHERE finished_at IS NOT NULL;
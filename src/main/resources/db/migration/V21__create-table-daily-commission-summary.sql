@@ -0,0 +1,23 @@
+-- Per-day totals of performed_service, kept in step with every write so period totals
+-- are a range scan over a few rows per day instead of a scan of the fact table.
+CREATE TABLE daily_commission_summary (
+    employee_id UUID NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    summary_date DATE NOT NULL,
+    service_type_id UUID NOT NULL REFERENCES service_type(id) ON DELETE CASCADE,
+    status TEXT NOT NULL,
+    service_count BIGINT NOT NULL DEFAULT 0,
+    total_price DECIMAL NOT NULL DEFAULT 0,
+    total_commission DECIMAL NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (employee_id, summary_date, service_type_id, status),
+    CONSTRAINT check_daily_commission_summary_status
+        CHECK (status IN ('COMMISSION_PENDING', 'COMMISSION_PAID', 'CANCELLED'))
+);
+
+CREATE INDEX idx_daily_commission_summary_date ON daily_commission_summary(summary_date);
+
+INSERT INTO daily_commission_summary
+    (employee_id, summary_date, service_type_id, status, service_count, total_price, total_commission)
+SELECT employee_id, service_date, service_type_id, status, COUNT(*), SUM(price), SUM(comission_amount)
+FROM performed_service
+GROUP BY employee_id, service_date, service_type_id, status;
@@ -0,0 +1,28 @@
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    status TEXT NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    attachment BYTEA,
+    attachment_filename VARCHAR(255),
+    attachment_content_type VARCHAR(255),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    claimed_at TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+    CONSTRAINT check_email_outbox_status
+        CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED'))
+);
+
+-- The dispatcher polls for due messages in next_attempt_at order.
+CREATE INDEX idx_email_outbox_due ON email_outbox(next_attempt_at) WHERE status = 'PENDING';
+
+-- Claims left behind by a dispatcher that stopped mid-batch.
+CREATE INDEX idx_email_outbox_claimed_at ON email_outbox(claimed_at) WHERE status = 'SENDING';
+
+-- Sent messages are swept by age.
+CREATE INDEX idx_email_outbox_sent_at ON email_outbox(sent_at) WHERE status = 'SENT';
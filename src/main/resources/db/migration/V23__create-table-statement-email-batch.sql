@@ -0,0 +1,38 @@
+CREATE TABLE statement_email_batch (
+    id UUID PRIMARY KEY,
+    status TEXT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    format TEXT NOT NULL,
+    recipient_count INTEGER NOT NULL,
+    error_message TEXT,
+    -- Lease of the instance rendering the batch; a batch whose heartbeat went stale is taken over.
+    claimed_by TEXT,
+    heartbeat_at TIMESTAMP,
+    created_by UUID REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    CONSTRAINT check_statement_email_batch_status
+        CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    CONSTRAINT check_statement_email_batch_format
+        CHECK (format IN ('PDF', 'EXCEL'))
+);
+
+CREATE INDEX idx_statement_email_batch_status ON statement_email_batch(status);
+
+-- One row per employee of the batch. outbox_message_id is set once the statement has been queued; it is
+-- not a foreign key because sent outbox messages are swept while the batch is kept.
+CREATE TABLE statement_email_recipient (
+    id UUID PRIMARY KEY,
+    batch_id UUID NOT NULL REFERENCES statement_email_batch(id) ON DELETE CASCADE,
+    employee_id UUID NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    employee_name VARCHAR(255) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    outbox_message_id UUID,
+    error_message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_statement_email_recipient UNIQUE (batch_id, employee_id)
+);
@@ -0,0 +1,16 @@
+-- A row revokes either one token (token_id = the token's jti) or every token of a user issued
+-- before revoked_at (token_id NULL). Rows are only needed until the tokens they cover expire.
+CREATE TABLE revoked_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_id UUID,
+    user_id UUID REFERENCES users(id) ON DELETE CASCADE,
+    revoked_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    reason VARCHAR(100),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT check_revoked_tokens_target CHECK (token_id IS NOT NULL OR user_id IS NOT NULL)
+);
+
+CREATE UNIQUE INDEX uk_revoked_tokens_token_id ON revoked_tokens(token_id) WHERE token_id IS NOT NULL;
+CREATE INDEX idx_revoked_tokens_created_at ON revoked_tokens(created_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
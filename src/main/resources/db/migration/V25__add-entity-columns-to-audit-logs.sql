@@ -0,0 +1,8 @@
+-- event_type names the audited entity (PERFORMED_SERVICE, COMMISSION_PAYMENT, ...) and action
+-- what happened to it; timestamp is when it happened, which precedes the asynchronous insert.
+ALTER TABLE audit_logs
+    ADD COLUMN entity_id UUID,
+    ADD COLUMN details TEXT;
+
+CREATE INDEX idx_audit_logs_entity ON audit_logs(event_type, entity_id);
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs(timestamp);
@@ -0,0 +1,49 @@
+-- audit_logs becomes range partitioned by month on timestamp. A partitioned table's primary key
+-- has to include the partition key, hence (id, timestamp); ids are still unique UUIDs.
+-- Monthly partitions are named audit_logs_YYYY_MM and created ahead of time by
+-- AuditLogPartitionService; the default partition only catches rows outside them.
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT audit_logs_pkey TO audit_logs_unpartitioned_pkey;
+ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT audit_logs_user_id_fkey TO audit_logs_unpartitioned_user_id_fkey;
+ALTER INDEX idx_audit_logs_entity RENAME TO idx_audit_logs_unpartitioned_entity;
+ALTER INDEX idx_audit_logs_timestamp RENAME TO idx_audit_logs_unpartitioned_timestamp;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL,
+    user_id UUID REFERENCES users(id) ON DELETE CASCADE,
+    event_type VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    action VARCHAR(255),
+    timestamp TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    entity_id UUID,
+    details TEXT,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE INDEX idx_audit_logs_entity ON audit_logs(event_type, entity_id);
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs(timestamp);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- One partition per month from the oldest existing row up to three months ahead.
+DO $$
+DECLARE
+    month DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '3 months');
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(COALESCE(timestamp, created_at)), CURRENT_TIMESTAMP))
+    INTO month
+    FROM audit_logs_unpartitioned;
+
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_' || to_char(month, 'YYYY_MM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, user_id, event_type, created_at, action, timestamp, entity_id, details)
+SELECT id, user_id, event_type, created_at, action, COALESCE(timestamp, created_at, CURRENT_TIMESTAMP), entity_id, details
+FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
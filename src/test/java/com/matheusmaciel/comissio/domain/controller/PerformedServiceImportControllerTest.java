@@ -0,0 +1,249 @@
+package com.matheusmaciel.comissio.domain.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusmaciel.comissio.AbstractIntegrationTest;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.UserRole;
+import com.matheusmaciel.comissio.core.model.register.*;
+import com.matheusmaciel.comissio.core.repository.*;
+import com.matheusmaciel.comissio.infra.config.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Uploads a small CSV through the import endpoint and follows it through the staging pipeline
+ * (COPY, parse, validate, rule resolution, promotion) into performed_service and
+ * daily_commission_summary, then reads the rejected rows back page by page.
+ */
+class PerformedServiceImportControllerTest extends AbstractIntegrationTest {
+
+    private static final LocalDate SERVICE_DATE = LocalDate.of(2024, 3, 10);
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TokenService tokenService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private ServiceTypeRepository serviceTypeRepository;
+    @Autowired private ComissionConfigRepository comissionConfigRepository;
+    @Autowired private EmployeeComissionRepository employeeComissionRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private User admin;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+        admin = createUser("import-admin", UserRole.ADMIN);
+        token = tokenService.generateToken(admin);
+    }
+
+    @Test
+    @DisplayName("CSV import should promote valid rows with the employee rule over the default and list the rejected rows")
+    void importCsv_shouldPromoteValidRowsAndListRejections() throws Exception {
+        Employee withCustomRule = createEmployee("import-custom");
+        Employee withDefaultRule = createEmployee("import-default");
+        ServiceType configured = createServiceType();
+        ServiceType unconfigured = createServiceType();
+
+        comissionConfigRepository.save(ComissionConfig.builder()
+                .serviceType(configured)
+                .defaultPercentage(new BigDecimal("10.00"))
+                .build());
+        employeeComissionRepository.save(EmployeeComission.builder()
+                .employee(withCustomRule)
+                .serviceType(configured)
+                .customPercentage(new BigDecimal("15.00"))
+                .build());
+
+        // An existing pending total for the same day, which the import has to add to.
+        jdbcTemplate.update("""
+                INSERT INTO daily_commission_summary
+                    (employee_id, summary_date, service_type_id, status, service_count, total_price, total_commission, updated_at)
+                VALUES (?, ?, ?, 'COMMISSION_PENDING', 1, 200.00, 30.00, CURRENT_TIMESTAMP)
+                """, withCustomRule.getId(), Date.valueOf(SERVICE_DATE), configured.getId());
+
+        String custom = withCustomRule.getId().toString();
+        String standard = withDefaultRule.getId().toString();
+        String type = configured.getId().toString();
+        String unknownEmployee = UUID.randomUUID().toString();
+        String csv = String.join("\n",
+                "employee_id,service_type_id,price,service_date",
+                custom + "," + type + ",100.00,2024-03-10",
+                standard + "," + type + ",100.00,2024-03-10",
+                standard + "," + type + ",\"50.00\",2024-03-10",
+                "not-a-uuid," + type + ",10.00,2024-03-10",
+                custom + ",12345," + "10.00,2024-03-10",
+                custom + "," + type + ",12.3.4,2024-03-10",
+                custom + "," + type + ",-5.00,2024-03-10",
+                custom + "," + type + ",10.00,2024-02-30",
+                custom + "," + type + ",10.00,03/10/2024",
+                unknownEmployee + "," + type + ",10.00,2024-03-10",
+                custom + "," + unconfigured.getId() + ",10.00,2024-03-10",
+                custom + "," + type);
+
+        JsonNode started = objectMapper.readTree(mockMvc.perform(multipart("/performed-services/imports")
+                        .file(new MockMultipartFile("file", "services.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString());
+        UUID importId = UUID.fromString(started.get("id").asText());
+
+        JsonNode finished = awaitFinished(importId);
+        assertThat(finished.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(finished.get("loadedRows").asLong()).isEqualTo(12);
+        assertThat(finished.get("promotedRows").asLong()).isEqualTo(3);
+        assertThat(finished.get("rejectedRows").asLong()).isEqualTo(9);
+
+        // Employee rule (15%) over the default (10%) for the first employee, default for the second.
+        assertThat(commissions(withCustomRule)).containsExactly(Map.entry(new BigDecimal("100.00"), new BigDecimal("15.00")));
+        assertThat(commissions(withDefaultRule)).containsExactlyInAnyOrder(
+                Map.entry(new BigDecimal("100.00"), new BigDecimal("10.00")),
+                Map.entry(new BigDecimal("50.00"), new BigDecimal("5.00")));
+
+        assertThat(summary(withCustomRule, configured)).containsExactly(2L, new BigDecimal("300.00"), new BigDecimal("45.00"));
+        assertThat(summary(withDefaultRule, configured)).containsExactly(2L, new BigDecimal("150.00"), new BigDecimal("15.00"));
+
+        JsonNode firstPage = rejections(importId, 0, 5);
+        assertThat(firstPage.get("page").get("totalElements").asLong()).isEqualTo(9);
+        assertThat(firstPage.get("content")).extracting(row -> row.get("lineNumber").asLong())
+                .containsExactly(5L, 6L, 7L, 8L, 9L);
+        assertThat(firstPage.get("content")).extracting(row -> row.get("rejectionReason").asText())
+                .containsExactly(
+                        "Invalid employee_id",
+                        "Invalid service_type_id",
+                        "Invalid price",
+                        "Invalid price",
+                        "Invalid service_date");
+
+        JsonNode secondPage = rejections(importId, 1, 5);
+        assertThat(secondPage.get("content")).extracting(row -> row.get("lineNumber").asLong())
+                .containsExactly(10L, 11L, 12L, 13L);
+        assertThat(secondPage.get("content")).extracting(row -> row.get("rejectionReason").asText())
+                .containsExactly(
+                        "Invalid service_date",
+                        "Employee not found with ID: " + unknownEmployee,
+                        "Commission rule not found for Employee: " + custom + " and ServiceType: " + unconfigured.getId(),
+                        "Expected 4 columns but found 2");
+        assertThat(secondPage.get("content").get(0).get("serviceDate").asText()).isEqualTo("03/10/2024");
+
+        // Promoted rows leave the staging table, rejected rows stay for review.
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM performed_service_import_row WHERE import_id = ?", Long.class, importId))
+                .isEqualTo(9);
+
+        // One audit entry for the whole import, written by the asynchronous audit writer.
+        assertThat(awaitAuditEntry(importId)).containsExactly(admin.getId(), "CREATED", "promoted=3, rejected=9");
+    }
+
+    private JsonNode awaitFinished(UUID importId) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (true) {
+            JsonNode current = objectMapper.readTree(mockMvc.perform(get("/performed-services/imports/{id}", importId)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            String status = current.get("status").asText();
+            if (status.equals("COMPLETED") || status.equals("FAILED") || System.nanoTime() > deadline) {
+                return current;
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private List<Object> awaitAuditEntry(UUID importId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (true) {
+            List<List<Object>> entries = jdbcTemplate.query("""
+                            SELECT user_id, action, details FROM audit_logs
+                            WHERE event_type = 'PERFORMED_SERVICE_IMPORT' AND entity_id = ?
+                            """,
+                    (rs, rowNum) -> List.of(rs.getObject("user_id", UUID.class), rs.getString("action"), rs.getString("details")),
+                    importId);
+            if (!entries.isEmpty() || System.nanoTime() > deadline) {
+                assertThat(entries).hasSize(1);
+                return entries.get(0);
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private JsonNode rejections(UUID importId, int page, int size) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/performed-services/imports/{id}/rejections", importId)
+                        .param("page", String.valueOf(page))
+                        .param("size", String.valueOf(size))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private List<Map.Entry<BigDecimal, BigDecimal>> commissions(Employee employee) {
+        return jdbcTemplate.query("""
+                        SELECT price, comission_amount FROM performed_service
+                        WHERE employee_id = ? AND status = 'COMMISSION_PENDING' AND service_date = ?
+                        """,
+                (rs, rowNum) -> Map.entry(rs.getBigDecimal("price"), rs.getBigDecimal("comission_amount")),
+                employee.getId(), Date.valueOf(SERVICE_DATE));
+    }
+
+    private List<Object> summary(Employee employee, ServiceType serviceType) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT service_count, total_price, total_commission FROM daily_commission_summary
+                        WHERE employee_id = ? AND summary_date = ? AND service_type_id = ? AND status = 'COMMISSION_PENDING'
+                        """,
+                (rs, rowNum) -> List.of(rs.getLong("service_count"), rs.getBigDecimal("total_price"), rs.getBigDecimal("total_commission")),
+                employee.getId(), Date.valueOf(SERVICE_DATE), serviceType.getId());
+    }
+
+    private Employee createEmployee(String name) {
+        return employeeRepository.save(Employee.builder()
+                .user(createUser(name, UserRole.EMPLOYEE))
+                .status(StatusEmployee.ACTIVE)
+                .build());
+    }
+
+    private User createUser(String name, UserRole role) {
+        String username = name + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("import-password")
+                .role(role)
+                .email(username + "@test.com")
+                .name(name)
+                .build());
+    }
+
+    private ServiceType createServiceType() {
+        return serviceTypeRepository.save(ServiceType.builder()
+                .name("Import " + UUID.randomUUID())
+                .basePrice(new BigDecimal("100.00"))
+                .build());
+    }
+}
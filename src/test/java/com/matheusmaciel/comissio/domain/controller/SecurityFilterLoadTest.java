@@ -0,0 +1,150 @@
+package com.matheusmaciel.comissio.domain.controller;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.matheusmaciel.comissio.AbstractIntegrationTest;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.UserRole;
+import com.matheusmaciel.comissio.core.model.register.ServiceType;
+import com.matheusmaciel.comissio.core.repository.ServiceTypeRepository;
+import com.matheusmaciel.comissio.core.repository.UserRepository;
+import com.matheusmaciel.comissio.infra.config.security.TokenService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives concurrent authenticated requests over HTTP with a token carrying the user id claim and
+ * with one that does not (as issued before the claim existed, or with
+ * {@code api.security.token.claims-principal=false}), which makes the filter load the user.
+ * The difference in statements is the per-request lookup the claims principal saves.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "app.email-outbox.poll-interval=PT1H",
+        "app.token-revocation.refresh-interval=PT1H",
+        "app.performed-service-import.heartbeat-interval=PT1H",
+        "app.payroll-job.heartbeat-interval=PT1H",
+        "app.report-job.heartbeat-interval=PT1H",
+        "app.statement-email.heartbeat-interval=PT1H"
+})
+class SecurityFilterLoadTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityFilterLoadTest.class);
+
+    private static final int CLIENTS = 8;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int REQUESTS = CLIENTS * REQUESTS_PER_CLIENT;
+
+    @LocalServerPort private int port;
+    @Value("${api.security.token.secret}") private String secret;
+
+    @Autowired private TokenService tokenService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ServiceTypeRepository serviceTypeRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private Statistics statistics;
+    private User admin;
+    private URI serviceTypeUri;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString();
+        admin = userRepository.save(User.builder().username("load-admin-" + suffix).password("load-test-password")
+                .role(UserRole.ADMIN).email("load-admin-" + suffix + "@test.com").name("Load Admin").build());
+        ServiceType serviceType = serviceTypeRepository.save(ServiceType.builder()
+                .name("Load " + suffix).basePrice(new BigDecimal("50.00")).build());
+        serviceTypeUri = URI.create("http://localhost:" + port + "/service-types/" + serviceType.getId());
+    }
+
+    @Test
+    @DisplayName("A claims token should authenticate without the per-request user lookup")
+    void claimsPrincipal_shouldSaveOneStatementPerRequest() throws Exception {
+        String claimsToken = tokenService.generateToken(admin);
+        String lookupToken = JWT.create()
+                .withIssuer("com.matheusmaciel.comissio")
+                .withExpiresAt(Instant.now().plus(Duration.ofHours(2)))
+                .withSubject(admin.getUsername())
+                .withClaim("roles", List.of("ROLE_ADMIN", "ROLE_MANAGER", "ROLE_EMPLOYEE"))
+                .sign(Algorithm.HMAC256(secret));
+
+        // Warm-up, so both runs see loaded classes and open connections.
+        run(claimsToken);
+        run(lookupToken);
+
+        LoadResult lookup = run(lookupToken);
+        LoadResult claims = run(claimsToken);
+
+        log.info("user lookup : {} requests, {} statements, {} req/s",
+                REQUESTS, lookup.statements(), Math.round(lookup.requestsPerSecond()));
+        log.info("claims      : {} requests, {} statements, {} req/s",
+                REQUESTS, claims.statements(), Math.round(claims.requestsPerSecond()));
+
+        assertThat(claims.statements()).isEqualTo(REQUESTS);
+        assertThat(lookup.statements() - claims.statements()).isEqualTo(REQUESTS);
+    }
+
+    private LoadResult run(String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(serviceTypeUri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        statistics.clear();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                results.add(clients.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new LoadResult(statistics.getPrepareStatementCount(), REQUESTS * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    private record LoadResult(long statements, double requestsPerSecond) {
+    }
+}
@@ -0,0 +1,227 @@
+package com.matheusmaciel.comissio.domain.repository;
+
+import com.matheusmaciel.comissio.AbstractIntegrationTest;
+import com.matheusmaciel.comissio.core.dto.report.ReportRow;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.ComissionPaymentRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.PerformedServiceSpecification;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captures the SQL each performed_service repository query actually sends and runs EXPLAIN on it
+ * against a seeded table, failing when the plan falls back to a sequential scan.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.matheusmaciel.comissio.domain.repository.PerformedServiceQueryPlanTest$CapturingStatementInspector")
+class PerformedServiceQueryPlanTest extends AbstractIntegrationTest {
+
+    private static final int EMPLOYEES = 200;
+    private static final int SERVICES_PER_EMPLOYEE = 250;
+    private static final Pattern SEQ_SCAN_ON_PERFORMED_SERVICE = Pattern.compile("Seq Scan on performed_service\\b");
+
+    private static boolean seeded;
+    private static UUID employeeId;
+
+    @Autowired private PerformedServiceRepository performedServiceRepository;
+    @Autowired private ComissionPaymentRepository comissionPaymentRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            seedPerformedServices();
+            seeded = true;
+        }
+        CapturingStatementInspector.statements.clear();
+    }
+
+    @Test
+    @DisplayName("findByEmployee_IdAndStatus should use an index")
+    void findByEmployeeIdAndStatus_shouldUseIndex() {
+        performedServiceRepository.findByEmployee_IdAndStatus(employeeId, ServiceStatus.COMMISSION_PENDING);
+
+        assertNoSequentialScan(queryStatement(), employeeId, ServiceStatus.COMMISSION_PENDING.name());
+    }
+
+    @Test
+    @DisplayName("findByEmployee_IdAndStatusAndServiceDateLessThanEqual should use an index")
+    void findByEmployeeIdAndStatusAndServiceDateLessThanEqual_shouldUseIndex() {
+        LocalDate cutoff = LocalDate.of(2023, 6, 30);
+        performedServiceRepository.findByEmployee_IdAndStatusAndServiceDateLessThanEqual(
+                employeeId, ServiceStatus.COMMISSION_PENDING, cutoff);
+
+        assertNoSequentialScan(queryStatement(), employeeId, ServiceStatus.COMMISSION_PENDING.name(), cutoff);
+    }
+
+    @Test
+    @DisplayName("Report row stream should use an index")
+    void streamReportRows_shouldUseIndex() {
+        LocalDate start = LocalDate.of(2023, 3, 1);
+        LocalDate end = LocalDate.of(2023, 3, 31);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ReportRow> rows = performedServiceRepository.streamReportRows(employeeId, start, end, 100)) {
+                assertThat(rows).isNotEmpty();
+            }
+        });
+
+        assertNoSequentialScan(queryStatement(), employeeId, start, end);
+    }
+
+    @Test
+    @DisplayName("findEmployeeIdsByStatusAndServiceDateLessThanEqual should use the pending index")
+    void findEmployeeIdsByStatusAndServiceDateLessThanEqual_shouldUseIndex() {
+        LocalDate cutoff = LocalDate.of(2023, 1, 15);
+        performedServiceRepository.findEmployeeIdsByStatusAndServiceDateLessThanEqual(ServiceStatus.COMMISSION_PENDING, cutoff);
+
+        assertNoSequentialScan(queryStatement(), ServiceStatus.COMMISSION_PENDING.name(), cutoff);
+    }
+
+    @Test
+    @DisplayName("Employee listing page and its count should use an index")
+    void findResponses_filteredByEmployee_shouldUseIndex() {
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        LocalDate end = LocalDate.of(2023, 12, 31);
+        Specification<PerformedService> spec = Specification
+                .where(PerformedServiceSpecification.employeeIdEquals(employeeId))
+                .and(PerformedServiceSpecification.serviceDateGreaterThanOrEquals(start))
+                .and(PerformedServiceSpecification.serviceDateLessThanOrEquals(end));
+
+        performedServiceRepository.findResponses(spec, PageRequest.of(0, 20, Sort.by("serviceDate", "id")));
+
+        List<String> statements = List.copyOf(CapturingStatementInspector.statements);
+        assertThat(statements).hasSize(2);
+        assertNoSequentialScan(statements.get(0), employeeId, start, end, 0, 20);
+        assertNoSequentialScan(statements.get(1), employeeId, start, end);
+    }
+
+    @Test
+    @DisplayName("Unfiltered cursor window should walk the (service_date, id) index")
+    void findResponsesAfter_unfiltered_shouldUseIndex() {
+        LocalDate afterDate = LocalDate.of(2024, 6, 1);
+        UUID afterId = UUID.randomUUID();
+        performedServiceRepository.findResponsesAfter(Specification.where(null), afterDate, afterId, Sort.Direction.ASC, 21);
+
+        assertNoSequentialScan(queryStatement(), afterDate, afterDate, afterId, 21);
+    }
+
+    @Test
+    @DisplayName("Batch payment statement should use an index")
+    void payPendingCommissions_shouldUseIndex() {
+        LocalDate cutoff = LocalDate.of(2023, 6, 30);
+        LocalDateTime paymentDate = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            comissionPaymentRepository.payPendingCommissions(employeeId, cutoff, paymentDate);
+            status.setRollbackOnly();
+        });
+
+        assertNoSequentialScan(queryStatement(), paymentDate, employeeId, cutoff, cutoff,
+                paymentDate, paymentDate, paymentDate, paymentDate, paymentDate);
+    }
+
+    @Test
+    @DisplayName("created_at range should be pruned by the BRIN index")
+    void createdAtRange_shouldUseBrinIndex() {
+        List<String> plan = explain("SELECT count(*) FROM performed_service WHERE created_at BETWEEN ? AND ?",
+                LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 1, 2, 0, 0));
+
+        assertThat(String.join("\n", plan)).contains("idx_performed_service_created_at_brin");
+    }
+
+    /**
+     * The repository query is the first statement sent; entity queries may be followed by loads of
+     * their eager associations.
+     */
+    private String queryStatement() {
+        List<String> statements = CapturingStatementInspector.statements;
+        assertThat(statements).isNotEmpty();
+        return statements.get(0);
+    }
+
+    private void assertNoSequentialScan(String sql, Object... parameters) {
+        String plan = String.join("\n", explain(sql, parameters));
+        assertThat(SEQ_SCAN_ON_PERFORMED_SERVICE.matcher(plan).find())
+                .as("Plan for%n%s%nfell back to a sequential scan:%n%s", sql, plan)
+                .isFalse();
+    }
+
+    private List<String> explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private void seedPerformedServices() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        jdbcTemplate.update("""
+                INSERT INTO service_type (id, name, base_price)
+                SELECT gen_random_uuid(), 'Plan ' || ? || ' ' || g, 50
+                FROM generate_series(1, 20) g
+                """, suffix);
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, email, username, password, role)
+                SELECT gen_random_uuid(), 'Plan ' || g, 'plan-' || ? || '-' || g || '@test.com',
+                       'plan-' || ? || '-' || g, 'plan-password', 'EMPLOYEE'
+                FROM generate_series(1, ?) g
+                """, suffix, suffix, EMPLOYEES);
+        jdbcTemplate.update("""
+                INSERT INTO employees (id, user_id, status)
+                SELECT gen_random_uuid(), id, 'ACTIVE' FROM users WHERE username LIKE 'plan-' || ? || '-%'
+                """, suffix);
+
+        // One in ten services is still pending, spread over two years of service dates and
+        // created in insertion order, like production traffic.
+        jdbcTemplate.update("""
+                INSERT INTO performed_service
+                    (id, employee_id, service_type_id, price, comission_amount, status, service_date, created_at, updated_at)
+                SELECT gen_random_uuid(), e.id, st.id, 50, 5,
+                       CASE WHEN g % 10 = 0 THEN 'COMMISSION_PENDING' ELSE 'COMMISSION_PAID' END,
+                       DATE '2023-01-01' + (g % 730),
+                       TIMESTAMP '2023-01-01' + (e.rn * ? + g) * INTERVAL '1 minute',
+                       TIMESTAMP '2023-01-01' + (e.rn * ? + g) * INTERVAL '1 minute'
+                FROM (SELECT id, row_number() OVER (ORDER BY id) - 1 AS rn
+                      FROM employees WHERE user_id IN (SELECT id FROM users WHERE username LIKE 'plan-' || ? || '-%')) e
+                CROSS JOIN generate_series(1, ?) g
+                CROSS JOIN LATERAL (SELECT id FROM service_type WHERE name LIKE 'Plan ' || ? || ' %'
+                                    ORDER BY id OFFSET (g % 20) LIMIT 1) st
+                ORDER BY e.rn, g
+                """, SERVICES_PER_EMPLOYEE, SERVICES_PER_EMPLOYEE, suffix, SERVICES_PER_EMPLOYEE, suffix);
+        jdbcTemplate.execute("ANALYZE performed_service");
+
+        employeeId = jdbcTemplate.queryForObject(
+                "SELECT e.id FROM employees e JOIN users u ON u.id = e.user_id WHERE u.username = ?",
+                UUID.class, "plan-" + suffix + "-1");
+    }
+}
@@ -0,0 +1,101 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.repository.AuditLogPartitionRepository;
+import com.matheusmaciel.comissio.core.service.AuditLogPartitionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogPartitionServiceTest {
+
+    @Mock
+    private AuditLogPartitionRepository auditLogPartitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final YearMonth currentMonth = YearMonth.now();
+
+    @Test
+    @DisplayName("Missing future months should be created and months past the retention dropped")
+    void maintainPartitions_shouldCreateAheadAndDropExpired() {
+        givenAttachedMonthsUpToCurrent();
+
+        service(true).maintainPartitions();
+
+        verify(auditLogPartitionRepository).createPartition(currentMonth.plusMonths(1));
+        verify(auditLogPartitionRepository).createPartition(currentMonth.plusMonths(2));
+        verify(auditLogPartitionRepository).createPartition(currentMonth.plusMonths(3));
+        verify(auditLogPartitionRepository, never()).createPartition(currentMonth);
+
+        InOrder inOrder = inOrder(auditLogPartitionRepository);
+        for (YearMonth expired : List.of(currentMonth.minusMonths(14), currentMonth.minusMonths(13))) {
+            inOrder.verify(auditLogPartitionRepository).detachPartition(expired);
+            inOrder.verify(auditLogPartitionRepository).dropPartition(expired);
+        }
+        verify(auditLogPartitionRepository, never()).detachPartition(currentMonth.minusMonths(12));
+    }
+
+    @Test
+    @DisplayName("With drop-expired off, expired months should only be detached")
+    void maintainPartitions_whenDropDisabled_shouldOnlyDetach() {
+        givenAttachedMonthsUpToCurrent();
+
+        service(false).maintainPartitions();
+
+        verify(auditLogPartitionRepository, times(2)).detachPartition(any());
+        verify(auditLogPartitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("A month with rows in the default partition should be skipped and the retention pass still run")
+    void maintainPartitions_whenDefaultPartitionHasStrayRows_shouldSkipThatMonth() {
+        givenAttachedMonthsUpToCurrent();
+        when(auditLogPartitionRepository.findDefaultPartitionMonths()).thenReturn(List.of(currentMonth.plusMonths(1)));
+
+        service(true).maintainPartitions();
+
+        verify(auditLogPartitionRepository, never()).createPartition(currentMonth.plusMonths(1));
+        verify(auditLogPartitionRepository).createPartition(currentMonth.plusMonths(2));
+        verify(auditLogPartitionRepository).createPartition(currentMonth.plusMonths(3));
+        verify(auditLogPartitionRepository).dropPartition(currentMonth.minusMonths(14));
+        verify(auditLogPartitionRepository).dropPartition(currentMonth.minusMonths(13));
+    }
+
+    @Test
+    @DisplayName("Nothing should change while another instance holds the maintenance lock")
+    void maintainPartitions_whenLockIsTaken_shouldSkip() {
+        when(auditLogPartitionRepository.tryMaintenanceLock()).thenReturn(false);
+
+        service(true).maintainPartitions();
+
+        verify(auditLogPartitionRepository, never()).findAttachedMonths();
+        verify(auditLogPartitionRepository, never()).createPartition(any());
+        verify(auditLogPartitionRepository, never()).detachPartition(any());
+    }
+
+    // Fourteen months back, so two of them are past a twelve-month retention.
+    private void givenAttachedMonthsUpToCurrent() {
+        when(auditLogPartitionRepository.tryMaintenanceLock()).thenReturn(true);
+        when(auditLogPartitionRepository.findAttachedMonths()).thenReturn(Stream.iterate(
+                currentMonth.minusMonths(14), month -> !month.isAfter(currentMonth), month -> month.plusMonths(1)).toList());
+    }
+
+    private AuditLogPartitionService service(boolean dropExpired) {
+        return new AuditLogPartitionService(auditLogPartitionRepository, new TransactionTemplate(transactionManager),
+                3, 12, dropExpired);
+    }
+}
@@ -0,0 +1,137 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.audit.AuditEvent;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.register.AuditAction;
+import com.matheusmaciel.comissio.core.model.register.AuditEventType;
+import com.matheusmaciel.comissio.core.repository.AuditLogBatchRepository;
+import com.matheusmaciel.comissio.core.service.AuditLogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogServiceTest {
+
+    @Mock
+    private AuditLogBatchRepository auditLogBatchRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogService auditLogService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auditLogService.stop();
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Events should be written in full batches, with the remainder flushed on stop")
+    @SuppressWarnings("unchecked")
+    void record_shouldWriteFullBatchesAndFlushTheRestOnStop() throws InterruptedException {
+        auditLogService = service(100, 4, Duration.ofMinutes(1), Duration.ZERO);
+        UUID userId = UUID.randomUUID();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, "ana", List.of()), null, List.of()));
+
+        IntStream.range(0, 10).forEach(i ->
+                auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.CREATED, UUID.randomUUID(), "i=" + i));
+        auditLogService.start();
+        verify(auditLogBatchRepository, timeout(2_000).times(2)).insertAll(anyList());
+        auditLogService.stop();
+
+        ArgumentCaptor<List<AuditEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(auditLogBatchRepository, times(3)).insertAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(batches.getAllValues().get(0).get(0).userId()).isEqualTo(userId);
+        assertThat(batches.getAllValues().stream().flatMap(List::stream).map(AuditEvent::details))
+                .containsExactly("i=0", "i=1", "i=2", "i=3", "i=4", "i=5", "i=6", "i=7", "i=8", "i=9");
+        assertThat(meterRegistry.get("audit.events").tag("result", "written").counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("A partial batch should be written once its flush interval passes")
+    void record_shouldWritePartialBatchAfterFlushInterval() {
+        auditLogService = service(100, 500, Duration.ofMillis(200), Duration.ZERO);
+        auditLogService.start();
+
+        auditLogService.record(AuditEventType.COMMISSION_CONFIG, AuditAction.UPDATED, UUID.randomUUID(), null);
+
+        verify(auditLogBatchRepository, timeout(2_000)).insertAll(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Events beyond the queue capacity should be dropped and counted")
+    void record_whenQueueIsFull_shouldDropAndCount() {
+        auditLogService = service(2, 10, Duration.ofMinutes(1), Duration.ofMillis(20));
+
+        IntStream.range(0, 5).forEach(i ->
+                auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.UPDATED, UUID.randomUUID(), null));
+
+        assertThat(meterRegistry.get("audit.events").tag("result", "enqueued").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.events").tag("result", "dropped").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("audit.enqueue.wait").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("audit.queue.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Inside a transaction the event should only be queued when it commits")
+    void record_insideTransaction_shouldQueueAfterCommit() {
+        auditLogService = service(10, 10, Duration.ofMinutes(1), Duration.ZERO);
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditLogService.record(AuditEventType.EMPLOYEE_COMMISSION, AuditAction.DELETED, UUID.randomUUID(), null);
+        assertThat(meterRegistry.get("audit.queue.size").gauge().value()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(meterRegistry.get("audit.queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A failed insert should be counted and not stop the writer")
+    void flush_whenInsertFails_shouldCountAndContinue() {
+        auditLogService = service(10, 1, Duration.ofMillis(50), Duration.ZERO);
+        when(auditLogBatchRepository.insertAll(anyList()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(1);
+        auditLogService.start();
+
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.CANCELLED, UUID.randomUUID(), null);
+        auditLogService.record(AuditEventType.PERFORMED_SERVICE, AuditAction.CANCELLED, UUID.randomUUID(), null);
+
+        verify(auditLogBatchRepository, timeout(2_000).times(2)).insertAll(anyList());
+        assertThat(meterRegistry.get("audit.events").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    private AuditLogService service(int queueCapacity, int batchSize, Duration flushInterval, Duration enqueueTimeout) {
+        return new AuditLogService(auditLogBatchRepository, meterRegistry, queueCapacity, batchSize, flushInterval,
+                enqueueTimeout, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,136 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.StatusEmployee;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.service.BulkReportService;
+import com.matheusmaciel.comissio.core.service.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkReportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ReportService reportService;
+
+    @TempDir
+    private Path scratchDirectory;
+
+    private ThreadPoolTaskExecutor executor;
+    private BulkReportService bulkReportService;
+
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 31);
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.initialize();
+        bulkReportService = new BulkReportService(employeeRepository, reportService, executor, 2, scratchDirectory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Bulk report should contain one entry per active employee and leave no scratch files behind")
+    void streamActiveEmployeesCommissionReports_shouldZipEveryReport() throws IOException {
+        Employee ana = employee("Ana");
+        Employee bruno = employee("Bruno");
+        Employee otherAna = employee("Ana");
+        when(employeeRepository.findAllWithUserByStatus(StatusEmployee.ACTIVE)).thenReturn(List.of(ana, bruno, otherAna));
+        when(reportService.streamIndividualCommissionReport(eq(ReportFormat.PDF), any(), anyString(), eq(startDate), eq(endDate)))
+                .thenAnswer(invocation -> report(invocation.getArgument(2), invocation.getArgument(1)));
+
+        StreamedReport bulkReport = bulkReportService.streamActiveEmployeesCommissionReports(ReportFormat.PDF, startDate, endDate);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        bulkReport.writer().writeTo(outputStream);
+
+        Map<String, String> entries = unzip(outputStream.toByteArray());
+        assertThat(bulkReport.filename()).isEqualTo("comissoes_2025-01-01_2025-01-31.zip");
+        assertThat(entries).hasSize(3)
+                .containsEntry("comissao_Bruno.pdf", "report " + bruno.getId())
+                .containsValues("report " + ana.getId(), "report " + otherAna.getId());
+        assertThat(entries.keySet()).contains("comissao_Ana.pdf")
+                .anyMatch(name -> name.startsWith("comissao_Ana_") && name.endsWith(".pdf"));
+        assertThat(scratchDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("A failed employee report should abort the bulk report and clean up scratch files")
+    void streamActiveEmployeesCommissionReports_whenOneReportFails_shouldAbort() {
+        Employee ana = employee("Ana");
+        Employee bruno = employee("Bruno");
+        when(employeeRepository.findAllWithUserByStatus(StatusEmployee.ACTIVE)).thenReturn(List.of(ana, bruno));
+        when(reportService.streamIndividualCommissionReport(any(), eq(ana.getId()), anyString(), any(), any()))
+                .thenReturn(report("Ana", ana.getId()));
+        when(reportService.streamIndividualCommissionReport(any(), eq(bruno.getId()), anyString(), any(), any()))
+                .thenReturn(new StreamedReport("comissao_Bruno.pdf", "application/pdf", outputStream -> {
+                    throw new IOException("disk full");
+                }));
+
+        StreamedReport bulkReport = bulkReportService.streamActiveEmployeesCommissionReports(ReportFormat.PDF, startDate, endDate);
+
+        assertThatThrownBy(() -> bulkReport.writer().writeTo(new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("disk full");
+        assertThat(scratchDirectory).isEmptyDirectory();
+    }
+
+    private Employee employee(String name) {
+        User user = User.builder().id(UUID.randomUUID()).name(name).build();
+        return Employee.builder().id(UUID.randomUUID()).user(user).status(StatusEmployee.ACTIVE).build();
+    }
+
+    private StreamedReport report(String employeeName, UUID employeeId) {
+        return new StreamedReport("comissao_" + employeeName + ".pdf", "application/pdf",
+                outputStream -> outputStream.write(("report " + employeeId).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Map<String, String> unzip(byte[] zip) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
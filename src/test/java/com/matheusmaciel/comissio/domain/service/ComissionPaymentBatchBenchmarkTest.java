@@ -0,0 +1,165 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.AbstractIntegrationTest;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.UserRole;
+import com.matheusmaciel.comissio.core.model.register.*;
+import com.matheusmaciel.comissio.core.repository.*;
+import com.matheusmaciel.comissio.core.service.ComissionPaymentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the previous row-by-row batch payment (one update and one insert per service)
+ * with the set-based statement used by ComissionPaymentService.processBatchPayment.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "app.email-outbox.poll-interval=PT1H",
+        "app.token-revocation.refresh-interval=PT1H",
+        "app.performed-service-import.heartbeat-interval=PT1H",
+        "app.payroll-job.heartbeat-interval=PT1H",
+        "app.report-job.heartbeat-interval=PT1H",
+        "app.statement-email.heartbeat-interval=PT1H"
+})
+class ComissionPaymentBatchBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ComissionPaymentBatchBenchmarkTest.class);
+
+    private static final int PENDING_SERVICES = 2_000;
+
+    @Autowired private ComissionPaymentService comissionPaymentService;
+    @Autowired private PerformedServiceRepository performedServiceRepository;
+    @Autowired private ComissionPaymentRepository comissionPaymentRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ServiceTypeRepository serviceTypeRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ServiceType serviceType;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        serviceType = serviceTypeRepository.save(ServiceType.builder()
+                .name("Benchmark " + UUID.randomUUID())
+                .basePrice(new BigDecimal("100.00"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("processBatchPayment should pay all pending services with a constant number of statements")
+    void processBatchPayment_shouldUseConstantRoundTrips() {
+        Employee legacyEmployee = createEmployeeWithPendingServices("legacy");
+        Employee setBasedEmployee = createEmployeeWithPendingServices("set-based");
+
+        statistics.clear();
+        long legacyStart = System.nanoTime();
+        int legacyPaid = payRowByRow(legacyEmployee.getId());
+        long legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000;
+        long legacyStatements = statistics.getPrepareStatementCount();
+        long legacyRowWrites = statistics.getEntityInsertCount() + statistics.getEntityUpdateCount();
+
+        statistics.clear();
+        long setBasedStart = System.nanoTime();
+        BatchPaymentResponseDTO response = comissionPaymentService.processBatchPayment(
+                new BatchPaymentRequestDTO(setBasedEmployee.getId(), null));
+        long setBasedMillis = (System.nanoTime() - setBasedStart) / 1_000_000;
+        long setBasedStatements = statistics.getPrepareStatementCount();
+        long setBasedRowWrites = statistics.getEntityInsertCount() + statistics.getEntityUpdateCount();
+
+        log.info("processBatchPayment with {} pending services:", PENDING_SERVICES);
+        log.info("  row-by-row: {} prepared statements, {} row-level writes, {} ms", legacyStatements, legacyRowWrites, legacyMillis);
+        log.info("  set-based:  {} prepared statements, {} row-level writes, {} ms", setBasedStatements, setBasedRowWrites, setBasedMillis);
+
+        assertThat(legacyPaid).isEqualTo(PENDING_SERVICES);
+        assertThat(response.commissionsPaidCount()).isEqualTo(PENDING_SERVICES);
+        assertThat(response.totalPaid()).isEqualByComparingTo(new BigDecimal("10.00").multiply(BigDecimal.valueOf(PENDING_SERVICES)));
+        assertThat(response.paidPerformedServiceIds()).hasSize(PENDING_SERVICES).doesNotHaveDuplicates();
+        assertThat(countPayments(setBasedEmployee.getId())).isEqualTo(PENDING_SERVICES);
+
+        // Employee lookup plus the single UPDATE ... RETURNING / INSERT ... SELECT statement.
+        assertThat(setBasedStatements).isEqualTo(2);
+        assertThat(setBasedRowWrites).isZero();
+        assertThat(legacyRowWrites).isEqualTo(2L * PENDING_SERVICES);
+    }
+
+    // The implementation processBatchPayment used before the set-based statement, kept as the baseline.
+    private int payRowByRow(UUID employeeId) {
+        Integer paid = transactionTemplate.execute(status -> {
+            Employee employee = employeeRepository.findById(employeeId).orElseThrow();
+            List<PerformedService> servicesToPay = performedServiceRepository
+                    .findByEmployee_IdAndStatus(employeeId, ServiceStatus.COMMISSION_PENDING);
+
+            for (PerformedService service : servicesToPay) {
+                service.setStatus(ServiceStatus.COMMISSION_PAID);
+                performedServiceRepository.save(service);
+
+                comissionPaymentRepository.save(ComissionPayment.builder()
+                        .employee(employee)
+                        .performedService(service)
+                        .amountPaid(service.getComissionAmount())
+                        .status(PaymentStatus.PAID)
+                        .paymentDate(LocalDateTime.now())
+                        .build());
+            }
+            return servicesToPay.size();
+        });
+        return paid != null ? paid : 0;
+    }
+
+    private Employee createEmployeeWithPendingServices(String name) {
+        String suffix = name + "-" + UUID.randomUUID();
+        User user = userRepository.save(User.builder()
+                .username(suffix)
+                .password("benchmark")
+                .role(UserRole.EMPLOYEE)
+                .email(suffix + "@test.com")
+                .name(name)
+                .build());
+        Employee employee = employeeRepository.save(Employee.builder().user(user).status(StatusEmployee.ACTIVE).build());
+
+        LocalDate serviceDate = LocalDate.now().minusDays(1);
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO performed_service
+                            (id, employee_id, service_type_id, price, comission_amount, status, service_date, created_at, updated_at)
+                        VALUES (?, ?, ?, 100.00, 10.00, 'COMMISSION_PENDING', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                        """,
+                IntStream.range(0, PENDING_SERVICES)
+                        .mapToObj(i -> new Object[]{UUID.randomUUID(), employee.getId(), serviceType.getId(), Date.valueOf(serviceDate)})
+                        .toList());
+        return employee;
+    }
+
+    private long countPayments(UUID employeeId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comission_payment WHERE employee_id = ?", Long.class, employeeId);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.analytics.PeriodCommissionTotalsDTO;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.register.AnalyticsGranularity;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+import com.matheusmaciel.comissio.core.service.CommissionAnalyticsService;
+import com.matheusmaciel.comissio.core.service.PerformedServiceService;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CommissionAnalyticsServiceTest {
+
+    @Mock
+    private CommissionAnalyticsRepository analyticsRepository;
+
+    @Mock
+    private PerformedServiceService performedServiceService;
+
+    private CommissionAnalyticsService analyticsService;
+
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 3, 31);
+    private final Authentication employeeAuthentication = new UsernamePasswordAuthenticationToken(
+            new AuthenticatedUser(UUID.randomUUID(), "ana", List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))), null,
+            List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")));
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new CommissionAnalyticsService(analyticsRepository, performedServiceService);
+    }
+
+    @Test
+    @DisplayName("Aggregations should be filtered by the employee the caller is allowed to see")
+    void getTotalsByPeriod_asEmployee_shouldQueryOwnEmployeeOnly() {
+        UUID requestedEmployeeId = UUID.randomUUID();
+        UUID ownEmployeeId = UUID.randomUUID();
+        when(performedServiceService.resolveVisibleEmployeeId(requestedEmployeeId, employeeAuthentication)).thenReturn(ownEmployeeId);
+
+        CommissionAnalyticsRepository.PeriodTotalsView month = mock(CommissionAnalyticsRepository.PeriodTotalsView.class);
+        when(month.getPeriodStart()).thenReturn(startDate);
+        when(month.getServiceCount()).thenReturn(3L);
+        when(month.getTotalPrice()).thenReturn(new BigDecimal("300.00"));
+        when(month.getTotalCommission()).thenReturn(new BigDecimal("30.00"));
+        when(analyticsRepository.findTotalsByPeriod("month", startDate, endDate, ownEmployeeId, "COMMISSION_PAID"))
+                .thenReturn(List.of(month));
+
+        List<PeriodCommissionTotalsDTO> rows = analyticsService.getTotalsByPeriod(AnalyticsGranularity.MONTH, startDate, endDate,
+                requestedEmployeeId, ServiceStatus.COMMISSION_PAID, employeeAuthentication);
+
+        assertThat(rows).containsExactly(new PeriodCommissionTotalsDTO(startDate, 3, new BigDecimal("300.00"), new BigDecimal("30.00")));
+    }
+
+    @Test
+    @DisplayName("A period ending before it starts should be rejected before querying")
+    void getTotals_withInvertedPeriod_shouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> analyticsService.getTotals(endDate, startDate, null, null, employeeAuthentication))
+                .isInstanceOf(BusinessRuleException.class);
+
+        verifyNoInteractions(analyticsRepository, performedServiceService);
+    }
+}
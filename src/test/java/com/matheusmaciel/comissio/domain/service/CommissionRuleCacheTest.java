@@ -0,0 +1,119 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.model.register.ComissionConfig;
+import com.matheusmaciel.comissio.core.model.register.EmployeeComission;
+import com.matheusmaciel.comissio.core.repository.ComissionConfigRepository;
+import com.matheusmaciel.comissio.core.repository.EmployeeComissionRepository;
+import com.matheusmaciel.comissio.core.service.CommissionRuleCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CommissionRuleCacheTest {
+
+    @Mock
+    private EmployeeComissionRepository employeeComissionRepository;
+
+    @Mock
+    private ComissionConfigRepository comissionConfigRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommissionRuleCache commissionRuleCache;
+
+    private UUID employeeId;
+    private UUID otherEmployeeId;
+    private UUID serviceTypeId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commissionRuleCache = new CommissionRuleCache(employeeComissionRepository, comissionConfigRepository,
+                meterRegistry, 100, Duration.ofMinutes(30));
+
+        employeeId = UUID.randomUUID();
+        otherEmployeeId = UUID.randomUUID();
+        serviceTypeId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("findPercentage should query the rule tables only once per key")
+    void findPercentage_whenCalledTwice_shouldHitCache() {
+        when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(employeeId, serviceTypeId))
+                .thenReturn(Optional.of(EmployeeComission.builder().customPercentage(new BigDecimal("12.50")).build()));
+
+        assertThat(commissionRuleCache.findPercentage(employeeId, serviceTypeId)).contains(new BigDecimal("12.50"));
+        assertThat(commissionRuleCache.findPercentage(employeeId, serviceTypeId)).contains(new BigDecimal("12.50"));
+
+        verify(employeeComissionRepository, times(1)).findByEmployeeIdAndServiceTypeId(employeeId, serviceTypeId);
+        verify(comissionConfigRepository, never()).findByServiceTypeId(any());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CommissionRuleCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("findPercentage should cache the absence of any rule")
+    void findPercentage_whenNoRule_shouldCacheNegativeResult() {
+        when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(employeeId, serviceTypeId))
+                .thenReturn(Optional.empty());
+        when(comissionConfigRepository.findByServiceTypeId(serviceTypeId)).thenReturn(Optional.empty());
+
+        assertThat(commissionRuleCache.findPercentage(employeeId, serviceTypeId)).isEmpty();
+        assertThat(commissionRuleCache.findPercentage(employeeId, serviceTypeId)).isEmpty();
+
+        verify(employeeComissionRepository, times(1)).findByEmployeeIdAndServiceTypeId(employeeId, serviceTypeId);
+        verify(comissionConfigRepository, times(1)).findByServiceTypeId(serviceTypeId);
+    }
+
+    @Test
+    @DisplayName("evict should reload only the given employee and service type")
+    void evict_shouldReloadOnlyMatchingKey() {
+        when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(any(UUID.class), eq(serviceTypeId)))
+                .thenReturn(Optional.empty());
+        when(comissionConfigRepository.findByServiceTypeId(serviceTypeId))
+                .thenReturn(Optional.of(ComissionConfig.builder().defaultPercentage(BigDecimal.TEN).build()));
+
+        commissionRuleCache.findPercentage(employeeId, serviceTypeId);
+        commissionRuleCache.findPercentage(otherEmployeeId, serviceTypeId);
+
+        commissionRuleCache.evict(employeeId, serviceTypeId);
+
+        commissionRuleCache.findPercentage(employeeId, serviceTypeId);
+        commissionRuleCache.findPercentage(otherEmployeeId, serviceTypeId);
+
+        verify(employeeComissionRepository, times(2)).findByEmployeeIdAndServiceTypeId(employeeId, serviceTypeId);
+        verify(employeeComissionRepository, times(1)).findByEmployeeIdAndServiceTypeId(otherEmployeeId, serviceTypeId);
+        assertThat(meterRegistry.get("commission.rule.cache.invalidations").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("evictServiceType should reload every employee of the service type after a default change")
+    void evictServiceType_shouldReloadAllEmployeesOfServiceType() {
+        when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(any(UUID.class), eq(serviceTypeId)))
+                .thenReturn(Optional.empty());
+        when(comissionConfigRepository.findByServiceTypeId(serviceTypeId))
+                .thenReturn(Optional.of(ComissionConfig.builder().defaultPercentage(BigDecimal.TEN).build()))
+                .thenReturn(Optional.of(ComissionConfig.builder().defaultPercentage(new BigDecimal("15")).build()));
+
+        commissionRuleCache.findPercentage(employeeId, serviceTypeId);
+        commissionRuleCache.findPercentage(otherEmployeeId, serviceTypeId);
+
+        commissionRuleCache.evictServiceType(serviceTypeId);
+
+        assertThat(commissionRuleCache.findPercentage(employeeId, serviceTypeId)).contains(new BigDecimal("15"));
+        assertThat(commissionRuleCache.findPercentage(otherEmployeeId, serviceTypeId)).contains(new BigDecimal("15"));
+        verify(comissionConfigRepository, times(4)).findByServiceTypeId(serviceTypeId);
+    }
+}
@@ -0,0 +1,119 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.model.register.ServiceType;
+import com.matheusmaciel.comissio.core.repository.DailyCommissionSummaryRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.DailyCommissionSummaryService;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DailyCommissionSummaryServiceTest {
+
+    @Mock
+    private DailyCommissionSummaryRepository summaryRepository;
+
+    @Mock
+    private PerformedServiceRepository performedServiceRepository;
+
+    private DailyCommissionSummaryService summaryService;
+
+    private final Employee employee = Employee.builder().id(UUID.randomUUID()).build();
+    private final ServiceType serviceType = ServiceType.builder().id(UUID.randomUUID()).build();
+    private final LocalDate day = LocalDate.of(2025, 3, 10);
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new DailyCommissionSummaryService(summaryRepository, performedServiceRepository);
+    }
+
+    @Test
+    @DisplayName("A cancelled service should move from the pending row to the cancelled row")
+    void recordChanged_whenCancelled_shouldMoveTotalsBetweenRows() {
+        PerformedService service = service("100.00", "10.00", ServiceStatus.COMMISSION_PENDING);
+        DailyCommissionSummaryService.Contribution before = DailyCommissionSummaryService.Contribution.of(service);
+        service.setStatus(ServiceStatus.CANCELLED);
+        service.setComissionAmount(BigDecimal.ZERO);
+
+        summaryService.recordChanged(before, service);
+
+        InOrder inOrder = inOrder(performedServiceRepository, summaryRepository);
+        inOrder.verify(performedServiceRepository).flush();
+        inOrder.verify(summaryRepository).addToSummary(employee.getId(), day, serviceType.getId(), "COMMISSION_PENDING",
+                -1, new BigDecimal("-100.00"), new BigDecimal("-10.00"));
+        inOrder.verify(summaryRepository).addToSummary(employee.getId(), day, serviceType.getId(), "CANCELLED",
+                1, new BigDecimal("100.00"), BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("An update that changes nothing the summary tracks should not touch it")
+    void recordChanged_whenNothingRelevantChanged_shouldSkipSummary() {
+        PerformedService service = service("100.00", "10.00", ServiceStatus.COMMISSION_PENDING);
+
+        summaryService.recordChanged(DailyCommissionSummaryService.Contribution.of(service), service);
+
+        verifyNoInteractions(summaryRepository);
+    }
+
+    @Test
+    @DisplayName("Batch inserts should be added up per summary row before being written")
+    void recordAllAdded_shouldWriteOneUpsertPerRow() {
+        PerformedService first = service("100.00", "10.00", ServiceStatus.COMMISSION_PENDING);
+        PerformedService second = service("50.00", "5.00", ServiceStatus.COMMISSION_PENDING);
+        PerformedService nextDay = service("20.00", "2.00", ServiceStatus.COMMISSION_PENDING);
+        nextDay.setServiceDate(day.plusDays(1));
+
+        summaryService.recordAllAdded(List.of(first, second, nextDay));
+
+        verify(summaryRepository).addToSummary(employee.getId(), day, serviceType.getId(), "COMMISSION_PENDING",
+                2, new BigDecimal("150.00"), new BigDecimal("15.00"));
+        verify(summaryRepository).addToSummary(employee.getId(), day.plusDays(1), serviceType.getId(), "COMMISSION_PENDING",
+                1, new BigDecimal("20.00"), new BigDecimal("2.00"));
+        verifyNoMoreInteractions(summaryRepository);
+    }
+
+    @Test
+    @DisplayName("Rebuild should lock performed services before replacing the summary rows")
+    void rebuild_shouldLockThenReplaceRows() {
+        LocalDate endDate = day.plusDays(30);
+
+        summaryService.rebuild(day, endDate);
+
+        InOrder inOrder = inOrder(summaryRepository);
+        inOrder.verify(summaryRepository).lockPerformedServices();
+        inOrder.verify(summaryRepository).deleteBetween(day, endDate);
+        inOrder.verify(summaryRepository).insertFromPerformedServices(day, endDate);
+
+        assertThatThrownBy(() -> summaryService.rebuild(endDate, day)).isInstanceOf(BusinessRuleException.class);
+    }
+
+    private PerformedService service(String price, String comissionAmount, ServiceStatus status) {
+        return PerformedService.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .serviceTypeId(serviceType)
+                .price(new BigDecimal(price))
+                .comissionAmount(new BigDecimal(comissionAmount))
+                .status(status)
+                .serviceDate(day)
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.model.register.EmailOutboxMessage;
+import com.matheusmaciel.comissio.core.model.register.EmailOutboxStatus;
+import com.matheusmaciel.comissio.core.repository.EmailOutboxRepository;
+import com.matheusmaciel.comissio.core.service.EmailOutboxDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EmailOutboxRepository.QueueDepthView queueDepth;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = dispatcher(0);
+
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(emailOutboxRepository.findQueueDepth(any())).thenReturn(queueDepth);
+        when(queueDepth.getPending()).thenReturn(4L);
+    }
+
+    @Test
+    @DisplayName("Full batches should be sent one SMTP call each until a short batch drains the queue")
+    @SuppressWarnings("unchecked")
+    void dispatchDueMessages_shouldSendEachBatchInOneCall() {
+        List<EmailOutboxMessage> firstBatch = List.of(message(0), message(0), message(0));
+        List<EmailOutboxMessage> secondBatch = List.of(message(0));
+        when(emailOutboxRepository.lockDueMessages(any(), eq(3))).thenReturn(firstBatch, secondBatch);
+
+        dispatcher.dispatchDueMessages();
+
+        ArgumentCaptor<MimeMessage[]> sent = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(mailSender, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).extracting(batch -> batch.length).containsExactly(3, 1);
+
+        ArgumentCaptor<Collection<UUID>> markedSent = ArgumentCaptor.forClass(Collection.class);
+        verify(emailOutboxRepository, times(2)).markSent(markedSent.capture(), any());
+        assertThat(markedSent.getAllValues().get(0)).containsExactlyElementsOf(firstBatch.stream().map(EmailOutboxMessage::getId).toList());
+        assertThat(meterRegistry.get("email.outbox.deliveries").tag("result", "sent").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("email.outbox.depth").tag("status", "pending").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Failed messages should be retried with doubling backoff and given up after the last attempt")
+    void dispatchDueMessages_whenSomeMessagesFail_shouldRetryOrGiveUp() {
+        EmailOutboxMessage delivered = message(0);
+        EmailOutboxMessage retried = message(1);
+        EmailOutboxMessage exhausted = message(2);
+        when(emailOutboxRepository.lockDueMessages(any(), eq(3)))
+                .thenReturn(List.of(delivered, retried, exhausted), List.of());
+        doAnswer(invocation -> {
+            Object[] batch = invocation.getArguments();
+            throw new MailSendException("Failed messages", null, Map.of(
+                    batch[1], new MailSendException("421 try again later"),
+                    batch[2], new MailSendException("421 try again later")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatchDueMessages();
+
+        verify(emailOutboxRepository).markSent(eq(List.of(delivered.getId())), any());
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).scheduleRetry(eq(retried.getId()), eq(2), nextAttempt.capture(), contains("421"));
+        assertThat(nextAttempt.getValue()).isBetween(before.plusSeconds(60), LocalDateTime.now().plusSeconds(60));
+        verify(emailOutboxRepository).markFailed(eq(exhausted.getId()), eq(3), contains("421"));
+        assertThat(meterRegistry.get("email.outbox.deliveries").tag("result", "retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("email.outbox.deliveries").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Under a rate limit batches should hold at most one second's budget and be spaced out")
+    void dispatchDueMessages_whenRateLimited_shouldPaceBatches() {
+        dispatcher = dispatcher(2);
+        when(emailOutboxRepository.lockDueMessages(any(), eq(2)))
+                .thenReturn(List.of(message(0), message(0)), List.of(message(0), message(0)), List.of());
+        long start = System.nanoTime();
+
+        dispatcher.dispatchDueMessages();
+
+        verify(mailSender, times(2)).send(any(MimeMessage[].class));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("The poll should return without waiting for the senders and skip while they are still busy")
+    void dispatchDueMessages_whileSendersAreBusy_shouldSkipPoll() {
+        List<Runnable> startedSenders = new ArrayList<>();
+        dispatcher = dispatcher(0, startedSenders::add);
+        when(emailOutboxRepository.lockDueMessages(any(), eq(3))).thenReturn(List.of(message(0)));
+
+        dispatcher.dispatchDueMessages();
+        dispatcher.dispatchDueMessages();
+
+        assertThat(startedSenders).hasSize(1);
+        verify(emailOutboxRepository, times(1)).releaseStaleClaims(any(), any());
+        verify(mailSender, never()).send(any(MimeMessage[].class));
+
+        startedSenders.remove(0).run();
+        dispatcher.dispatchDueMessages();
+
+        verify(mailSender).send(any(MimeMessage[].class));
+        verify(emailOutboxRepository, times(2)).releaseStaleClaims(any(), any());
+        assertThat(startedSenders).hasSize(1);
+    }
+
+    private EmailOutboxDispatcher dispatcher(double maxMessagesPerSecond) {
+        return dispatcher(maxMessagesPerSecond, new SyncTaskExecutor());
+    }
+
+    private EmailOutboxDispatcher dispatcher(double maxMessagesPerSecond, TaskExecutor senderExecutor) {
+        return new EmailOutboxDispatcher(emailOutboxRepository, mailSender, new TransactionTemplate(transactionManager),
+                senderExecutor, meterRegistry, "comissio@test.com", 1, 3, maxMessagesPerSecond, 3,
+                Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofDays(7));
+    }
+
+    private EmailOutboxMessage message(int attempts) {
+        return EmailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .status(EmailOutboxStatus.PENDING)
+                .recipient("ana@test.com")
+                .subject("Relatório")
+                .body("<p>Olá</p>")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentResponseDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunRequestDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.*;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.PayrollJobEmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.PayrollJobRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.ComissionPaymentService;
+import com.matheusmaciel.comissio.core.service.PayrollJobService;
+import com.matheusmaciel.comissio.core.service.PayrollRunService;
+import com.matheusmaciel.comissio.infra.config.InstanceId;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PayrollJobServiceTest {
+
+    @Mock
+    private PayrollJobRepository payrollJobRepository;
+
+    @Mock
+    private PayrollJobEmployeeRepository payrollJobEmployeeRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ComissionPaymentService comissionPaymentService;
+
+    @Mock
+    private PerformedServiceRepository performedServiceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PayrollJobService payrollJobService;
+
+    private final LocalDate cutoff = LocalDate.of(2025, 6, 30);
+    private final String owner = "instance-a";
+    private final User requester = User.builder().id(UUID.randomUUID()).username("admin").build();
+
+    @BeforeEach
+    void setUp() {
+        PayrollRunService payrollRunService = new PayrollRunService(comissionPaymentService, performedServiceRepository,
+                new SyncTaskExecutor());
+        payrollJobService = new PayrollJobService(payrollJobRepository, payrollJobEmployeeRepository, employeeRepository,
+                comissionPaymentService, payrollRunService, new TransactionTemplate(transactionManager),
+                new SyncTaskExecutor(), new SyncTaskExecutor(), new InstanceId(owner), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("startPayrollRunJob should persist one row per employee and record each outcome as progress")
+    void startPayrollRunJob_shouldPersistAndRecordProgressPerEmployee() {
+        UUID jobId = UUID.randomUUID();
+        UUID paidEmployee = UUID.randomUUID();
+        UUID emptyEmployee = UUID.randomUUID();
+        PayrollJob job = PayrollJob.builder().id(jobId).status(PayrollJobStatus.QUEUED).upToServiceDate(cutoff).employeesTotal(2)
+                .createdBy(requester).build();
+
+        when(payrollJobRepository.save(any(PayrollJob.class))).thenReturn(job);
+        when(payrollJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(payrollJobRepository.markRunning(eq(jobId), eq(owner), any(LocalDateTime.class))).thenReturn(1);
+        when(payrollJobEmployeeRepository.recordResult(any(), any(), anyInt(), any(), any(), any())).thenReturn(1);
+        when(payrollJobEmployeeRepository.findByJobIdAndStatus(jobId, PayrollEmployeeStatus.PENDING)).thenReturn(List.of(
+                PayrollJobEmployee.builder().jobId(jobId).employeeId(paidEmployee).status(PayrollEmployeeStatus.PENDING).build(),
+                PayrollJobEmployee.builder().jobId(jobId).employeeId(emptyEmployee).status(PayrollEmployeeStatus.PENDING).build()));
+        when(comissionPaymentService.processBatchPayment(new BatchPaymentRequestDTO(paidEmployee, cutoff), requester.getId()))
+                .thenReturn(new BatchPaymentResponseDTO(paidEmployee, "Paid", 2, new BigDecimal("30.00"), LocalDateTime.now(),
+                        List.of(UUID.randomUUID(), UUID.randomUUID())));
+        when(comissionPaymentService.processBatchPayment(new BatchPaymentRequestDTO(emptyEmployee, cutoff), requester.getId()))
+                .thenThrow(new BusinessRuleException("Nenhuma comissão pendente encontrada para este funcionário."));
+
+        payrollJobService.startPayrollRunJob(new PayrollRunRequestDTO(cutoff, List.of(paidEmployee, emptyEmployee)), requester);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PayrollJobEmployee>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(payrollJobEmployeeRepository).saveAll(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue()).extracting(PayrollJobEmployee::getEmployeeId).containsExactly(paidEmployee, emptyEmployee);
+
+        ArgumentCaptor<PayrollJob> jobCaptor = ArgumentCaptor.forClass(PayrollJob.class);
+        verify(payrollJobRepository).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getClaimedBy()).isEqualTo(owner);
+
+        verify(payrollJobRepository).incrementProgress(jobId, 1, 0, 0, 2, new BigDecimal("30.00"));
+        verify(payrollJobRepository).incrementProgress(jobId, 0, 1, 0, 0, BigDecimal.ZERO);
+        verify(payrollJobRepository).markCompleted(eq(jobId), eq(owner), any(LocalDateTime.class));
+        verify(payrollJobRepository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("resumeUnfinishedJobs should only process stale jobs this instance managed to claim")
+    void resumeUnfinishedJobs_shouldProcessOnlyClaimedJobs() {
+        UUID claimedJobId = UUID.randomUUID();
+        UUID takenJobId = UUID.randomUUID();
+        PayrollJob claimedJob = PayrollJob.builder().id(claimedJobId).status(PayrollJobStatus.RUNNING).upToServiceDate(cutoff).build();
+        PayrollJob takenJob = PayrollJob.builder().id(takenJobId).status(PayrollJobStatus.RUNNING).upToServiceDate(cutoff).build();
+
+        when(payrollJobRepository.findByStatusInAndHeartbeatAtBefore(
+                eq(List.of(PayrollJobStatus.QUEUED, PayrollJobStatus.RUNNING)), any(LocalDateTime.class)))
+                .thenReturn(List.of(claimedJob, takenJob));
+        when(payrollJobRepository.claim(eq(claimedJobId), eq(owner), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(payrollJobRepository.claim(eq(takenJobId), eq(owner), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(payrollJobRepository.findById(claimedJobId)).thenReturn(Optional.of(claimedJob));
+        when(payrollJobRepository.markRunning(eq(claimedJobId), eq(owner), any(LocalDateTime.class))).thenReturn(1);
+
+        payrollJobService.resumeUnfinishedJobs();
+
+        verify(payrollJobRepository).markCompleted(eq(claimedJobId), eq(owner), any(LocalDateTime.class));
+        verify(payrollJobRepository, never()).findById(takenJobId);
+    }
+
+    @Test
+    @DisplayName("an employee already recorded by another instance should roll back the payment and leave the counters alone")
+    void resumedJob_shouldRollBackPaymentOfEmployeeAlreadyRecorded() {
+        UUID jobId = UUID.randomUUID();
+        UUID employeeId = UUID.randomUUID();
+        PayrollJob job = PayrollJob.builder().id(jobId).status(PayrollJobStatus.RUNNING).upToServiceDate(cutoff).build();
+        SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+
+        when(payrollJobRepository.findByStatusInAndHeartbeatAtBefore(any(), any(LocalDateTime.class))).thenReturn(List.of(job));
+        when(payrollJobRepository.claim(eq(jobId), eq(owner), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(payrollJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(payrollJobRepository.markRunning(eq(jobId), eq(owner), any(LocalDateTime.class))).thenReturn(1);
+        when(payrollJobEmployeeRepository.findByJobIdAndStatus(jobId, PayrollEmployeeStatus.PENDING)).thenReturn(List.of(
+                PayrollJobEmployee.builder().id(UUID.randomUUID()).jobId(jobId).employeeId(employeeId)
+                        .status(PayrollEmployeeStatus.PENDING).build()));
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(comissionPaymentService.processBatchPayment(new BatchPaymentRequestDTO(employeeId, cutoff), null))
+                .thenReturn(new BatchPaymentResponseDTO(employeeId, "Paid", 1, new BigDecimal("10.00"), LocalDateTime.now(),
+                        List.of(UUID.randomUUID())));
+        when(payrollJobEmployeeRepository.recordResult(any(), any(), anyInt(), any(), any(), any())).thenReturn(0);
+
+        payrollJobService.resumeUnfinishedJobs();
+
+        assertThat(transaction.isRollbackOnly()).isTrue();
+        verify(payrollJobRepository, never()).incrementProgress(any(), anyInt(), anyInt(), anyInt(), anyInt(), any());
+        verify(payrollJobRepository).markCompleted(eq(jobId), eq(owner), any(LocalDateTime.class));
+    }
+}
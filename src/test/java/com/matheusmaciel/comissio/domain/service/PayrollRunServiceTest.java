@@ -0,0 +1,98 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.BatchPaymentResponseDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunRequestDTO;
+import com.matheusmaciel.comissio.core.dto.comissionPayment.PayrollRunResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.PayrollEmployeeStatus;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.ComissionPaymentService;
+import com.matheusmaciel.comissio.core.service.PayrollRunService;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PayrollRunServiceTest {
+
+    @Mock
+    private ComissionPaymentService comissionPaymentService;
+
+    @Mock
+    private PerformedServiceRepository performedServiceRepository;
+
+    private PayrollRunService payrollRunService;
+
+    private final LocalDate cutoff = LocalDate.of(2025, 6, 30);
+    private final User requester = User.builder().id(UUID.randomUUID()).username("admin").build();
+
+    @BeforeEach
+    void setUp() {
+        payrollRunService = new PayrollRunService(comissionPaymentService, performedServiceRepository, new SyncTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("runPayroll should pay each employee with pending commissions and aggregate the outcome")
+    void runPayroll_withoutFilter_shouldAggregatePerEmployeeResults() {
+        UUID paidEmployee = UUID.randomUUID();
+        UUID emptyEmployee = UUID.randomUUID();
+        UUID failingEmployee = UUID.randomUUID();
+
+        when(performedServiceRepository.findEmployeeIdsByStatusAndServiceDateLessThanEqual(ServiceStatus.COMMISSION_PENDING, cutoff))
+                .thenReturn(List.of(paidEmployee, emptyEmployee, failingEmployee));
+        when(comissionPaymentService.processBatchPayment(new BatchPaymentRequestDTO(paidEmployee, cutoff), requester.getId()))
+                .thenReturn(new BatchPaymentResponseDTO(paidEmployee, "Paid", 3, new BigDecimal("45.50"), LocalDateTime.now(),
+                        List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID())));
+        when(comissionPaymentService.processBatchPayment(new BatchPaymentRequestDTO(emptyEmployee, cutoff), requester.getId()))
+                .thenThrow(new BusinessRuleException("Nenhuma comissão pendente encontrada para este funcionário."));
+        when(comissionPaymentService.processBatchPayment(new BatchPaymentRequestDTO(failingEmployee, cutoff), requester.getId()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        PayrollRunResponseDTO result = payrollRunService.runPayroll(new PayrollRunRequestDTO(cutoff, null), requester);
+
+        assertThat(result.employeesProcessed()).isEqualTo(3);
+        assertThat(result.employeesPaid()).isEqualTo(1);
+        assertThat(result.employeesWithNothingToPay()).isEqualTo(1);
+        assertThat(result.employeesFailed()).isEqualTo(1);
+        assertThat(result.commissionsPaidCount()).isEqualTo(3);
+        assertThat(result.totalPaid()).isEqualByComparingTo("45.50");
+        assertThat(result.results()).extracting("status")
+                .containsExactly(PayrollEmployeeStatus.PAID, PayrollEmployeeStatus.NOTHING_TO_PAY, PayrollEmployeeStatus.FAILED);
+        assertThat(result.results().get(2).error()).contains("connection reset");
+    }
+
+    @Test
+    @DisplayName("runPayroll should only process the requested employees, once each")
+    void runPayroll_withFilter_shouldProcessOnlyRequestedEmployees() {
+        UUID missingEmployee = UUID.randomUUID();
+        when(comissionPaymentService.processBatchPayment(any(BatchPaymentRequestDTO.class), eq(requester.getId())))
+                .thenThrow(new ResourceNotFoundException("Funcionário não encontrado com ID: " + missingEmployee));
+
+        PayrollRunResponseDTO result = payrollRunService.runPayroll(
+                new PayrollRunRequestDTO(cutoff, List.of(missingEmployee, missingEmployee)), requester);
+
+        assertThat(result.employeesProcessed()).isEqualTo(1);
+        assertThat(result.employeesFailed()).isEqualTo(1);
+        assertThat(result.totalPaid()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(comissionPaymentService, times(1)).processBatchPayment(any(BatchPaymentRequestDTO.class), any());
+        verifyNoInteractions(performedServiceRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.performedService.BatchPerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceRequestDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.PerformedService;
+import com.matheusmaciel.comissio.core.model.register.ServiceType;
+import com.matheusmaciel.comissio.core.repository.*;
+import com.matheusmaciel.comissio.core.service.AuditLogService;
+import com.matheusmaciel.comissio.core.service.CommissionRuleCache;
+import com.matheusmaciel.comissio.core.service.DailyCommissionSummaryService;
+import com.matheusmaciel.comissio.core.service.PerformedServiceBatchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PerformedServiceBatchServiceTest {
+
+    @Mock
+    private PerformedServiceRepository performedServiceRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ServiceTypeRepository serviceTypeRepository;
+
+    @Mock
+    private EmployeeComissionRepository employeeComissionRepository;
+
+    @Mock
+    private ComissionConfigRepository comissionConfigRepository;
+
+    @Mock
+    private DailyCommissionSummaryService dailyCommissionSummaryService;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    private PerformedServiceBatchService performedServiceBatchService;
+
+    private Employee sampleEmployee;
+    private ServiceType sampleServiceType;
+
+    @BeforeEach
+    void setUp() {
+        CommissionRuleCache commissionRuleCache = new CommissionRuleCache(employeeComissionRepository,
+                comissionConfigRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(30));
+        performedServiceBatchService = new PerformedServiceBatchService(performedServiceRepository, employeeRepository,
+                serviceTypeRepository, commissionRuleCache, Validation.buildDefaultValidatorFactory().getValidator(),
+                dailyCommissionSummaryService, auditLogService);
+
+        sampleEmployee = Employee.builder()
+                .id(UUID.randomUUID())
+                .user(User.builder().id(UUID.randomUUID()).name("Test").build())
+                .build();
+        sampleServiceType = ServiceType.builder()
+                .id(UUID.randomUUID())
+                .name("Test")
+                .build();
+    }
+
+    @Test
+    @DisplayName("createPerformedServices should save valid items in one batch and report failures per item")
+    void createPerformedServices_withMixedItems_shouldReportPartialFailure() {
+        UUID unknownEmployeeId = UUID.randomUUID();
+        List<PerformedServiceRequestDTO> requests = new ArrayList<>(List.of(
+                new PerformedServiceRequestDTO(sampleEmployee.getId(), sampleServiceType.getId(), new BigDecimal("200.00"), LocalDate.of(2025, 6, 1)),
+                new PerformedServiceRequestDTO(unknownEmployeeId, sampleServiceType.getId(), new BigDecimal("50.00"), LocalDate.of(2025, 6, 1)),
+                new PerformedServiceRequestDTO(sampleEmployee.getId(), sampleServiceType.getId(), new BigDecimal("0.00"), LocalDate.of(2025, 6, 1)),
+                new PerformedServiceRequestDTO(sampleEmployee.getId(), sampleServiceType.getId(), new BigDecimal("100.00"), LocalDate.of(2025, 6, 2))
+        ));
+
+        when(employeeRepository.findAllWithUserByIdIn(anyCollection())).thenReturn(List.of(sampleEmployee));
+        when(serviceTypeRepository.findAllById(anyIterable())).thenReturn(List.of(sampleServiceType));
+        when(employeeComissionRepository.findRulesByEmployeeIdsAndServiceTypeIds(anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        ComissionConfigRepository.DefaultRuleView defaultRule = mock(ComissionConfigRepository.DefaultRuleView.class);
+        when(defaultRule.getServiceTypeId()).thenReturn(sampleServiceType.getId());
+        when(defaultRule.getPercentage()).thenReturn(new BigDecimal("10.00"));
+        when(comissionConfigRepository.findDefaultRulesByServiceTypeIds(anyCollection())).thenReturn(List.of(defaultRule));
+        when(performedServiceRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PerformedService> services = invocation.getArgument(0);
+            services.forEach(service -> service.setId(UUID.randomUUID()));
+            return services;
+        });
+
+        BatchPerformedServiceResponseDTO result = performedServiceBatchService.createPerformedServices(requests);
+
+        assertThat(result.totalReceived()).isEqualTo(4);
+        assertThat(result.createdCount()).isEqualTo(2);
+        assertThat(result.failedCount()).isEqualTo(2);
+        assertThat(result.results().get(0).success()).isTrue();
+        assertThat(result.results().get(0).performedService().comissionAmount()).isEqualByComparingTo("20.00");
+        assertThat(result.results().get(1).error()).contains("Employee not found");
+        assertThat(result.results().get(2).error()).contains("Price must be at least 0.01");
+        assertThat(result.results().get(3).performedService().comissionAmount()).isEqualByComparingTo("10.00");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PerformedService>> captor = ArgumentCaptor.forClass(List.class);
+        verify(performedServiceRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        verify(employeeComissionRepository, times(1)).findRulesByEmployeeIdsAndServiceTypeIds(anyCollection(), anyCollection());
+        verify(employeeComissionRepository, never()).findByEmployeeIdAndServiceTypeId(any(), any());
+    }
+}
@@ -0,0 +1,141 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.AbstractIntegrationTest;
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceCursorPageDTO;
+import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.UserRole;
+import com.matheusmaciel.comissio.core.model.register.*;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.repository.ServiceTypeRepository;
+import com.matheusmaciel.comissio.core.repository.UserRepository;
+import com.matheusmaciel.comissio.core.service.PerformedServiceService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listings must cost a fixed number of statements per page, however many distinct employees
+ * and service types the page contains.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PerformedServiceReadPathTest extends AbstractIntegrationTest {
+
+    private static final int SERVICES = 60;
+    private static final int PAGE_SIZE = 25;
+
+    @Autowired private PerformedServiceService performedServiceService;
+    @Autowired private PerformedServiceRepository performedServiceRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ServiceTypeRepository serviceTypeRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Authentication adminAuthentication;
+    private Employee employee;
+    private List<PerformedService> services;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString();
+        User admin = userRepository.save(User.builder().username("read-admin-" + suffix).password("read-path-password")
+                .role(UserRole.ADMIN).email("read-admin-" + suffix + "@test.com").name("Admin").build());
+        adminAuthentication = new UsernamePasswordAuthenticationToken(AuthenticatedUser.fromUser(admin), null,
+                admin.getAuthorities());
+
+        User user = userRepository.save(User.builder().username("read-employee-" + suffix).password("read-path-password")
+                .role(UserRole.EMPLOYEE).email("read-employee-" + suffix + "@test.com").name("Read Path Employee").build());
+        employee = employeeRepository.save(Employee.builder().user(user).status(StatusEmployee.ACTIVE).build());
+
+        // A distinct service type per row is the worst case for per-row lazy or eager loading.
+        services = new ArrayList<>();
+        for (int i = 0; i < SERVICES; i++) {
+            ServiceType serviceType = serviceTypeRepository.save(ServiceType.builder()
+                    .name("Read Path " + suffix + " " + i).basePrice(new BigDecimal("50.00")).build());
+            services.add(PerformedService.builder()
+                    .employee(employee)
+                    .serviceTypeId(serviceType)
+                    .price(new BigDecimal("50.00"))
+                    .comissionAmount(new BigDecimal("5.00"))
+                    .status(ServiceStatus.COMMISSION_PENDING)
+                    .serviceDate(LocalDate.of(2025, 1, 1).plusDays(i % 10))
+                    .build());
+        }
+        performedServiceRepository.saveAll(services);
+    }
+
+    @Test
+    @DisplayName("Offset listing should run one select and one count per page")
+    void getAllPerformedServices_shouldUseFixedStatementsPerPage() {
+        statistics.clear();
+
+        Page<PerformedServiceResponseDTO> page = performedServiceService.getAllPerformedServices(
+                employee.getId(), null, null, null, PageRequest.of(1, PAGE_SIZE, Sort.by("serviceDate")), adminAuthentication);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(SERVICES);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.employeeName()).isEqualTo("Read Path Employee");
+            assertThat(dto.serviceTypeName()).startsWith("Read Path");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cursor listing should run exactly one select per window")
+    void getPerformedServicesByCursor_shouldUseOneStatementPerWindow() {
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            statistics.clear();
+            PerformedServiceCursorPageDTO window = performedServiceService.getPerformedServicesByCursor(
+                    employee.getId(), null, null, null, cursor, PAGE_SIZE, Sort.Direction.ASC, adminAuthentication);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            window.content().forEach(dto -> seen.add(dto.id()));
+            cursor = window.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(SERVICES).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(services.stream().map(PerformedService::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Detail read should run a single joined select")
+    void getPerformedServiceById_shouldUseOneStatement() {
+        PerformedService service = services.get(0);
+        statistics.clear();
+
+        PerformedServiceResponseDTO dto = performedServiceService.getPerformedServiceById(service.getId());
+
+        assertThat(dto.serviceTypeName()).isEqualTo(service.getServiceTypeId().getName());
+        assertThat(dto.employeeName()).isEqualTo("Read Path Employee");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
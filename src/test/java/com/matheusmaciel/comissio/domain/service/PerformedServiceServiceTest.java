@@ -6,22 +6,27 @@ import com.matheusmaciel.comissio.core.dto.performedService.PerformedServiceUpda
 import com.matheusmaciel.comissio.core.model.access.User;
 import com.matheusmaciel.comissio.core.model.register.*;
 import com.matheusmaciel.comissio.core.repository.*;
+import com.matheusmaciel.comissio.core.service.AuditLogService;
+import com.matheusmaciel.comissio.core.service.CommissionRuleCache;
+import com.matheusmaciel.comissio.core.service.DailyCommissionSummaryService;
 import com.matheusmaciel.comissio.core.service.PerformedServiceService;
 import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
 import com.matheusmaciel.comissio.infra.exception.performedService.CommissionRuleNotFoundException;
 import com.matheusmaciel.comissio.infra.exception.performedService.UpdatePerformedServiceException;
 import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -29,6 +34,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,12 +56,19 @@ public class PerformedServiceServiceTest {
     @Mock
     private ComissionConfigRepository comissionConfigRepository;
 
-    @InjectMocks
     private PerformedServiceService performedServiceService;
 
     @Mock
     private ComissionPaymentRepository comissionPaymentRepository; // Adicionar este mock
 
+    private CommissionRuleCache commissionRuleCache;
+
+    @Mock
+    private DailyCommissionSummaryService dailyCommissionSummaryService;
+
+    @Mock
+    private AuditLogService auditLogService;
+
     private Employee sampleEmployee;
     private User sampleUser;
     private ServiceType sampleServiceType;
@@ -99,6 +113,12 @@ public class PerformedServiceServiceTest {
         Mockito.reset(performedServiceRepository, employeeRepository,
                 serviceTypeRepository, employeeComissionRepository,
                 comissionConfigRepository, comissionPaymentRepository);
+
+        commissionRuleCache = new CommissionRuleCache(employeeComissionRepository, comissionConfigRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(30));
+        performedServiceService = new PerformedServiceService(performedServiceRepository, employeeRepository,
+                serviceTypeRepository, comissionPaymentRepository, commissionRuleCache, dailyCommissionSummaryService,
+                auditLogService);
     }
 
     @Test
@@ -116,20 +136,21 @@ public class PerformedServiceServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(foundService));
+        when(performedServiceRepository.findResponseById(existingPerformedServiceId))
+                .thenReturn(Optional.of(PerformedServiceResponseDTO.fromEntity(foundService)));
 
         PerformedServiceResponseDTO result = performedServiceService.getPerformedServiceById(existingPerformedServiceId);
 
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo(existingPerformedServiceId);
-        verify(performedServiceRepository).findById(existingPerformedServiceId);
+        verify(performedServiceRepository).findResponseById(existingPerformedServiceId);
 
     }
 
     @Test
     @DisplayName("getPerformedServiceById should throw ResourceNotFoundException when ID does not exist")
     void getPerformedServiceById_whenIdDoesNotExist_shouldThrowException() {
-        when(performedServiceRepository.findById(nonExistingId)).thenReturn(Optional.empty());
+        when(performedServiceRepository.findResponseById(nonExistingId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> performedServiceService.getPerformedServiceById(nonExistingId))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -146,7 +167,7 @@ public class PerformedServiceServiceTest {
                 .serviceTypeId(sampleServiceType)
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(paidService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(paidService));
 
         assertThatThrownBy(() -> performedServiceService.cancelPerformedService(existingPerformedServiceId))
                 .isInstanceOf(BusinessRuleException.class)
@@ -165,7 +186,7 @@ public class PerformedServiceServiceTest {
                 .serviceTypeId(sampleServiceType)
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(alreadyCancelledService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(alreadyCancelledService));
 
         assertThatThrownBy(() -> performedServiceService.cancelPerformedService(existingPerformedServiceId))
                 .isInstanceOf(BusinessRuleException.class)
@@ -195,7 +216,7 @@ public class PerformedServiceServiceTest {
                 .updatedAt(existingPerformedService.getUpdatedAt())
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(serviceFromDb));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(serviceFromDb));
 
         when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(any(UUID.class), any(UUID.class)))
                 .thenReturn(Optional.empty());
@@ -241,7 +262,7 @@ public class PerformedServiceServiceTest {
                 .status(ServiceStatus.COMMISSION_PENDING)
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(serviceFromDb));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(serviceFromDb));
         when(performedServiceRepository.save(any(PerformedService.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         PerformedServiceResponseDTO result = performedServiceService.updatePerformedService(existingPerformedServiceId, updateDTO);
@@ -261,7 +282,7 @@ public class PerformedServiceServiceTest {
     void updatePerformedService_whenIdDoesNotExist_shouldThrowResourceNotFoundException() {
         UUID nonExistentId = UUID.randomUUID();
         PerformedServiceUpdateRequestDTO updateDTO = new PerformedServiceUpdateRequestDTO(new BigDecimal("100"), LocalDate.now());
-        when(performedServiceRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(performedServiceRepository.findByIdForUpdate(nonExistentId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> performedServiceService.updatePerformedService(nonExistentId, updateDTO))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -274,7 +295,7 @@ public class PerformedServiceServiceTest {
 
         existingPerformedService.setStatus(ServiceStatus.COMMISSION_PAID);
         PerformedServiceUpdateRequestDTO updateDTO = new PerformedServiceUpdateRequestDTO(new BigDecimal("100"), LocalDate.now());
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(existingPerformedService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(existingPerformedService));
 
         assertThatThrownBy(() -> performedServiceService.updatePerformedService(existingPerformedServiceId, updateDTO))
                 .isInstanceOf(UpdatePerformedServiceException.class)
@@ -287,7 +308,7 @@ public class PerformedServiceServiceTest {
 
         existingPerformedService.setStatus(ServiceStatus.CANCELLED); // Altera o status
         PerformedServiceUpdateRequestDTO updateDTO = new PerformedServiceUpdateRequestDTO(new BigDecimal("100"), LocalDate.now());
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(existingPerformedService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(existingPerformedService));
 
         assertThatThrownBy(() -> performedServiceService.updatePerformedService(existingPerformedServiceId, updateDTO))
                 .isInstanceOf(UpdatePerformedServiceException.class)
@@ -311,7 +332,7 @@ public class PerformedServiceServiceTest {
                 .status(ServiceStatus.COMMISSION_PENDING)
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(serviceFromDb));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(serviceFromDb));
 
         when(employeeComissionRepository.findByEmployeeIdAndServiceTypeId(any(UUID.class), any(UUID.class)))
                 .thenReturn(Optional.empty());
@@ -526,7 +547,7 @@ public class PerformedServiceServiceTest {
                 .status(ServiceStatus.COMMISSION_PENDING)
                 .build();
 
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(pendingService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(pendingService));
 
         when(performedServiceRepository.save(any(PerformedService.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -550,12 +571,14 @@ public class PerformedServiceServiceTest {
         assertThat(savedPayment.getAmountPaid()).isEqualByComparingTo(expectedComissionAmount);
         assertThat(savedPayment.getStatus()).isEqualTo(PaymentStatus.PAID);
         assertThat(savedPayment.getPaymentDate()).isNotNull();
+        verify(auditLogService).record(eq(AuditEventType.PERFORMED_SERVICE), eq(AuditAction.PAID),
+                eq(existingPerformedServiceId), contains("15.75"));
     }
 
     @Test
     @DisplayName("markCommissionAsPaid should throw ResourceNotFoundException when PerformedService ID does not exist")
     void markCommissionAsPaid_whenServiceNotFound_shouldThrowResourceNotFoundException() {
-        when(performedServiceRepository.findById(nonExistingId)).thenReturn(Optional.empty());
+        when(performedServiceRepository.findByIdForUpdate(nonExistingId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> performedServiceService.markCommissionAsPaid(nonExistingId))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -573,7 +596,7 @@ public class PerformedServiceServiceTest {
                 .status(ServiceStatus.COMMISSION_PAID) // Já está pago
                 .employee(sampleEmployee)
                 .build();
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(alreadyPaidService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(alreadyPaidService));
 
         assertThatThrownBy(() -> performedServiceService.markCommissionAsPaid(existingPerformedServiceId))
                 .isInstanceOf(BusinessRuleException.class)
@@ -592,7 +615,7 @@ public class PerformedServiceServiceTest {
                 .status(ServiceStatus.CANCELLED)
                 .employee(sampleEmployee)
                 .build();
-        when(performedServiceRepository.findById(existingPerformedServiceId)).thenReturn(Optional.of(cancelledService));
+        when(performedServiceRepository.findByIdForUpdate(existingPerformedServiceId)).thenReturn(Optional.of(cancelledService));
 
         assertThatThrownBy(() -> performedServiceService.markCommissionAsPaid(existingPerformedServiceId))
                 .isInstanceOf(BusinessRuleException.class)
@@ -602,7 +625,26 @@ public class PerformedServiceServiceTest {
         verify(comissionPaymentRepository, never()).save(any(ComissionPayment.class));
     }
 
-}
+    @Test
+    @DisplayName("getPerformedServicesByCursor should reject a cursor that was not issued by the API")
+    void getPerformedServicesByCursor_withInvalidCursor_shouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> performedServiceService.getPerformedServicesByCursor(
+                null, null, null, null, "not-a-cursor", 20, Sort.Direction.ASC, null))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("Invalid cursor");
 
+        verifyNoInteractions(performedServiceRepository);
+    }
 
+    @Test
+    @DisplayName("getPerformedServicesByCursor should reject page sizes outside the allowed range")
+    void getPerformedServicesByCursor_withInvalidSize_shouldThrowBusinessRuleException() {
+        assertThatThrownBy(() -> performedServiceService.getPerformedServicesByCursor(
+                null, null, null, null, null, 0, Sort.Direction.ASC, null))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("Page size must be between 1 and");
 
+        verifyNoInteractions(performedServiceRepository);
+    }
+
+}
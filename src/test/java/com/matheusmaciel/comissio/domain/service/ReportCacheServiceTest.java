@@ -0,0 +1,93 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.ReportCacheService;
+import com.matheusmaciel.comissio.core.service.ReportCacheService.ReportCacheKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportCacheServiceTest {
+
+    @Mock
+    private PerformedServiceRepository performedServiceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportCacheService reportCacheService;
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final LocalDate startDate = LocalDate.of(2025, 5, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 5, 31);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportCacheService = new ReportCacheService(performedServiceRepository, meterRegistry,
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(1), Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("A changed data version should produce a new ETag and a new render")
+    void keyFor_whenDataVersionChanges_shouldChangeEtagAndMissCache() throws IOException {
+        when(performedServiceRepository.findReportDataVersion(employeeId, startDate, endDate))
+                .thenReturn("3:42", "3:42", "3:-7");
+
+        ReportCacheKey first = reportCacheService.keyFor(employeeId, "Ana", startDate, endDate, "EXCEL");
+        ReportCacheKey same = reportCacheService.keyFor(employeeId, "Ana", startDate, endDate, "excel");
+        ReportCacheKey changed = reportCacheService.keyFor(employeeId, "Ana", startDate, endDate, "excel");
+
+        assertThat(same.etag()).isEqualTo(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+
+        assertThat(write(reportCacheService.getOrRender(first, () -> report("v1")))).isEqualTo("v1");
+        assertThat(write(reportCacheService.getOrRender(same, () -> report("unused")))).isEqualTo("v1");
+        assertThat(write(reportCacheService.getOrRender(changed, () -> report("v2")))).isEqualTo("v2");
+
+        assertThat(renders).hasValue(2);
+        assertThat(meterRegistry.get("report.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("Reports larger than the entry limit should be streamed but not cached")
+    void getOrRender_whenReportExceedsEntryLimit_shouldNotCache() throws IOException {
+        when(performedServiceRepository.findReportDataVersion(employeeId, startDate, endDate)).thenReturn("1:1");
+        ReportCacheKey key = reportCacheService.keyFor(employeeId, "Ana", startDate, endDate, "pdf");
+        String large = "x".repeat(2048);
+
+        assertThat(write(reportCacheService.getOrRender(key, () -> report(large)))).isEqualTo(large);
+        assertThat(write(reportCacheService.getOrRender(key, () -> report(large)))).isEqualTo(large);
+
+        assertThat(renders).hasValue(2);
+    }
+
+    private StreamedReport report(String content) {
+        return new StreamedReport("comissao_Ana.pdf", "application/pdf", outputStream -> {
+            renders.incrementAndGet();
+            outputStream.write(content.getBytes());
+        });
+    }
+
+    private String write(StreamedReport report) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        report.writer().writeTo(outputStream);
+        return outputStream.toString();
+    }
+}
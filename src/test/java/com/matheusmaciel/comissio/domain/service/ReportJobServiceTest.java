@@ -0,0 +1,143 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.report.ReportDownload;
+import com.matheusmaciel.comissio.core.dto.report.ReportJobResponseDTO;
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ReportJob;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import com.matheusmaciel.comissio.core.repository.ReportJobRepository;
+import com.matheusmaciel.comissio.core.service.ReportJobService;
+import com.matheusmaciel.comissio.core.service.ReportService;
+import com.matheusmaciel.comissio.infra.config.InstanceId;
+import com.matheusmaciel.comissio.infra.exception.serviceType.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportJobServiceTest {
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ReportService reportService;
+
+    @TempDir
+    private Path storageDirectory;
+
+    private ReportJobService reportJobService;
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 12, 31);
+    private final String owner = "instance-a";
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        reportJobService = new ReportJobService(reportJobRepository, reportService, new SyncTaskExecutor(),
+                storageDirectory, Duration.ofHours(24), new InstanceId(owner), Duration.ofMinutes(1));
+        requester = User.builder().id(UUID.randomUUID()).username("ana").build();
+    }
+
+    @Test
+    @DisplayName("startJob should render the report to disk and record the finished file")
+    void startJob_shouldWriteReportFileAndMarkCompleted() {
+        UUID jobId = UUID.randomUUID();
+        ReportJob job = ReportJob.builder().id(jobId).status(ReportJobStatus.QUEUED).employeeId(employeeId)
+                .employeeName("Ana").startDate(startDate).endDate(endDate).format(ReportFormat.PDF).build();
+
+        when(reportService.streamIndividualCommissionReport(ReportFormat.PDF, employeeId, "Ana", startDate, endDate))
+                .thenReturn(new StreamedReport("comissao_Ana.pdf", "application/pdf",
+                        outputStream -> outputStream.write("%PDF-report".getBytes(StandardCharsets.UTF_8))));
+        when(reportJobRepository.save(any(ReportJob.class))).thenReturn(job);
+        when(reportJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(reportJobRepository.markRunning(eq(jobId), eq(owner), any(LocalDateTime.class))).thenReturn(1);
+
+        ReportJobResponseDTO response = reportJobService.startJob(employeeId, "Ana", startDate, endDate, ReportFormat.PDF, requester);
+
+        assertThat(response.id()).isEqualTo(jobId);
+        ArgumentCaptor<String> pathCaptor = ArgumentCaptor.forClass(String.class);
+        verify(reportJobRepository).markCompleted(eq(jobId), eq(owner), pathCaptor.capture(), eq(11L), any(LocalDateTime.class));
+        verify(reportJobRepository, never()).markFailed(any(), any(), any(), any());
+
+        assertThat(Path.of(pathCaptor.getValue())).hasContent("%PDF-report");
+        assertThat(storageDirectory.resolve(jobId + ".part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("A job taken over by another instance should not be rendered again")
+    void resumeUnfinishedJobs_jobTakenOverMeanwhile_shouldSkipRendering() {
+        UUID jobId = UUID.randomUUID();
+        ReportJob job = ReportJob.builder().id(jobId).status(ReportJobStatus.RUNNING).employeeId(employeeId)
+                .employeeName("Ana").startDate(startDate).endDate(endDate).format(ReportFormat.PDF).build();
+
+        when(reportJobRepository.findByStatusInAndHeartbeatAtBefore(
+                eq(List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING)), any(LocalDateTime.class)))
+                .thenReturn(List.of(job));
+        when(reportJobRepository.claim(eq(jobId), eq(owner), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(reportJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(reportJobRepository.markRunning(eq(jobId), eq(owner), any(LocalDateTime.class))).thenReturn(0);
+
+        reportJobService.resumeUnfinishedJobs();
+
+        verifyNoInteractions(reportService);
+        verify(reportJobRepository, never()).markCompleted(any(), any(), any(), anyLong(), any());
+        verify(reportJobRepository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Jobs should only be visible to their creator or to admins and managers")
+    void openDownload_byAnotherEmployee_shouldReportJobAsMissing() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        Path file = Files.writeString(storageDirectory.resolve(jobId + ".pdf"), "%PDF-report");
+        ReportJob job = ReportJob.builder().id(jobId).status(ReportJobStatus.COMPLETED).filename("comissao_Ana.pdf")
+                .contentType("application/pdf").filePath(file.toString()).createdBy(requester).build();
+        when(reportJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+
+        User otherEmployee = User.builder().id(UUID.randomUUID()).username("bruno").build();
+        assertThatThrownBy(() -> reportJobService.openDownload(jobId, authentication(otherEmployee, "ROLE_EMPLOYEE")))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        ReportDownload ownDownload = reportJobService.openDownload(jobId, authentication(requester, "ROLE_EMPLOYEE"));
+        assertThat(ownDownload.resource().contentLength()).isEqualTo(11);
+
+        User manager = User.builder().id(UUID.randomUUID()).username("carla").build();
+        assertThat(reportJobService.openDownload(jobId, authentication(manager, "ROLE_MANAGER")).filename())
+                .isEqualTo("comissao_Ana.pdf");
+    }
+
+    private Authentication authentication(User user, String role) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+        return new UsernamePasswordAuthenticationToken(new AuthenticatedUser(user.getId(), user.getUsername(), authorities),
+                null, authorities);
+    }
+}
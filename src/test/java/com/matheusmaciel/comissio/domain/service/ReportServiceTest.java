@@ -0,0 +1,123 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.report.ReportRow;
+import com.matheusmaciel.comissio.core.dto.report.StreamedReport;
+import com.matheusmaciel.comissio.core.model.register.ServiceStatus;
+import com.matheusmaciel.comissio.core.repository.CommissionAnalyticsRepository;
+import com.matheusmaciel.comissio.core.repository.PerformedServiceRepository;
+import com.matheusmaciel.comissio.core.service.ReportService;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceTest {
+
+    @Mock
+    private PerformedServiceRepository performedServiceRepository;
+
+    @Mock
+    private CommissionAnalyticsRepository commissionAnalyticsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path scratchDirectory;
+
+    private ReportService reportService;
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 12, 31);
+
+    @BeforeEach
+    void setUp() {
+        // A tiny memory budget forces PDFBox onto its scratch file for any real document.
+        reportService = new ReportService(performedServiceRepository, commissionAnalyticsRepository, transactionManager,
+                100, DataSize.ofKilobytes(1), scratchDirectory.toString());
+    }
+
+    @Test
+    @DisplayName("Streamed PDF report should be written with a scratch-file budget and leave no scratch files behind")
+    void streamIndividualCommissionReportPdf_shouldUseAndCleanUpScratchFile() throws Exception {
+        when(performedServiceRepository.streamReportRows(employeeId, startDate, endDate, 100))
+                .thenReturn(rows(250, "Corte").stream());
+        CommissionAnalyticsRepository.TotalsView totals = mock(CommissionAnalyticsRepository.TotalsView.class);
+        when(totals.getTotalPrice()).thenReturn(new BigDecimal("12500.00"));
+        when(totals.getTotalCommission()).thenReturn(new BigDecimal("1250.00"));
+        when(commissionAnalyticsRepository.findTotals(startDate, endDate, employeeId, null)).thenReturn(totals);
+
+        StreamedReport report = reportService.streamIndividualCommissionReportPdf(employeeId, "Ana Souza", startDate, endDate);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        report.writer().writeTo(outputStream);
+
+        assertThat(report.filename()).isEqualTo("comissao_Ana_Souza.pdf");
+        assertThat(report.contentType()).isEqualTo("application/pdf");
+        try (PDDocument document = Loader.loadPDF(outputStream.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isGreaterThan(1);
+        }
+        try (Stream<Path> leftovers = Files.list(scratchDirectory)) {
+            assertThat(leftovers).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Streamed Excel report should write every row, beyond the in-memory window, with widths sized to the data")
+    void streamIndividualCommissionReportExcel_shouldWriteAllRowsWithComputedWidths() throws Exception {
+        String longServiceName = "Corte masculino com barba, sobrancelha e hidratação";
+        List<ReportRow> rows = rows(250, "Corte");
+        ReportRow longRow = rows.get(42);
+        rows.set(42, new ReportRow(longRow.serviceDate(), longServiceName, longRow.price(), longRow.comissionAmount(), longRow.status()));
+        when(performedServiceRepository.streamReportRows(employeeId, startDate, endDate, 100)).thenReturn(rows.stream());
+
+        StreamedReport report = reportService.streamIndividualCommissionReportExcel(employeeId, "Ana Souza", startDate, endDate);
+        verifyNoInteractions(performedServiceRepository);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        report.writer().writeTo(outputStream);
+
+        assertThat(report.filename()).isEqualTo("comissao_Ana_Souza.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(250);
+            assertThat(sheet.getRow(43).getCell(1).getStringCellValue()).isEqualTo(longServiceName);
+            assertThat(sheet.getRow(250).getCell(4).getStringCellValue()).isEqualTo("Pendente");
+            assertThat(sheet.getColumnWidth(1)).isEqualTo((longServiceName.length() + 2) * 256);
+        }
+        verifyNoInteractions(commissionAnalyticsRepository);
+    }
+
+    private List<ReportRow> rows(int count, String serviceName) {
+        List<ReportRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new ReportRow(startDate.plusDays(i), serviceName, new BigDecimal("50.00"), new BigDecimal("5.00"),
+                    i % 2 == 0 ? ServiceStatus.COMMISSION_PAID : ServiceStatus.COMMISSION_PENDING));
+        }
+        return rows;
+    }
+}
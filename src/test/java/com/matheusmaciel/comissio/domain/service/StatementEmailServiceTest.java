@@ -0,0 +1,244 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.dto.report.ReportFile;
+import com.matheusmaciel.comissio.core.dto.report.StatementEmailBatchResponseDTO;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.register.Employee;
+import com.matheusmaciel.comissio.core.model.register.ReportFormat;
+import com.matheusmaciel.comissio.core.model.register.ReportJobStatus;
+import com.matheusmaciel.comissio.core.model.register.StatementDeliveryStatus;
+import com.matheusmaciel.comissio.core.model.register.StatementEmailBatch;
+import com.matheusmaciel.comissio.core.model.register.StatementEmailRecipient;
+import com.matheusmaciel.comissio.core.model.register.StatusEmployee;
+import com.matheusmaciel.comissio.core.repository.EmployeeRepository;
+import com.matheusmaciel.comissio.core.repository.StatementEmailBatchRepository;
+import com.matheusmaciel.comissio.core.repository.StatementEmailRecipientRepository;
+import com.matheusmaciel.comissio.core.service.EmailService;
+import com.matheusmaciel.comissio.core.service.ReportService;
+import com.matheusmaciel.comissio.core.service.StatementEmailService;
+import com.matheusmaciel.comissio.infra.config.InstanceId;
+import com.matheusmaciel.comissio.infra.exception.performedService.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementEmailServiceTest {
+
+    @Mock
+    private StatementEmailBatchRepository batchRepository;
+
+    @Mock
+    private StatementEmailRecipientRepository recipientRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ReportService reportService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatementEmailService statementEmailService;
+
+    private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 1, 31);
+    private final User requester = User.builder().id(UUID.randomUUID()).username("admin").build();
+    private final String owner = "instance-a";
+
+    @BeforeEach
+    void setUp() {
+        statementEmailService = new StatementEmailService(batchRepository, recipientRepository, employeeRepository,
+                reportService, emailService, new TransactionTemplate(transactionManager),
+                new SyncTaskExecutor(), new SyncTaskExecutor(), new InstanceId(owner), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("startBatch should record one recipient per active employee with an e-mail and queue each statement")
+    @SuppressWarnings("unchecked")
+    void startBatch_shouldQueueOneStatementPerActiveEmployee() throws IOException {
+        Employee ana = employee("Ana", "ana@test.com");
+        Employee bruno = employee("Bruno", "bruno@test.com");
+        Employee semEmail = employee("Carla", null);
+        when(employeeRepository.findAllWithUserByStatus(StatusEmployee.ACTIVE)).thenReturn(List.of(ana, bruno, semEmail));
+
+        StatementEmailBatch batch = batch();
+        when(batchRepository.save(any(StatementEmailBatch.class))).thenReturn(batch);
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        when(batchRepository.markRunning(eq(batch.getId()), eq(owner), any())).thenReturn(1);
+
+        List<StatementEmailRecipient> recipients = List.of(recipient(batch, ana), recipient(batch, bruno));
+        when(recipientRepository.findByBatchIdAndOutboxMessageIdIsNullAndErrorMessageIsNull(batch.getId())).thenReturn(recipients);
+
+        ReportFile statement = new ReportFile(new byte[]{1, 2, 3}, "comissao.pdf", "application/pdf");
+        when(reportService.generateIndividualCommissionReport(eq(ReportFormat.PDF), any(), any(), eq(startDate), eq(endDate)))
+                .thenReturn(statement);
+        UUID anaMessage = UUID.randomUUID();
+        UUID brunoMessage = UUID.randomUUID();
+        when(emailService.queueCommissionReport("ana@test.com", "Ana", statement)).thenReturn(anaMessage);
+        when(emailService.queueCommissionReport("bruno@test.com", "Bruno", statement)).thenReturn(brunoMessage);
+        when(recipientRepository.markQueued(any(), any())).thenReturn(1);
+
+        statementEmailService.startBatch(ReportFormat.PDF, startDate, endDate, requester);
+
+        ArgumentCaptor<List<StatementEmailRecipient>> saved = ArgumentCaptor.forClass(List.class);
+        verify(recipientRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(StatementEmailRecipient::getRecipient)
+                .containsExactly("ana@test.com", "bruno@test.com");
+
+        ArgumentCaptor<StatementEmailBatch> savedBatch = ArgumentCaptor.forClass(StatementEmailBatch.class);
+        verify(batchRepository).save(savedBatch.capture());
+        assertThat(savedBatch.getValue().getRecipientCount()).isEqualTo(2);
+
+        verify(recipientRepository).markQueued(recipients.get(0).getId(), anaMessage);
+        verify(recipientRepository).markQueued(recipients.get(1).getId(), brunoMessage);
+        verify(batchRepository).markCompleted(eq(batch.getId()), eq(owner), any());
+    }
+
+    @Test
+    @DisplayName("A statement that fails to render should be recorded for that recipient without failing the batch")
+    void processBatch_whenOneStatementFails_shouldRecordItAndCompleteTheBatch() throws IOException {
+        Employee ana = employee("Ana", "ana@test.com");
+        Employee bruno = employee("Bruno", "bruno@test.com");
+        when(employeeRepository.findAllWithUserByStatus(StatusEmployee.ACTIVE)).thenReturn(List.of(ana, bruno));
+
+        StatementEmailBatch batch = batch();
+        when(batchRepository.save(any(StatementEmailBatch.class))).thenReturn(batch);
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        when(batchRepository.markRunning(eq(batch.getId()), eq(owner), any())).thenReturn(1);
+
+        StatementEmailRecipient anaRecipient = recipient(batch, ana);
+        StatementEmailRecipient brunoRecipient = recipient(batch, bruno);
+        when(recipientRepository.findByBatchIdAndOutboxMessageIdIsNullAndErrorMessageIsNull(batch.getId()))
+                .thenReturn(List.of(anaRecipient, brunoRecipient));
+
+        ReportFile statement = new ReportFile(new byte[]{1}, "comissao.pdf", "application/pdf");
+        when(reportService.generateIndividualCommissionReport(ReportFormat.PDF, ana.getId(), "Ana", startDate, endDate))
+                .thenThrow(new IOException("disk full"));
+        when(reportService.generateIndividualCommissionReport(ReportFormat.PDF, bruno.getId(), "Bruno", startDate, endDate))
+                .thenReturn(statement);
+        when(emailService.queueCommissionReport(any(), any(), any())).thenReturn(UUID.randomUUID());
+        when(recipientRepository.markQueued(any(), any())).thenReturn(1);
+
+        statementEmailService.startBatch(ReportFormat.PDF, startDate, endDate, requester);
+
+        verify(recipientRepository).markRenderFailed(anaRecipient.getId(), "disk full");
+        verify(recipientRepository).markQueued(eq(brunoRecipient.getId()), any());
+        verify(batchRepository).markCompleted(eq(batch.getId()), eq(owner), any());
+        verify(batchRepository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("A resumed batch should roll back the outbox message of a recipient another instance already queued")
+    void resumeUnfinishedBatches_recipientAlreadyQueued_shouldRollBackOutboxMessage() throws IOException {
+        Employee ana = employee("Ana", "ana@test.com");
+        StatementEmailBatch batch = batch();
+        StatementEmailRecipient anaRecipient = recipient(batch, ana);
+        SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+
+        when(batchRepository.findByStatusInAndHeartbeatAtBefore(
+                eq(List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING)), any(LocalDateTime.class)))
+                .thenReturn(List.of(batch));
+        when(batchRepository.claim(eq(batch.getId()), eq(owner), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        when(batchRepository.markRunning(eq(batch.getId()), eq(owner), any())).thenReturn(1);
+        when(recipientRepository.findByBatchIdAndOutboxMessageIdIsNullAndErrorMessageIsNull(batch.getId()))
+                .thenReturn(List.of(anaRecipient));
+        ReportFile statement = new ReportFile(new byte[]{1}, "comissao.pdf", "application/pdf");
+        when(reportService.generateIndividualCommissionReport(ReportFormat.PDF, ana.getId(), "Ana", startDate, endDate))
+                .thenReturn(statement);
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(emailService.queueCommissionReport("ana@test.com", "Ana", statement)).thenReturn(UUID.randomUUID());
+        when(recipientRepository.markQueued(eq(anaRecipient.getId()), any())).thenReturn(0);
+
+        statementEmailService.resumeUnfinishedBatches();
+
+        assertThat(transaction.isRollbackOnly()).isTrue();
+        verify(batchRepository).markCompleted(eq(batch.getId()), eq(owner), any());
+    }
+
+    @Test
+    @DisplayName("getBatch should count recipients per delivery status")
+    void getBatch_shouldSummarizeDeliveryStatuses() {
+        StatementEmailBatch batch = batch();
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        List<StatementEmailRecipientRepository.RecipientStatusView> statuses = List.of(
+                statusView("SENT"), statusView("SENT"), statusView("PENDING"), statusView("RENDER_FAILED"));
+        when(recipientRepository.findRecipientStatuses(batch.getId())).thenReturn(statuses);
+
+        StatementEmailBatchResponseDTO response = statementEmailService.getBatch(batch.getId());
+
+        assertThat(response.recipients()).hasSize(4);
+        assertThat(response.deliveryCounts())
+                .containsEntry(StatementDeliveryStatus.SENT, 2L)
+                .containsEntry(StatementDeliveryStatus.PENDING, 1L)
+                .containsEntry(StatementDeliveryStatus.RENDER_FAILED, 1L)
+                .containsEntry(StatementDeliveryStatus.FAILED, 0L);
+    }
+
+    @Test
+    @DisplayName("startBatch should reject a period that ends before it starts")
+    void startBatch_whenEndDateBeforeStartDate_shouldThrow() {
+        assertThatThrownBy(() -> statementEmailService.startBatch(ReportFormat.PDF, endDate, startDate, requester))
+                .isInstanceOf(BusinessRuleException.class);
+
+        verifyNoInteractions(batchRepository, recipientRepository);
+    }
+
+    private StatementEmailBatch batch() {
+        return StatementEmailBatch.builder()
+                .id(UUID.randomUUID())
+                .status(ReportJobStatus.QUEUED)
+                .startDate(startDate)
+                .endDate(endDate)
+                .format(ReportFormat.PDF)
+                .recipientCount(2)
+                .build();
+    }
+
+    private Employee employee(String name, String email) {
+        User user = User.builder().id(UUID.randomUUID()).name(name).email(email).build();
+        return Employee.builder().id(UUID.randomUUID()).user(user).build();
+    }
+
+    private StatementEmailRecipient recipient(StatementEmailBatch batch, Employee employee) {
+        return StatementEmailRecipient.builder()
+                .id(UUID.randomUUID())
+                .batchId(batch.getId())
+                .employeeId(employee.getId())
+                .employeeName(employee.getUser().getName())
+                .recipient(employee.getUser().getEmail())
+                .build();
+    }
+
+    private StatementEmailRecipientRepository.RecipientStatusView statusView(String deliveryStatus) {
+        StatementEmailRecipientRepository.RecipientStatusView view = mock(StatementEmailRecipientRepository.RecipientStatusView.class);
+        when(view.getDeliveryStatus()).thenReturn(deliveryStatus);
+        return view;
+    }
+}
@@ -0,0 +1,134 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.matheusmaciel.comissio.core.model.access.RevokedToken;
+import com.matheusmaciel.comissio.core.repository.RevokedTokenRepository;
+import com.matheusmaciel.comissio.core.service.TokenRevocationService;
+import com.matheusmaciel.comissio.core.service.UuidBloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, meterRegistry,
+                Duration.ofHours(24), Duration.ofMinutes(1), 100);
+        tokenRevocationService.reload();
+    }
+
+    @Test
+    @DisplayName("A revoked token should be denied at once while other tokens of the user stay valid")
+    void revokeToken_shouldDenyOnlyThatToken() {
+        UUID revoked = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        Instant issuedAt = Instant.now().minusSeconds(60);
+
+        tokenRevocationService.revokeToken(revoked, userId, Instant.now().plusSeconds(3600), "logout");
+
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenId()).isEqualTo(revoked);
+        assertThat(saved.getValue().getReason()).isEqualTo("logout");
+        assertThat(tokenRevocationService.isRevoked(revoked, userId, issuedAt)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(other, userId, issuedAt)).isFalse();
+        assertThat(meterRegistry.get("token.revocation.denied").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Revoking a user should deny tokens issued before it and accept the ones issued after")
+    void revokeUser_shouldDenyTokensIssuedBeforeRevocation() {
+        when(revokedTokenRepository.save(any(RevokedToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        tokenRevocationService.revokeUser(userId, "employee deactivated");
+
+        assertThat(tokenRevocationService.isRevoked(UUID.randomUUID(), userId, Instant.now().minusSeconds(60))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(null, userId, null)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(UUID.randomUUID(), userId, Instant.now().plusSeconds(5))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(UUID.randomUUID(), UUID.randomUUID(), Instant.now().minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("refresh should pick up revocations recorded by other instances")
+    void refresh_shouldLoadRevocationsFromOtherInstances() {
+        UUID tokenId = UUID.randomUUID();
+        UUID revokedUser = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(revokedTokenRepository.findByCreatedAtGreaterThanEqualAndExpiresAtAfter(any(), any())).thenReturn(List.of(
+                revocation(tokenId, userId, now),
+                revocation(null, revokedUser, now)));
+
+        assertThat(tokenRevocationService.isRevoked(tokenId, userId, Instant.now())).isFalse();
+        tokenRevocationService.refresh();
+
+        assertThat(tokenRevocationService.isRevoked(tokenId, userId, Instant.now())).isTrue();
+        assertThat(tokenRevocationService.isRevoked(UUID.randomUUID(), revokedUser, Instant.now().minusSeconds(60))).isTrue();
+        assertThat(meterRegistry.get("token.revocation.entries").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Cleanup should delete expired rows and rebuild the deny list from what remains")
+    void deleteExpiredRevocations_shouldRebuildFromRemainingRows() {
+        UUID expired = UUID.randomUUID();
+        UUID remaining = UUID.randomUUID();
+        tokenRevocationService.revokeToken(expired, userId, Instant.now().plusSeconds(1), "logout");
+        when(revokedTokenRepository.deleteExpired(any())).thenReturn(1);
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                revocation(remaining, userId, LocalDateTime.now())));
+
+        tokenRevocationService.deleteExpiredRevocations();
+
+        assertThat(tokenRevocationService.isRevoked(expired, userId, Instant.now())).isFalse();
+        assertThat(tokenRevocationService.isRevoked(remaining, userId, Instant.now())).isTrue();
+    }
+
+    @Test
+    @DisplayName("The Bloom filter should never miss an inserted id and rarely match others")
+    void bloomFilter_shouldHaveNoFalseNegativesAndFewFalsePositives() {
+        UuidBloomFilter filter = UuidBloomFilter.create(10_000, 0.01);
+        List<UUID> inserted = Stream.generate(UUID::randomUUID).limit(10_000).toList();
+        inserted.forEach(filter::put);
+
+        assertThat(inserted).allMatch(filter::mightContain);
+        long falsePositives = Stream.generate(UUID::randomUUID).limit(100_000)
+                .filter(filter::mightContain)
+                .count();
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    private RevokedToken revocation(UUID tokenId, UUID userId, LocalDateTime revokedAt) {
+        return RevokedToken.builder()
+                .tokenId(tokenId)
+                .userId(userId)
+                .revokedAt(revokedAt)
+                .expiresAt(revokedAt.plusHours(2))
+                .createdAt(revokedAt)
+                .build();
+    }
+}
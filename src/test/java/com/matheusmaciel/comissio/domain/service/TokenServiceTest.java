@@ -0,0 +1,85 @@
+package com.matheusmaciel.comissio.domain.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.matheusmaciel.comissio.core.model.access.AuthenticatedUser;
+import com.matheusmaciel.comissio.core.model.access.User;
+import com.matheusmaciel.comissio.core.model.access.UserRole;
+import com.matheusmaciel.comissio.infra.config.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenServiceTest {
+
+    private static final String SECRET = "test-secret";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenService tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenService = new TokenService(SECRET, meterRegistry, 100);
+        user = User.builder().id(UUID.randomUUID()).username("ana").role(UserRole.MANAGER).build();
+    }
+
+    @Test
+    @DisplayName("A repeated token should be served from the verified-token cache")
+    void verifyToken_whenRepeated_shouldHitCache() {
+        String token = tokenService.generateToken(user);
+
+        DecodedJWT first = tokenService.verifyToken(token).orElseThrow();
+        DecodedJWT second = tokenService.verifyToken(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", TokenService.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+
+        Optional<AuthenticatedUser> principal = tokenService.readPrincipal(second);
+        assertThat(principal).hasValueSatisfying(authenticated -> {
+            assertThat(authenticated.id()).isEqualTo(user.getId());
+            assertThat(authenticated.username()).isEqualTo("ana");
+            assertThat(authenticated.authorities()).extracting(Object::toString)
+                    .containsExactly("ROLE_MANAGER", "ROLE_EMPLOYEE");
+        });
+    }
+
+    @Test
+    @DisplayName("Tampered, foreign and expired tokens should be rejected")
+    void verifyToken_whenInvalid_shouldReturnEmpty() {
+        String token = tokenService.generateToken(user);
+        tokenService.verifyToken(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String foreign = JWT.create().withIssuer("com.matheusmaciel.comissio").withSubject("ana")
+                .withExpiresAt(Instant.now().plusSeconds(60)).sign(Algorithm.HMAC256("other-secret"));
+        String expired = JWT.create().withIssuer("com.matheusmaciel.comissio").withSubject("ana")
+                .withExpiresAt(Instant.now().minusSeconds(60)).sign(Algorithm.HMAC256(SECRET));
+
+        assertThat(tokenService.verifyToken(tampered)).isEmpty();
+        assertThat(tokenService.verifyToken(foreign)).isEmpty();
+        assertThat(tokenService.verifyToken(expired)).isEmpty();
+        assertThat(tokenService.verifyToken(token)).isPresent();
+    }
+
+    @Test
+    @DisplayName("A cached token should stop verifying once its exp has passed")
+    void verifyToken_whenCachedTokenExpires_shouldReturnEmpty() throws InterruptedException {
+        String shortLived = JWT.create().withIssuer("com.matheusmaciel.comissio").withSubject("ana")
+                .withExpiresAt(Instant.now().plusSeconds(2)).sign(Algorithm.HMAC256(SECRET));
+
+        assertThat(tokenService.verifyToken(shortLived)).isPresent();
+        Thread.sleep(2_100);
+
+        assertThat(tokenService.verifyToken(shortLived)).isEmpty();
+    }
+}